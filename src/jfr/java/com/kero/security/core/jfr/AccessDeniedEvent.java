@@ -0,0 +1,25 @@
+package com.kero.security.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kero.AccessDenied")
+@Label("Access Denied")
+@Category("Kero Security")
+@Description("Property access denied or redirected to a deny interceptor")
+@StackTrace(false)
+class AccessDeniedEvent extends Event {
+
+	@Label("Scheme")
+	String scheme;
+	
+	@Label("Property")
+	String property;
+	
+	@Label("Intercepted")
+	boolean intercepted;
+}
@@ -0,0 +1,23 @@
+package com.kero.security.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("kero.ConfigurationPreparation")
+@Label("Configuration Preparation")
+@Category("Kero Security")
+@Description("Prepared access configuration built for a role set")
+class ConfigurationPreparationEvent extends Event {
+
+	@Label("Scheme")
+	String scheme;
+	
+	@Label("Roles")
+	int roles;
+	
+	@Label("Properties")
+	int properties;
+}
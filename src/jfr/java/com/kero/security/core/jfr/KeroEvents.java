@@ -0,0 +1,108 @@
+package com.kero.security.core.jfr;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.scheme.AccessScheme;
+
+import jdk.jfr.FlightRecorder;
+import net.bytebuddy.dynamic.DynamicType;
+
+class KeroEvents implements KeroEventSink {
+
+	@Override
+	public boolean isAvailable() {
+		
+		return FlightRecorder.isAvailable();
+	}
+	
+	@Override
+	public Object beginSchemeCreation() {
+		
+		SchemeCreationEvent event = new SchemeCreationEvent();
+		
+		if(!event.isEnabled()) return null;
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	@Override
+	public void commitSchemeCreation(Object token, Class<?> type, String scheme) {
+		
+		SchemeCreationEvent event = (SchemeCreationEvent) token;
+		
+		event.type = type;
+		event.scheme = scheme;
+		event.commit();
+	}
+	
+	@Override
+	public Object beginConfigurationPreparation() {
+		
+		ConfigurationPreparationEvent event = new ConfigurationPreparationEvent();
+		
+		if(!event.isEnabled()) return null;
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	@Override
+	public void commitConfigurationPreparation(Object token, String scheme, int roles, int properties) {
+		
+		ConfigurationPreparationEvent event = (ConfigurationPreparationEvent) token;
+		
+		event.scheme = scheme;
+		event.roles = roles;
+		event.properties = properties;
+		event.commit();
+	}
+	
+	@Override
+	public Object beginProxyGeneration() {
+		
+		ProxyGenerationEvent event = new ProxyGenerationEvent();
+		
+		if(!event.isEnabled()) return null;
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	@Override
+	public void commitProxyGeneration(Object token, Class<?> target, DynamicType proxyType) {
+		
+		ProxyGenerationEvent event = (ProxyGenerationEvent) token;
+		
+		long bytes = 0;
+		
+		for(byte[] type : proxyType.getAllTypes().values()) {
+			
+			bytes += type.length;
+		}
+		
+		event.target = target;
+		event.proxy = proxyType.getTypeDescription().getName();
+		event.bytes = bytes;
+		event.commit();
+	}
+	
+	@Override
+	public void accessDenied(AccessScheme scheme, Method method, boolean intercepted) {
+		
+		AccessDeniedEvent event = new AccessDeniedEvent();
+		
+		if(!event.isEnabled()) return;
+		
+		KeroAccessAgent agent = scheme.getAgent();
+		
+		event.scheme = scheme.getName();
+		event.property = agent != null ? agent.extractPropertyName(method.getName()) : method.getName();
+		event.intercepted = intercepted;
+		event.commit();
+	}
+}
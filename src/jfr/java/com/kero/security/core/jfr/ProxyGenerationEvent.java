@@ -0,0 +1,25 @@
+package com.kero.security.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("kero.ProxyGeneration")
+@Label("Proxy Generation")
+@Category("Kero Security")
+@Description("Proxy class generated and loaded for a protected type")
+class ProxyGenerationEvent extends Event {
+
+	@Label("Target")
+	Class<?> target;
+	
+	@Label("Proxy")
+	String proxy;
+	
+	@Label("Bytes")
+	@DataAmount
+	long bytes;
+}
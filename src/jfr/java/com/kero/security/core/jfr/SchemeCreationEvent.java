@@ -0,0 +1,20 @@
+package com.kero.security.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("kero.SchemeCreation")
+@Label("Scheme Creation")
+@Category("Kero Security")
+@Description("Access scheme built and configured for a class")
+class SchemeCreationEvent extends Event {
+
+	@Label("Type")
+	Class<?> type;
+	
+	@Label("Scheme")
+	String scheme;
+}
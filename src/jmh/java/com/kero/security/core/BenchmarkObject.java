@@ -0,0 +1,26 @@
+package com.kero.security.core;
+
+public class BenchmarkObject {
+	
+	private String text;
+	private int age = 18;
+	
+	public BenchmarkObject() {
+	
+	}
+	
+	public BenchmarkObject(String text) {
+		
+		this.text = text;
+	}
+	
+	public String getText() {
+		
+		return this.text;
+	}
+	
+	public int getAge() {
+		
+		return this.age;
+	}
+}
@@ -0,0 +1,50 @@
+package com.kero.security.core.agent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = 1)
+@Measurement(iterations = 50, batchSize = 1)
+@Fork(1)
+public class ColdProtectBenchmark {
+
+	private KeroAccessAgent agent;
+	
+	private BenchmarkObject object;
+	
+	@Setup(Level.Iteration)
+	public void setup() {
+		
+		this.agent = new KeroAccessAgentFactoryImpl().create();
+		
+		this.agent.getKeroAccessConfigurator()
+			.scheme(BenchmarkObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		this.object = new BenchmarkObject("text");
+	}
+	
+	@Benchmark
+	public BenchmarkObject protectCold() {
+		
+		return agent.protect(object, "OWNER");
+	}
+}
@@ -0,0 +1,104 @@
+package com.kero.security.core.agent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+	@Param({"10000"})
+	private int size;
+	
+	@Param({"true", "false"})
+	private boolean views;
+	
+	private KeroAccessAgent agent;
+	
+	private List<BenchmarkObject> list;
+	
+	@Setup
+	public void setup() {
+		
+		this.agent = new KeroAccessAgentFactoryImpl().create();
+		
+		this.agent.setCollectionViewsEnabled(views);
+		
+		this.agent.getKeroAccessConfigurator()
+			.scheme(BenchmarkObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		this.list = new ArrayList<>(size);
+		
+		for(int i = 0; i < size; i++) {
+			
+			this.list.add(new BenchmarkObject("text"+i));
+		}
+	}
+	
+	@Benchmark
+	public List<BenchmarkObject> protect() {
+		
+		return agent.protect(list, "OWNER");
+	}
+	
+	@Benchmark
+	public int protectAndIterate() {
+		
+		int length = 0;
+		
+		for(BenchmarkObject object : agent.protect(list, "OWNER")) {
+			
+			length += object.getText().length();
+		}
+		
+		return length;
+	}
+	
+	@Benchmark
+	public int protectAll() {
+		
+		int length = 0;
+		
+		for(BenchmarkObject object : agent.protectAll(list, "OWNER")) {
+			
+			length += object.getText().length();
+		}
+		
+		return length;
+	}
+	
+	@Benchmark
+	public int protectEach() {
+		
+		int length = 0;
+		
+		for(BenchmarkObject object : list) {
+			
+			length += agent.protect(object, "OWNER").getText().length();
+		}
+		
+		return length;
+	}
+}
@@ -0,0 +1,92 @@
+package com.kero.security.core.agent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepGraphBenchmark {
+
+	@Param({"1", "8", "32"})
+	private int depth;
+	
+	private KeroAccessAgent agent;
+	
+	private Node root;
+	
+	@Setup
+	public void setup() {
+		
+		this.agent = new KeroAccessAgentFactoryImpl().create();
+		
+		this.agent.getKeroAccessConfigurator()
+			.scheme(Node.class)
+				.defaultDeny()
+				.properties("child", "value")
+					.grantFor("OWNER");
+		
+		Node node = new Node("leaf", null);
+		
+		for(int i = 1; i < depth; i++) {
+			
+			node = new Node("node"+i, node);
+		}
+		
+		this.root = node;
+	}
+	
+	@Benchmark
+	public String traverse() {
+		
+		Node node = agent.protect(root, "OWNER");
+		String value = node.getValue();
+		
+		while((node = node.getChild()) != null) {
+			
+			value = node.getValue();
+		}
+		
+		return value;
+	}
+	
+	public static class Node {
+		
+		private String value;
+		private Node child;
+		
+		public Node() {
+		
+		}
+		
+		public Node(String value, Node child) {
+			
+			this.value = value;
+			this.child = child;
+		}
+		
+		public String getValue() {
+			
+			return this.value;
+		}
+		
+		public Node getChild() {
+			
+			return this.child;
+		}
+	}
+}
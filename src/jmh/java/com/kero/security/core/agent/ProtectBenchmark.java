@@ -0,0 +1,64 @@
+package com.kero.security.core.agent;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+import com.kero.security.core.role.Role;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtectBenchmark {
+
+	private KeroAccessAgent agent;
+	private Collection<Role> roles;
+	
+	private BenchmarkObject object;
+	
+	@Setup
+	public void setup() {
+		
+		this.agent = new KeroAccessAgentFactoryImpl().create();
+		
+		this.agent.getKeroAccessConfigurator()
+			.scheme(BenchmarkObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		Set<Role> roles = this.agent.getOrCreateRole(new String[] {"OWNER"});
+		
+		this.roles = roles;
+		this.object = new BenchmarkObject("text");
+		
+		this.agent.protect(this.object, this.roles);
+	}
+	
+	@Benchmark
+	public BenchmarkObject protect() {
+		
+		return agent.protect(object, roles);
+	}
+	
+	@Benchmark
+	public String protectAndGet() {
+		
+		return agent.protect(object, roles).getText();
+	}
+}
@@ -0,0 +1,69 @@
+package com.kero.security.core.agent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+import com.kero.security.core.exception.AccessException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxiedGetterBenchmark {
+
+	@Param({"GRANT", "DENY", "INTERCEPTOR"})
+	private String access;
+	
+	private BenchmarkObject proxy;
+	
+	@Setup
+	public void setup() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(BenchmarkObject.class)
+				.defaultGrant()
+				.property("text")
+					.defaultDeny()
+					.addDenyInterceptor((obj, args)-> "forbidden", "FRIEND")
+					.grantFor("OWNER");
+		
+		String role = access.equals("GRANT") ? "OWNER" : access.equals("INTERCEPTOR") ? "FRIEND" : "NONE";
+		
+		this.proxy = agent.protect(new BenchmarkObject("text"), role);
+	}
+	
+	@Benchmark
+	public String getText() {
+		
+		try {
+			
+			return proxy.getText();
+		}
+		catch(AccessException e) {
+			
+			return null;
+		}
+	}
+	
+	@Benchmark
+	public int getAge() {
+		
+		return proxy.getAge();
+	}
+}
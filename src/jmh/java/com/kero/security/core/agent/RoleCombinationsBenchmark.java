@@ -0,0 +1,86 @@
+package com.kero.security.core.agent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+import com.kero.security.core.role.Role;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCombinationsBenchmark {
+
+	@Param({"16", "256", "4096"})
+	private int combinations;
+	
+	private KeroAccessAgent agent;
+	
+	private List<Set<Role>> roles;
+	private int next;
+	
+	private BenchmarkObject object;
+	
+	@Setup
+	public void setup() {
+		
+		this.agent = new KeroAccessAgentFactoryImpl().create();
+		
+		String[] roleNames = new String[32];
+		
+		for(int i = 0; i < roleNames.length; i++) {
+			
+			roleNames[i] = "ROLE_"+i;
+		}
+		
+		this.agent.getKeroAccessConfigurator()
+			.scheme(BenchmarkObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor(roleNames[0], roleNames[1], roleNames[2]);
+		
+		Random random = new Random(42);
+		
+		this.roles = new ArrayList<>(combinations);
+		
+		for(int i = 0; i < combinations; i++) {
+			
+			List<String> names = new ArrayList<>();
+			
+			for(String roleName : roleNames) {
+				
+				if(random.nextInt(4) == 0) names.add(roleName);
+			}
+			
+			this.roles.add(agent.getOrCreateRole(names.toArray(new String[0])));
+		}
+		
+		this.object = new BenchmarkObject("text");
+	}
+	
+	@Benchmark
+	public BenchmarkObject protect() {
+		
+		Set<Role> roles = this.roles.get(next++ % combinations);
+		
+		return agent.protect(object, roles);
+	}
+}
@@ -0,0 +1,77 @@
+package com.kero.security.core.proxy;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kero.security.core.BenchmarkObject;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyWrapperBenchmark {
+
+	private Class<?> proxyClass;
+	private ProxyFactory proxyFactory;
+	
+	private BenchmarkObject original;
+	private PreparedAccessConfiguration pac;
+	
+	@Setup
+	public void setup() {
+		
+		this.proxyClass = new SubclassProxyWrapper(BenchmarkObject.class).createProxyClass();
+		this.proxyFactory = ProxyFactory.create(this.proxyClass);
+		
+		this.original = new BenchmarkObject("text");
+		this.pac = new EmptyPac();
+	}
+	
+	@Benchmark
+	public Object reflectiveConstructor() throws Exception {
+		
+		return proxyClass.getDeclaredConstructor(Object.class, PreparedAccessConfiguration.class).newInstance(original, pac);
+	}
+	
+	@Benchmark
+	public Object proxyFactory() {
+		
+		return proxyFactory.newInstance(original, pac);
+	}
+	
+	private static class EmptyPac implements PreparedAccessConfiguration {
+		
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			
+			return null;
+		}
+		
+		@Override
+		public Action getAction(Method method) {
+			
+			return null;
+		}
+		
+		@Override
+		public Action[] getActions(Method[] methods) {
+			
+			return new Action[methods.length];
+		}
+	}
+}
@@ -3,11 +3,24 @@ package com.kero.security.core.agent;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.kero.security.core.access.Access;
+import com.kero.security.core.agent.bootstrap.KeroBootstrap;
+import com.kero.security.core.audit.AuditLog;
+import com.kero.security.core.agent.warmup.KeroWarmUp;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
 import com.kero.security.core.configurator.KeroAccessConfigurator;
+import com.kero.security.core.metrics.KeroMetrics;
+import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.protector.storage.KeroProtectorStorage;
+import com.kero.security.core.proxy.ProxyMode;
+import com.kero.security.core.proxy.cache.ProxyInstanceCache;
 import com.kero.security.core.role.Role;
 import com.kero.security.core.role.storage.RoleStorage;
 import com.kero.security.core.scheme.AccessScheme;
@@ -19,10 +32,38 @@ import com.kero.security.core.scheme.strategy.AccessSchemeNamingStrategy;
 public interface KeroAccessAgent {
 	
 	public void ignoreType(Class<?> type);
+	
+	public void useInterfaceProxy(Class<?> type);
+	public boolean isInterfaceProxyType(Class<?> type);
 
 	public void setSchemeNamingStrategy(AccessSchemeNamingStrategy strategy);
 	
+	public void setProxyMode(ProxyMode mode);
+	public ProxyMode getProxyMode();
+	
+	public void setConfigsCacheFactory(Supplier<PreparedAccessConfigurationCache> factory);
+	public PreparedAccessConfigurationCache createConfigsCache();
+	
+	public void setCollectionViewsEnabled(boolean enabled);
+	public boolean isCollectionViewsEnabled();
+	
+	public void setProxyInstanceCacheFactory(Supplier<ProxyInstanceCache> factory);
+	public ProxyInstanceCache createProxyInstanceCache();
+	
+	public void setMetrics(KeroMetrics metrics);
+	public KeroMetrics getMetrics();
+	
+	public void setAuditLog(AuditLog auditLog);
+	public AuditLog getAuditLog();
+	
+	public long getConfigurationVersion();
+	public void incrementConfigurationVersion();
+	public ReadWriteLock getConfigurationLock();
+	
+	public void updatePolicy(Consumer<KeroAccessConfigurator> update);
+	
 	public void addConfigurator(AccessSchemeConfigurator configurator);
+	public void removeConfigurator(AccessSchemeConfigurator configurator);
 	public void addDefinitionConfigurator(AccessSchemeDefinitionConfigurator definitionConfigurator);
 	
 	public void setTypeName(String name, Class<?> type);
@@ -57,12 +98,46 @@ public interface KeroAccessAgent {
 	
 	public default <T> T protect(T object, Role... roles) {
 		
-		return protect(object, new HashSet<>(Arrays.asList(roles)));
+		return protect(object, getRoleStorage().toRoleSet(Arrays.asList(roles)));
 	}
 	
 	public <T> T protect(T object, Collection<Role> roles);
+	public <T> T protect(T object, Collection<Role> roles, KeroProtector protector);
+	
+	public default <T> List<T> protectAll(Collection<? extends T> objects, String... roleNames) {
+		
+		return protectAll(objects, getOrCreateRole(roleNames), false);
+	}
+	
+	public default <T> List<T> protectAll(Collection<? extends T> objects, Collection<Role> roles) {
+		
+		return protectAll(objects, roles, false);
+	}
+	
+	public <T> List<T> protectAll(Collection<? extends T> objects, Collection<Role> roles, boolean parallel);
+	
+	public default <T> Stream<T> protectStream(Stream<T> stream, String... roleNames) {
+		
+		return protectStream(stream, getOrCreateRole(roleNames));
+	}
+	
+	public <T> Stream<T> protectStream(Stream<T> stream, Collection<Role> roles);
+	
+	public KeroProtector getOrCreateProtector(Class<?> type);
+	public boolean isIgnoredType(Class<?> type);
+	
+	public default KeroWarmUp warmUp() {
+		
+		return new KeroWarmUp(this);
+	}
+	
+	public default KeroBootstrap bootstrap() {
+		
+		return new KeroBootstrap(this);
+	}
 	
 	public AccessSchemeStorage getSchemeStorage();
+	public KeroProtectorStorage getProtectorStorage();
 	public RoleStorage getRoleStorage();
 	public KeroAccessConfigurator getKeroAccessConfigurator();
 }
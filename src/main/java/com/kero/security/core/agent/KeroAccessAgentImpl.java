@@ -1,19 +1,40 @@
 package com.kero.security.core.agent;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.kero.security.core.access.Access;
 import com.kero.security.core.agent.exception.AccessSchemeIncorrectTypeException;
+import com.kero.security.core.agent.exception.ProxyAlreadyCreatedException;
+import com.kero.security.core.audit.AuditLog;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
 import com.kero.security.core.configurator.KeroAccessConfigurator;
+import com.kero.security.core.jfr.KeroFlightRecorder;
+import com.kero.security.core.metrics.KeroMetrics;
+import com.kero.security.core.protector.ElementProtector;
 import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.protector.collections.ProtectedViews;
 import com.kero.security.core.protector.storage.KeroProtectorStorage;
+import com.kero.security.core.proxy.InterfaceProxyWrapper;
+import com.kero.security.core.proxy.ProxyMode;
+import com.kero.security.core.proxy.cache.ProxyInstanceCache;
 import com.kero.security.core.role.Role;
 import com.kero.security.core.role.storage.RoleStorage;
 import com.kero.security.core.scheme.AccessScheme;
@@ -29,6 +50,8 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 	
 	protected static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
 	
+	protected static int PARALLEL_PROTECT_THRESHOLD = 4096;
+	
 	protected RoleStorage roleStorage = RoleStorage.create();
 	protected AccessSchemeStorage schemeStorage = AccessSchemeStorage.create();
 	protected KeroProtectorStorage protectorStorage = KeroProtectorStorage.create();
@@ -36,12 +59,27 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 		
 	protected Access defaultAccess = Access.GRANT;
 	
-	protected Set<Class> ignoreList = new HashSet<>();
+	protected ProxyMode proxyMode = ProxyMode.DIRECT;
+	
+	protected Supplier<PreparedAccessConfigurationCache> configsCacheFactory = PreparedAccessConfigurationCache::create;
+	protected Supplier<ProxyInstanceCache> proxyInstanceCacheFactory;
+	
+	protected boolean collectionViewsEnabled = false;
+	
+	protected volatile KeroMetrics metrics = KeroMetrics.EMPTY;
+	protected volatile AuditLog auditLog;
+	
+	protected AtomicLong configurationVersion = new AtomicLong();
+	protected ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
+	protected boolean pendingConfigurationChanges = false;
+	
+	protected Set<Class> ignoreList = ConcurrentHashMap.newKeySet();
+	protected Set<Class<?>> interfaceProxyTypes = ConcurrentHashMap.newKeySet();
 
-	protected Map<Class, String> namesMap = new HashMap<>();
+	protected Map<Class, String> namesMap = new ConcurrentHashMap<>();
 
-	protected Set<AccessSchemeConfigurator> configurators = new HashSet<>();
-	protected Set<AccessSchemeDefinitionConfigurator> definitionConfigurators = new HashSet<>();
+	protected Set<AccessSchemeConfigurator> configurators = new CopyOnWriteArraySet<>();
+	protected Set<AccessSchemeDefinitionConfigurator> definitionConfigurators = new CopyOnWriteArraySet<>();
 	
 	protected AccessSchemeNamingStrategy schemeNamingStrategy = new DefaultAccessSchemeNamingStrategy();
 	
@@ -73,11 +111,157 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 		this.schemeNamingStrategy = strategy;
 	}
 	
+	public void setProxyMode(ProxyMode mode) {
+		
+		this.proxyMode = mode;
+	}
+	
+	@Override
+	public ProxyMode getProxyMode() {
+		
+		return this.proxyMode;
+	}
+	
+	public void setConfigsCacheFactory(Supplier<PreparedAccessConfigurationCache> factory) {
+		
+		this.configsCacheFactory = factory;
+	}
+	
+	@Override
+	public PreparedAccessConfigurationCache createConfigsCache() {
+		
+		return this.configsCacheFactory.get();
+	}
+	
+	@Override
+	public void setCollectionViewsEnabled(boolean enabled) {
+		
+		this.collectionViewsEnabled = enabled;
+	}
+	
+	@Override
+	public boolean isCollectionViewsEnabled() {
+		
+		return this.collectionViewsEnabled;
+	}
+	
+	@Override
+	public void setMetrics(KeroMetrics metrics) {
+		
+		this.metrics = metrics != null ? metrics : KeroMetrics.EMPTY;
+	}
+	
+	@Override
+	public KeroMetrics getMetrics() {
+		
+		return this.metrics;
+	}
+	
+	@Override
+	public void setAuditLog(AuditLog auditLog) {
+		
+		this.auditLog = auditLog;
+		
+		incrementConfigurationVersion();
+	}
+	
+	@Override
+	public AuditLog getAuditLog() {
+		
+		return this.auditLog;
+	}
+	
+	@Override
+	public void setProxyInstanceCacheFactory(Supplier<ProxyInstanceCache> factory) {
+		
+		this.proxyInstanceCacheFactory = factory;
+	}
+	
+	@Override
+	public ProxyInstanceCache createProxyInstanceCache() {
+		
+		return this.proxyInstanceCacheFactory != null ? this.proxyInstanceCacheFactory.get() : null;
+	}
+	
+	@Override
+	public long getConfigurationVersion() {
+		
+		return this.configurationVersion.get();
+	}
+	
+	@Override
+	public void incrementConfigurationVersion() {
+		
+		if(this.configurationLock.isWriteLockedByCurrentThread()) {
+			
+			this.pendingConfigurationChanges = true;
+			return;
+		}
+		
+		this.configurationVersion.incrementAndGet();
+	}
+	
+	@Override
+	public ReadWriteLock getConfigurationLock() {
+		
+		return this.configurationLock;
+	}
+	
+	@Override
+	public void updatePolicy(Consumer<KeroAccessConfigurator> update) {
+		
+		this.configurationLock.writeLock().lock();
+		
+		try {
+			
+			boolean outer = this.configurationLock.getWriteHoldCount() == 1;
+			
+			try {
+				
+				update.accept(this.configurator);
+			}
+			catch(RuntimeException | Error e) {
+				
+				if(outer) this.pendingConfigurationChanges = false;
+				
+				throw e;
+			}
+			
+			if(outer && this.pendingConfigurationChanges) {
+				
+				long version = this.configurationVersion.get() + 1;
+				
+				LOGGER.debug("Publishing access policy version: "+version);
+				
+				for(AccessScheme scheme : this.schemeStorage.values()) {
+					
+					if(scheme instanceof ClassAccessScheme) {
+						
+						((ClassAccessScheme) scheme).stage(version);
+					}
+				}
+				
+				this.pendingConfigurationChanges = false;
+				this.configurationVersion.set(version);
+			}
+		}
+		finally {
+			
+			this.configurationLock.writeLock().unlock();
+		}
+	}
+	
 	public void addConfigurator(AccessSchemeConfigurator configurator) {
 		
 		this.configurators.add(configurator);
 	}
 	
+	@Override
+	public void removeConfigurator(AccessSchemeConfigurator configurator) {
+		
+		this.configurators.remove(configurator);
+	}
+	
 	public void addDefinitionConfigurator(AccessSchemeDefinitionConfigurator configurator) {
 		
 		this.definitionConfigurators.add(configurator);
@@ -90,18 +274,46 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 	
 	public void ignoreType(Class<?> type) {
 		
-		ignoreList.add(type);
+		if(ignoreList.add(type)) incrementConfigurationVersion();
+	}
+	
+	@Override
+	public void useInterfaceProxy(Class<?> type) {
+		
+		AccessScheme scheme = schemeStorage.get(type);
+		
+		if(scheme != null && protectorStorage.hasProtector(scheme)) {
+			
+			throw new ProxyAlreadyCreatedException("Proxy for "+type.getCanonicalName()+" already created, call useInterfaceProxy before the first protect");
+		}
+		
+		if(!InterfaceProxyWrapper.isApplicable(type)) {
+			
+			LOGGER.warn("Interface proxy is not applicable, type has no accessible interfaces: "+type.getCanonicalName());
+		}
+		
+		interfaceProxyTypes.add(type);
+	}
+	
+	@Override
+	public boolean isInterfaceProxyType(Class<?> type) {
+		
+		return this.interfaceProxyTypes.contains(type);
 	}
 	
 	@Override
 	public boolean hasScheme(Class<?> rawType) {
 		
+		if(rawType == null) return false;
+		
 		return schemeStorage.has(rawType);
 	}
 
 	@Override
 	public AccessScheme getScheme(Class<?> rawType) {
 		
+		if(rawType == null) return AccessScheme.EMPTY;
+		
 		return schemeStorage.getOrDefault(rawType, AccessScheme.EMPTY);
 	}
 	
@@ -113,14 +325,56 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 
 	public AccessScheme getOrCreateScheme(Class<?> rawType){
 		
-		return hasScheme(rawType) ? getScheme(rawType) : createScheme(rawType);
+		if(rawType == null) return AccessScheme.EMPTY;
+		
+		AccessScheme scheme = schemeStorage.get(rawType);
+		
+		if(scheme != null) return scheme;
+		
+		Lock lock = this.configurationLock.readLock();
+		
+		lock.lock();
+		
+		try {
+			
+			return schemeStorage.addIfAbsent(buildScheme(rawType));
+		}
+		finally {
+			
+			lock.unlock();
+		}
 	}
 	
 	public AccessScheme createScheme(Class<?> rawType) {
 		
-		if(rawType == null) return AccessScheme.EMPTY;	
+		if(rawType == null) return AccessScheme.EMPTY;
+		
+		Lock lock = this.configurationLock.readLock();
+		
+		lock.lock();
+		
+		try {
+			
+			AccessScheme scheme = buildScheme(rawType);
+			
+			schemeStorage.add(scheme);
+			
+			incrementConfigurationVersion();
+			
+			return scheme;
+		}
+		finally {
+			
+			lock.unlock();
+		}
+	}
+	
+	protected AccessScheme buildScheme(Class<?> rawType) {
+		
 		if(rawType.isInterface()) throw new AccessSchemeIncorrectTypeException("Can't create scheme for interface!");
 		
+		Object event = KeroFlightRecorder.beginSchemeCreation();
+		
 		String name = schemeNamingStrategy.getName(rawType);
 		
 			if(namesMap.containsKey(rawType)) {
@@ -138,13 +392,26 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 			}
 		
 		AccessScheme scheme = definition.createScheme();
+		
+		ClassAccessScheme unpublished = scheme instanceof ClassAccessScheme ? (ClassAccessScheme) scheme : null;
+		
+		if(unpublished != null) {
+			
+			unpublished.setTrackChanges(false);
+		}
+		else {
+			
+			incrementConfigurationVersion();
+		}
 
 			for(AccessSchemeConfigurator configurator : configurators) {
 				
 				configurator.configure(scheme);
 			}
 		
-		schemeStorage.add(scheme);
+		if(unpublished != null) unpublished.setTrackChanges(true);
+		
+		KeroFlightRecorder.commitSchemeCreation(event, rawType, scheme.getName());
 		
 		return scheme;
 	}
@@ -152,16 +419,96 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 	@Override
 	public <T> T protect(T object, Collection<Role> roles) {
 		
+		return protect(object, roles, null);
+	}
+	
+	@Override
+	public <T> T protect(T object, Collection<Role> roles, KeroProtector protector) {
+		
 		if(object == null) return null;
 		if(object instanceof Enum) return object;
 		if(this.ignoreList.contains(object.getClass())) return object;
 		
-		ClassAccessScheme scheme = (ClassAccessScheme) getOrCreateScheme(object.getClass());
-		KeroProtector protector = protectorStorage.getOrCreateProtector(scheme);
+		KeroMetrics metrics = this.metrics;
+		
+		if(!metrics.isEnabled()) return protectObject(object, roles, protector);
+		
+		if(!metrics.sample()) {
+			
+			metrics.protect(object.getClass(), KeroMetrics.NOT_SAMPLED);
+			
+			return protectObject(object, roles, protector);
+		}
+		
+		long start = System.nanoTime();
+		
+		T result = protectObject(object, roles, protector);
+		
+		metrics.protect(object.getClass(), System.nanoTime() - start);
+		
+		return result;
+	}
+	
+	// collection views implement the collection interfaces of the original and are used through them
+	@SuppressWarnings("unchecked")
+	protected <T> T protectObject(T object, Collection<Role> roles, KeroProtector protector) {
+		
+		if(this.collectionViewsEnabled && ProtectedViews.isSupported(object.getClass())) {
+			
+			return (T) ProtectedViews.create(object, new ElementProtector(this, roles));
+		}
+		
+		if(protector == null) {
+			
+			protector = getOrCreateProtector(object.getClass());
+		}
 		
 		return protector.protect(object, roles);
 	}
 	
+	@Override
+	public <T> List<T> protectAll(Collection<? extends T> objects, Collection<Role> roles, boolean parallel) {
+		
+		if(objects == null) return null;
+		
+		ElementProtector protector = new ElementProtector(this, this.roleStorage.toRoleSet(roles));
+		
+		List<T> elements = new ArrayList<>(objects);
+		
+		if(parallel && elements.size() >= PARALLEL_PROTECT_THRESHOLD) {
+			
+			IntStream.range(0, elements.size()).parallel().forEach((i)-> elements.set(i, protector.protect(elements.get(i))));
+		}
+		else {
+			
+			elements.replaceAll(protector::protect);
+		}
+		
+		return Collections.unmodifiableList(elements);
+	}
+	
+	@Override
+	public <T> Stream<T> protectStream(Stream<T> stream, Collection<Role> roles) {
+		
+		ElementProtector protector = new ElementProtector(this, this.roleStorage.toRoleSet(roles));
+		
+		return stream.map(protector::protect);
+	}
+	
+	@Override
+	public KeroProtector getOrCreateProtector(Class<?> type) {
+		
+		ClassAccessScheme scheme = (ClassAccessScheme) getOrCreateScheme(type);
+		
+		return protectorStorage.getOrCreateProtector(scheme);
+	}
+	
+	@Override
+	public boolean isIgnoredType(Class<?> type) {
+		
+		return type.isEnum() || this.ignoreList.contains(type);
+	}
+	
 	public String extractPropertyName(String rawName) {
 		
 		String name = rawName;
@@ -235,4 +582,10 @@ public class KeroAccessAgentImpl implements KeroAccessAgent {
 		
 		return this.schemeStorage;
 	}
+	
+	@Override
+	public KeroProtectorStorage getProtectorStorage() {
+		
+		return this.protectorStorage;
+	}
 }
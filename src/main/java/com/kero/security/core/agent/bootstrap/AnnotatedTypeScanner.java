@@ -0,0 +1,104 @@
+package com.kero.security.core.agent.bootstrap;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.utils.ClassPathUtils;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.annotation.AnnotationList;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+public class AnnotatedTypeScanner {
+
+	private static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private static final String ANNOTATIONS_PACKAGE = "com.kero.security.";
+	
+	private ClassLoader classLoader;
+	private ForkJoinPool pool;
+	
+	public AnnotatedTypeScanner(ClassLoader classLoader, ForkJoinPool pool) {
+		
+		this.classLoader = classLoader;
+		this.pool = pool;
+	}
+	
+	public Set<String> scan(Collection<String> packages) {
+		
+		Set<String> classNames = new TreeSet<>();
+		
+		for(String packageName : packages) {
+			
+			classNames.addAll(ClassPathUtils.findClassNames(packageName, this.classLoader));
+		}
+		
+		try(ClassFileLocator locator = ClassFileLocator.ForClassLoader.of(this.classLoader)) {
+			
+			TypePool typePool = TypePool.Default.of(locator);
+			
+			List<String> annotated = this.pool.submit(()-> classNames.parallelStream()
+				.filter((className)-> isAnnotated(typePool, className))
+				.collect(Collectors.toList()))
+				.join();
+			
+			return new TreeSet<>(annotated);
+		}
+		catch(IOException e) {
+			
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	protected boolean isAnnotated(TypePool typePool, String className) {
+		
+		TypePool.Resolution resolution = typePool.describe(className);
+		
+		if(!resolution.isResolved()) {
+			
+			LOGGER.debug("Skip unresolvable class file: "+className);
+			return false;
+		}
+		
+		TypeDescription type = resolution.resolve();
+		
+		if(type.isInterface() || type.isEnum() || type.isAnnotation() || type.isAnonymousType() || type.isSynthetic()) return false;
+		if(!type.isPublic()) return false;
+		
+		if(hasKeroAnnotation(type.getDeclaredAnnotations())) return true;
+		
+		for(FieldDescription field : type.getDeclaredFields()) {
+			
+			if(hasKeroAnnotation(field.getDeclaredAnnotations())) return true;
+		}
+		
+		for(MethodDescription method : type.getDeclaredMethods()) {
+			
+			if(hasKeroAnnotation(method.getDeclaredAnnotations())) return true;
+		}
+		
+		return false;
+	}
+	
+	private boolean hasKeroAnnotation(AnnotationList annotations) {
+		
+		for(AnnotationDescription annotation : annotations) {
+			
+			if(annotation.getAnnotationType().getName().startsWith(ANNOTATIONS_PACKAGE)) return true;
+		}
+		
+		return false;
+	}
+}
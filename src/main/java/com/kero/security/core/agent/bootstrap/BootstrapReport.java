@@ -0,0 +1,55 @@
+package com.kero.security.core.agent.bootstrap;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class BootstrapReport {
+
+	private Duration duration;
+	
+	private int scannedCount;
+	private List<Class<?>> types;
+	
+	private Map<String, Throwable> failures;
+	
+	public BootstrapReport(Duration duration, int scannedCount, List<Class<?>> types, Map<String, Throwable> failures) {
+		
+		this.duration = duration;
+		this.scannedCount = scannedCount;
+		this.types = Collections.unmodifiableList(types);
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+	
+	public boolean isSuccessful() {
+		
+		return this.failures.isEmpty();
+	}
+	
+	public Duration getDuration() {
+		
+		return this.duration;
+	}
+	
+	public int getScannedCount() {
+		
+		return this.scannedCount;
+	}
+	
+	public List<Class<?>> getTypes() {
+		
+		return this.types;
+	}
+	
+	public Map<String, Throwable> getFailures() {
+		
+		return this.failures;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "BootstrapReport [duration="+duration.toMillis()+"ms, annotated="+scannedCount+", schemes="+types.size()+", failures="+failures.size()+"]";
+	}
+}
@@ -0,0 +1,124 @@
+package com.kero.security.core.agent.bootstrap;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.warmup.KeroWarmUp;
+
+public class KeroBootstrap {
+
+	protected static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private KeroAccessAgent agent;
+	
+	private Set<String> packages = new LinkedHashSet<>();
+	private boolean protectors = false;
+	
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+	
+	public KeroBootstrap(KeroAccessAgent agent) {
+		
+		this.agent = agent;
+	}
+	
+	public KeroBootstrap packages(String... packages) {
+		
+		return packages(Arrays.asList(packages));
+	}
+	
+	public KeroBootstrap packages(Collection<String> packages) {
+		
+		this.packages.addAll(packages);
+		
+		return this;
+	}
+	
+	public KeroBootstrap protectors() {
+		
+		this.protectors = true;
+		
+		return this;
+	}
+	
+	public KeroBootstrap pool(ForkJoinPool pool) {
+		
+		this.pool = pool;
+		
+		return this;
+	}
+	
+	public KeroBootstrap classLoader(ClassLoader classLoader) {
+		
+		this.classLoader = classLoader;
+		
+		return this;
+	}
+	
+	public BootstrapReport run() {
+		
+		long start = System.nanoTime();
+		
+		Set<String> classNames = new AnnotatedTypeScanner(this.classLoader, this.pool).scan(this.packages);
+		
+		Map<String, Throwable> failures = new ConcurrentHashMap<>();
+		
+		List<Class<?>> types = this.pool.submit(()-> classNames.parallelStream()
+			.<Class<?>> map((className)-> createScheme(className, failures))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList()))
+			.join();
+		
+		BootstrapReport report = new BootstrapReport(Duration.ofNanos(System.nanoTime() - start), classNames.size(), types, failures);
+		
+		LOGGER.info("Bootstrap finished: "+report);
+		
+		return report;
+	}
+	
+	public KeroWarmUp warmUp() {
+		
+		return this.agent.warmUp()
+			.classLoader(this.classLoader)
+			.types(run().getTypes());
+	}
+	
+	private Class<?> createScheme(String className, Map<String, Throwable> failures) {
+		
+		try {
+			
+			Class<?> type = Class.forName(className, false, this.classLoader);
+			
+			if(this.agent.isIgnoredType(type)) return null;
+			
+			this.agent.getOrCreateScheme(type);
+			
+			if(this.protectors) {
+				
+				this.agent.getOrCreateProtector(type);
+			}
+			
+			return type;
+		}
+		catch(Throwable e) {
+			
+			LOGGER.warn("Bootstrap failed for type: "+className, e);
+			failures.put(className, e);
+			
+			return null;
+		}
+	}
+}
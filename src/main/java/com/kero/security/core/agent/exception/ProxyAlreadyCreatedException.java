@@ -0,0 +1,11 @@
+package com.kero.security.core.agent.exception;
+
+public class ProxyAlreadyCreatedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ProxyAlreadyCreatedException(String message) {
+		super(message);
+		
+	}
+}
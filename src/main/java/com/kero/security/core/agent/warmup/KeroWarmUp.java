@@ -0,0 +1,176 @@
+package com.kero.security.core.agent.warmup;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.proxy.precompiled.PrecompiledProxyRegistry;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.utils.ClassPathUtils;
+
+public class KeroWarmUp {
+
+	protected static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private KeroAccessAgent agent;
+	
+	private Set<Class<?>> types = new LinkedHashSet<>();
+	private Set<String> packages = new LinkedHashSet<>();
+	private List<Collection<Role>> roleCombinations = new ArrayList<>();
+	
+	private Executor executor = ForkJoinPool.commonPool();
+	private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+	
+	public KeroWarmUp(KeroAccessAgent agent) {
+		
+		this.agent = agent;
+	}
+	
+	public KeroWarmUp types(Class<?>... types) {
+		
+		return types(Arrays.asList(types));
+	}
+	
+	public KeroWarmUp types(Collection<Class<?>> types) {
+		
+		this.types.addAll(types);
+		
+		return this;
+	}
+	
+	public KeroWarmUp packages(String... packages) {
+		
+		this.packages.addAll(Arrays.asList(packages));
+		
+		return this;
+	}
+	
+	public KeroWarmUp precompiled() {
+		
+		for(String className : PrecompiledProxyRegistry.get(this.classLoader).getSchemeTypeNames()) {
+			
+			Class<?> type = ClassPathUtils.loadClass(className, this.classLoader);
+			
+			if(type != null) this.types.add(type);
+		}
+		
+		return this;
+	}
+	
+	public KeroWarmUp roles(String... roleNames) {
+		
+		return roles(agent.getOrCreateRole(roleNames));
+	}
+	
+	public KeroWarmUp roles(Collection<Role> roles) {
+		
+		this.roleCombinations.add(agent.getRoleStorage().toRoleSet(roles));
+		
+		return this;
+	}
+	
+	public KeroWarmUp executor(Executor executor) {
+		
+		this.executor = executor;
+		
+		return this;
+	}
+	
+	public KeroWarmUp classLoader(ClassLoader classLoader) {
+		
+		this.classLoader = classLoader;
+		
+		return this;
+	}
+	
+	public WarmUpReport run() {
+		
+		long start = System.nanoTime();
+		
+		Set<Class<?>> types = collectTypes();
+		List<Collection<Role>> roleCombinations = this.roleCombinations.isEmpty() ? Collections.singletonList(Collections.emptySet()) : this.roleCombinations;
+		
+		Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+		AtomicInteger typesCount = new AtomicInteger();
+		AtomicInteger configurationsCount = new AtomicInteger();
+		
+		List<CompletableFuture<Void>> tasks = new ArrayList<>(types.size());
+		
+		for(Class<?> type : types) {
+			
+			tasks.add(CompletableFuture.runAsync(()-> {
+				
+				try {
+					
+					KeroProtector protector = agent.getOrCreateProtector(type);
+					
+					for(Collection<Role> roles : roleCombinations) {
+						
+						protector.prepare(roles);
+						configurationsCount.incrementAndGet();
+					}
+					
+					typesCount.incrementAndGet();
+				}
+				catch(Throwable e) {
+					
+					LOGGER.warn("Warm up failed for type: "+type.getCanonicalName(), e);
+					failures.put(type, e);
+				}
+			}, executor));
+		}
+		
+		CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+		
+		WarmUpReport report = new WarmUpReport(Duration.ofNanos(System.nanoTime() - start), typesCount.get(), configurationsCount.get(), failures);
+		
+		LOGGER.info("Warm up finished: "+report);
+		
+		return report;
+	}
+	
+	protected Set<Class<?>> collectTypes() {
+		
+		Set<Class<?>> candidates = new LinkedHashSet<>(this.types);
+		
+		for(String packageName : this.packages) {
+			
+			candidates.addAll(ClassPathUtils.findClasses(packageName, this.classLoader));
+		}
+		
+		Set<Class<?>> types = new LinkedHashSet<>();
+		
+		for(Class<?> type : candidates) {
+			
+			if(isProtectable(type)) types.add(type);
+		}
+		
+		return types;
+	}
+	
+	protected boolean isProtectable(Class<?> type) {
+		
+		if(type.isInterface() || type.isEnum() || type.isArray() || type.isPrimitive()) return false;
+		if(type.isAnonymousClass() || type.isSynthetic()) return false;
+		if(!Modifier.isPublic(type.getModifiers())) return false;
+		
+		return !agent.isIgnoredType(type);
+	}
+}
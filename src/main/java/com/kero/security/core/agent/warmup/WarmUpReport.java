@@ -0,0 +1,54 @@
+package com.kero.security.core.agent.warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+public class WarmUpReport {
+
+	private Duration duration;
+	
+	private int typesCount;
+	private int configurationsCount;
+	
+	private Map<Class<?>, Throwable> failures;
+	
+	public WarmUpReport(Duration duration, int typesCount, int configurationsCount, Map<Class<?>, Throwable> failures) {
+		
+		this.duration = duration;
+		this.typesCount = typesCount;
+		this.configurationsCount = configurationsCount;
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+	
+	public boolean isSuccessful() {
+		
+		return this.failures.isEmpty();
+	}
+	
+	public Duration getDuration() {
+		
+		return this.duration;
+	}
+	
+	public int getTypesCount() {
+		
+		return this.typesCount;
+	}
+	
+	public int getConfigurationsCount() {
+		
+		return this.configurationsCount;
+	}
+	
+	public Map<Class<?>, Throwable> getFailures() {
+		
+		return this.failures;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "WarmUpReport [duration="+duration.toMillis()+"ms, types="+typesCount+", configurations="+configurationsCount+", failures="+failures.size()+"]";
+	}
+}
@@ -0,0 +1,45 @@
+package com.kero.security.core.audit;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class AuditDictionary {
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private volatile String[] values = new String[64];
+	private int size = 0;
+	
+	int id(String value) {
+		
+		Integer id = ids.get(value);
+		
+		if(id != null) return id;
+		
+		synchronized(this) {
+			
+			id = ids.get(value);
+			
+			if(id != null) return id;
+			
+			String[] values = this.values;
+			
+			if(size == values.length) {
+				
+				values = Arrays.copyOf(values, values.length * 2);
+			}
+			
+			values[size] = value;
+			this.values = values;
+			
+			ids.put(value, size);
+			
+			return size++;
+		}
+	}
+	
+	String get(int id) {
+		
+		return this.values[id];
+	}
+}
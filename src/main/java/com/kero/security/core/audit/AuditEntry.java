@@ -0,0 +1,66 @@
+package com.kero.security.core.audit;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.kero.security.core.metrics.Decision;
+
+public class AuditEntry {
+
+	private final long timestamp;
+	private final long thread;
+	private final Decision decision;
+	private final String scheme;
+	private final String property;
+	private final String roles;
+	
+	public AuditEntry(long timestamp, long thread, Decision decision, String scheme, String property, String roles) {
+		
+		this.timestamp = timestamp;
+		this.thread = thread;
+		this.decision = decision;
+		this.scheme = scheme;
+		this.property = property;
+		this.roles = roles;
+	}
+	
+	public List<String> getRoles() {
+		
+		if(roles.isEmpty()) return Collections.emptyList();
+		
+		return Arrays.asList(roles.split(","));
+	}
+	
+	public long getTimestamp() {
+		
+		return this.timestamp;
+	}
+	
+	public long getThread() {
+		
+		return this.thread;
+	}
+	
+	public Decision getDecision() {
+		
+		return this.decision;
+	}
+	
+	public String getScheme() {
+		
+		return this.scheme;
+	}
+	
+	public String getProperty() {
+		
+		return this.property;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return Instant.ofEpochMilli(timestamp)+" "+decision+" "+scheme+"."+property+" ["+roles+"] thread="+thread;
+	}
+}
@@ -0,0 +1,274 @@
+package com.kero.security.core.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.metrics.Decision;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class AuditLog implements Closeable {
+
+	protected static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	public static int DEFAULT_BUFFER_CAPACITY = 8192;
+	public static int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	public static int DEFAULT_BATCH_SIZE = 512;
+	
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	
+	private final Path directory;
+	
+	private int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+	private int segmentSize = DEFAULT_SEGMENT_SIZE;
+	private int maxSegments = 0;
+	private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.BLOCK;
+	private boolean auditGrants = false;
+	
+	private final AuditDictionary dictionary = new AuditDictionary();
+	
+	private final LongAdder dropped = new LongAdder();
+	
+	private AuditRingBuffer buffer;
+	private AuditSegmentWriter segments;
+	private Thread writer;
+	
+	private volatile boolean running = false;
+	private volatile boolean failed = false;
+	
+	public AuditLog(Path directory) {
+		
+		this.directory = directory;
+	}
+	
+	public AuditLog bufferCapacity(int bufferCapacity) {
+		
+		this.bufferCapacity = bufferCapacity;
+		
+		return this;
+	}
+	
+	public AuditLog segmentSize(int segmentSize) {
+		
+		this.segmentSize = segmentSize;
+		
+		return this;
+	}
+	
+	public AuditLog maxSegments(int maxSegments) {
+		
+		this.maxSegments = maxSegments;
+		
+		return this;
+	}
+	
+	public AuditLog overflowPolicy(AuditOverflowPolicy overflowPolicy) {
+		
+		this.overflowPolicy = overflowPolicy;
+		
+		return this;
+	}
+	
+	public AuditLog auditGrants(boolean auditGrants) {
+		
+		this.auditGrants = auditGrants;
+		
+		return this;
+	}
+	
+	public synchronized AuditLog start() {
+		
+		if(this.running) return this;
+		
+		try {
+			
+			this.segments = new AuditSegmentWriter(this.directory, this.segmentSize, this.maxSegments, this.dictionary);
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		this.buffer = new AuditRingBuffer(this.bufferCapacity);
+		this.running = true;
+		
+		this.writer = new Thread(this::writeLoop, "Kero-Audit-Writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+		
+		return this;
+	}
+	
+	public PreparedAccessConfiguration wrap(PreparedAccessConfiguration config, AccessScheme scheme, Collection<Role> roles) {
+		
+		TreeSet<String> names = new TreeSet<>();
+		
+		for(Role role : roles) {
+			
+			names.add(role.getName());
+		}
+		
+		return new AuditedPreparedAccessConfiguration(config, scheme, this, id(scheme.getName()), id(String.join(",", names)));
+	}
+	
+	int id(String value) {
+		
+		return dictionary.id(value);
+	}
+	
+	void record(Decision decision, long ids, long rolesAndDecision) {
+		
+		if(!this.running || this.failed) {
+			
+			dropped.increment();
+			
+			return;
+		}
+		
+		long timestamp = System.currentTimeMillis();
+		long thread = Thread.currentThread().getId();
+		
+		AuditRingBuffer buffer = this.buffer;
+		
+		if(buffer.offer(timestamp, thread, ids, rolesAndDecision)) return;
+		
+		if(overflowPolicy == AuditOverflowPolicy.DROP || (overflowPolicy == AuditOverflowPolicy.DROP_GRANTS && decision == Decision.GRANT)) {
+			
+			dropped.increment();
+			
+			return;
+		}
+		
+		while(!buffer.offer(timestamp, thread, ids, rolesAndDecision)) {
+			
+			if(!this.running || this.failed) {
+				
+				dropped.increment();
+				
+				return;
+			}
+			
+			LockSupport.parkNanos(FULL_PARK_NANOS);
+		}
+	}
+	
+	private void writeLoop() {
+		
+		try {
+			
+			while(true) {
+				
+				boolean running = this.running;
+				
+				int written = buffer.drain(segments, DEFAULT_BATCH_SIZE);
+				
+				if(written == 0) {
+					
+					if(!running) break;
+					
+					LockSupport.parkNanos(IDLE_PARK_NANOS);
+				}
+			}
+		}
+		catch(IOException | RuntimeException e) {
+			
+			this.failed = true;
+			
+			LOGGER.error("Audit log writer failed, further records will be dropped: "+directory, e);
+		}
+		finally {
+			
+			try {
+				
+				segments.close();
+			}
+			catch(IOException e) {
+				
+				LOGGER.error("Can't close audit segment in: "+directory, e);
+			}
+		}
+	}
+	
+	public void flush() {
+		
+		AuditRingBuffer buffer = this.buffer;
+		
+		if(buffer == null) return;
+		
+		long target = buffer.getProduced();
+		
+		while(buffer.getConsumed() < target && !this.failed && this.writer.isAlive()) {
+			
+			LockSupport.parkNanos(IDLE_PARK_NANOS);
+		}
+	}
+	
+	@Override
+	public void close() {
+		
+		Thread writer;
+		
+		synchronized(this) {
+			
+			if(!this.running) return;
+			
+			this.running = false;
+			
+			writer = this.writer;
+		}
+		
+		LockSupport.unpark(writer);
+		
+		try {
+			
+			writer.join();
+		}
+		catch(InterruptedException e) {
+			
+			Thread.currentThread().interrupt();
+			
+			return;
+		}
+		
+		dropped.add(buffer.getProduced() - buffer.getConsumed());
+	}
+	
+	public boolean isAuditGrants() {
+		
+		return this.auditGrants;
+	}
+	
+	public boolean isRunning() {
+		
+		return this.running && !this.failed;
+	}
+	
+	public long getDroppedCount() {
+		
+		return this.dropped.sum();
+	}
+	
+	public long getWrittenCount() {
+		
+		AuditRingBuffer buffer = this.buffer;
+		
+		return buffer != null ? buffer.getConsumed() : 0;
+	}
+	
+	public Path getDirectory() {
+		
+		return this.directory;
+	}
+}
@@ -0,0 +1,179 @@
+package com.kero.security.core.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.kero.security.core.audit.exceptions.AuditLogFormatException;
+import com.kero.security.core.metrics.Decision;
+
+public class AuditLogReader {
+
+	public static final String SEGMENT_PREFIX = "kero-audit-";
+	public static final String SEGMENT_SUFFIX = ".kal";
+	
+	private static final Decision[] DECISIONS = Decision.values();
+	
+	public static List<AuditEntry> read(Path path) {
+		
+		List<AuditEntry> entries = new ArrayList<>();
+		
+		read(path, entries::add);
+		
+		return entries;
+	}
+	
+	public static void read(Path path, Consumer<AuditEntry> consumer) {
+		
+		if(Files.isDirectory(path)) {
+			
+			for(Path segment : listSegments(path)) {
+				
+				readSegment(segment, consumer);
+			}
+		}
+		else {
+			
+			readSegment(path, consumer);
+		}
+	}
+	
+	private static void readSegment(Path segment, Consumer<AuditEntry> consumer) {
+		
+		ByteBuffer buffer;
+		
+		try(FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+			
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		try {
+			
+			if(buffer.getInt() != AuditSegmentWriter.MAGIC) throw new AuditLogFormatException("Not a Kero audit segment: "+segment);
+			
+			short version = buffer.getShort();
+			
+			if(version != AuditSegmentWriter.VERSION) throw new AuditLogFormatException("Unsupported audit segment version "+version+": "+segment);
+			
+			buffer.getLong();
+			
+			Map<Integer, String> values = new HashMap<>();
+			
+			while(buffer.hasRemaining()) {
+				
+				byte tag = buffer.get();
+				
+				if(tag == AuditSegmentWriter.TAG_END) break;
+				
+				if(tag == AuditSegmentWriter.TAG_DEFINE) {
+					
+					int id = buffer.getInt();
+					byte[] value = new byte[buffer.getShort() & 0xFFFF];
+					
+					buffer.get(value);
+					
+					values.put(id, new String(value, StandardCharsets.UTF_8));
+				}
+				else if(tag == AuditSegmentWriter.TAG_RECORD) {
+					
+					int decision = buffer.get();
+					
+					if(decision < 0 || decision >= DECISIONS.length) throw new AuditLogFormatException("Unknown decision "+decision+" in: "+segment);
+					
+					String scheme = value(values, buffer.getInt(), segment);
+					String property = value(values, buffer.getInt(), segment);
+					String roles = value(values, buffer.getInt(), segment);
+					long timestamp = buffer.getLong();
+					long thread = buffer.getLong();
+					
+					consumer.accept(new AuditEntry(timestamp, thread, DECISIONS[decision], scheme, property, roles));
+				}
+				else {
+					
+					throw new AuditLogFormatException("Unknown record tag "+tag+" at "+(buffer.position() - 1)+" in: "+segment);
+				}
+			}
+		}
+		catch(BufferUnderflowException e) {
+			
+			throw new AuditLogFormatException("Truncated audit segment: "+segment);
+		}
+	}
+	
+	private static String value(Map<Integer, String> values, int id, Path segment) {
+		
+		String value = values.get(id);
+		
+		if(value == null) throw new AuditLogFormatException("Undefined value id "+id+" in: "+segment);
+		
+		return value;
+	}
+	
+	public static List<Path> listSegments(Path directory) {
+		
+		if(!Files.isDirectory(directory)) return new ArrayList<>();
+		
+		try(Stream<Path> files = Files.list(directory)) {
+			
+			return files
+				.filter(AuditLogReader::isSegment)
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	static boolean isSegment(Path file) {
+		
+		String name = file.getFileName().toString();
+		
+		return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+	}
+	
+	static String segmentName(long index) {
+		
+		return String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+	}
+	
+	static long segmentIndex(Path segment) {
+		
+		String name = segment.getFileName().toString();
+		
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+	
+	public static void main(String[] args) {
+		
+		if(args.length < 1) {
+			
+			System.err.println("Usage: AuditLogReader <segment or directory>...");
+			System.exit(1);
+		}
+		
+		for(String arg : args) {
+			
+			read(Paths.get(arg), System.out::println);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package com.kero.security.core.audit;
+
+public enum AuditOverflowPolicy {
+
+	BLOCK, DROP, DROP_GRANTS;
+}
@@ -0,0 +1,118 @@
+package com.kero.security.core.audit;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class AuditRingBuffer {
+
+	private static final int RECORD_LONGS = 4;
+	
+	private final int capacity;
+	private final int mask;
+	
+	private final long[] records;
+	private final AtomicLongArray sequences;
+	
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head = 0;
+	
+	AuditRingBuffer(int capacity) {
+		
+		this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+		this.mask = this.capacity - 1;
+		
+		this.records = new long[this.capacity * RECORD_LONGS];
+		this.sequences = new AtomicLongArray(this.capacity);
+		
+		for(int i = 0; i < this.capacity; i++) {
+			
+			sequences.set(i, i);
+		}
+	}
+	
+	boolean offer(long timestamp, long thread, long ids, long rolesAndDecision) {
+		
+		long position = tail.get();
+		
+		while(true) {
+			
+			int index = (int) position & mask;
+			
+			long difference = sequences.get(index) - position;
+			
+			if(difference == 0) {
+				
+				if(tail.compareAndSet(position, position + 1)) {
+					
+					int offset = index * RECORD_LONGS;
+					
+					records[offset] = timestamp;
+					records[offset + 1] = thread;
+					records[offset + 2] = ids;
+					records[offset + 3] = rolesAndDecision;
+					
+					sequences.lazySet(index, position + 1);
+					
+					return true;
+				}
+				
+				position = tail.get();
+			}
+			else if(difference < 0) {
+				
+				return false;
+			}
+			else {
+				
+				position = tail.get();
+			}
+		}
+	}
+	
+	int drain(AuditSegmentWriter writer, int limit) throws IOException {
+		
+		long head = this.head;
+		int count = 0;
+		
+		try {
+			
+			while(count < limit) {
+				
+				int index = (int) head & mask;
+				
+				if(sequences.get(index) != head + 1) break;
+				
+				int offset = index * RECORD_LONGS;
+				
+				writer.write(records[offset], records[offset + 1], records[offset + 2], records[offset + 3]);
+				
+				sequences.lazySet(index, head + capacity);
+				
+				head++;
+				count++;
+			}
+		}
+		finally {
+			
+			this.head = head;
+		}
+		
+		return count;
+	}
+	
+	long getProduced() {
+		
+		return tail.get();
+	}
+	
+	long getConsumed() {
+		
+		return this.head;
+	}
+	
+	int getCapacity() {
+		
+		return this.capacity;
+	}
+}
@@ -0,0 +1,174 @@
+package com.kero.security.core.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+class AuditSegmentWriter implements Closeable {
+
+	static final int MAGIC = 0x4B41554C;
+	static final short VERSION = 1;
+	
+	static final int HEADER_SIZE = 4 + 2 + 8;
+	
+	static final byte TAG_END = 0;
+	static final byte TAG_DEFINE = 1;
+	static final byte TAG_RECORD = 2;
+	
+	static final int RECORD_SIZE = 1 + 1 + 4 + 4 + 4 + 8 + 8;
+	static final int MAX_VALUE_LENGTH = 0xFFFF;
+	
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final AuditDictionary dictionary;
+	
+	private long index;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private BitSet defined = new BitSet();
+	
+	AuditSegmentWriter(Path directory, int segmentSize, int maxSegments, AuditDictionary dictionary) throws IOException {
+		
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		this.dictionary = dictionary;
+		
+		Files.createDirectories(directory);
+		
+		List<Path> segments = AuditLogReader.listSegments(directory);
+		
+		this.index = segments.isEmpty() ? 0 : AuditLogReader.segmentIndex(segments.get(segments.size() - 1)) + 1;
+	}
+	
+	void write(long timestamp, long thread, long ids, long rolesAndDecision) throws IOException {
+		
+		int scheme = (int) (ids >>> 32);
+		int property = (int) ids;
+		int roles = (int) (rolesAndDecision >>> 32);
+		byte decision = (byte) rolesAndDecision;
+		
+		if(buffer == null || buffer.remaining() < requiredSize(scheme, property, roles)) {
+			
+			rotate();
+			
+			if(buffer.remaining() < requiredSize(scheme, property, roles)) {
+				
+				throw new IOException("Audit segment size is too small for a record: "+segmentSize);
+			}
+		}
+		
+		define(scheme);
+		define(property);
+		define(roles);
+		
+		buffer.put(TAG_RECORD);
+		buffer.put(decision);
+		buffer.putInt(scheme);
+		buffer.putInt(property);
+		buffer.putInt(roles);
+		buffer.putLong(timestamp);
+		buffer.putLong(thread);
+	}
+	
+	private int requiredSize(int scheme, int property, int roles) {
+		
+		return RECORD_SIZE + definitionSize(scheme) + definitionSize(property) + definitionSize(roles) + 1;
+	}
+	
+	private int definitionSize(int id) {
+		
+		if(defined.get(id)) return 0;
+		
+		return 1 + 4 + 2 + encode(dictionary.get(id)).length;
+	}
+	
+	private void define(int id) {
+		
+		if(defined.get(id)) return;
+		
+		byte[] value = encode(dictionary.get(id));
+		
+		buffer.put(TAG_DEFINE);
+		buffer.putInt(id);
+		buffer.putShort((short) value.length);
+		buffer.put(value);
+		
+		defined.set(id);
+	}
+	
+	private byte[] encode(String value) {
+		
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		
+		if(bytes.length <= MAX_VALUE_LENGTH) return bytes;
+		
+		int length = MAX_VALUE_LENGTH;
+		
+		while(length > 0 && (bytes[length] & 0xC0) == 0x80) length--;
+		
+		return Arrays.copyOf(bytes, length);
+	}
+	
+	private void rotate() throws IOException {
+		
+		closeSegment();
+		
+		Path file = directory.resolve(AuditLogReader.segmentName(index++));
+		
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+		this.defined = new BitSet();
+		
+		buffer.putInt(MAGIC);
+		buffer.putShort(VERSION);
+		buffer.putLong(index - 1);
+		
+		deleteExpiredSegments();
+	}
+	
+	private void deleteExpiredSegments() throws IOException {
+		
+		if(maxSegments <= 0) return;
+		
+		List<Path> segments = AuditLogReader.listSegments(directory);
+		
+		for(int i = 0; i < segments.size() - maxSegments; i++) {
+			
+			Files.deleteIfExists(segments.get(i));
+		}
+	}
+	
+	void force() {
+		
+		if(buffer != null) buffer.force();
+	}
+	
+	private void closeSegment() throws IOException {
+		
+		if(buffer == null) return;
+		
+		if(buffer.hasRemaining()) buffer.put(TAG_END);
+		
+		buffer.force();
+		channel.close();
+		
+		this.buffer = null;
+		this.channel = null;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		
+		closeSegment();
+	}
+}
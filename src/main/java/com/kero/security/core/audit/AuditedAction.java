@@ -0,0 +1,44 @@
+package com.kero.security.core.audit;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.DelegatingAction;
+import com.kero.security.core.metrics.Decision;
+
+public class AuditedAction implements DelegatingAction {
+
+	private final Action action;
+	private final AuditLog log;
+	private final Decision decision;
+	private final long ids;
+	private final long rolesAndDecision;
+	
+	public AuditedAction(Action action, AuditLog log, int scheme, int property, int roles) {
+		
+		this.action = action;
+		this.log = log;
+		this.decision = Decision.of(action);
+		this.ids = ((long) scheme << 32) | (property & 0xFFFFFFFFL);
+		this.rolesAndDecision = ((long) roles << 32) | decision.ordinal();
+	}
+	
+	@Override
+	public Object process(Method method, Object original, Object[] args) {
+		
+		log.record(decision, ids, rolesAndDecision);
+		
+		return action.process(method, original, args);
+	}
+	
+	@Override
+	public Action getDelegate() {
+		
+		return this.action;
+	}
+	
+	public Decision getDecision() {
+		
+		return this.decision;
+	}
+}
@@ -0,0 +1,105 @@
+package com.kero.security.core.audit;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.metrics.Decision;
+import com.kero.security.core.scheme.AccessProxy;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class AuditedPreparedAccessConfiguration implements PreparedAccessConfiguration {
+
+	private final PreparedAccessConfiguration original;
+	private final AccessScheme scheme;
+	private final AuditLog log;
+	
+	private final int schemeId;
+	private final int rolesId;
+	
+	private final Map<Method, Action> actions = new ConcurrentHashMap<>();
+	
+	private volatile ResolvedActions resolvedActions = null;
+	
+	public AuditedPreparedAccessConfiguration(PreparedAccessConfiguration original, AccessScheme scheme, AuditLog log, int schemeId, int rolesId) {
+		
+		this.original = original;
+		this.scheme = scheme;
+		this.log = log;
+		this.schemeId = schemeId;
+		this.rolesId = rolesId;
+	}
+	
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) {
+		
+		Object original = ((AccessProxy) proxy).getOriginal();
+		
+		return getAction(method).process(method, original, args);
+	}
+	
+	@Override
+	public Action getAction(Method method) {
+		
+		Action action = actions.get(method);
+		
+		if(action == null) {
+			
+			action = actions.computeIfAbsent(method, this::audit);
+		}
+		
+		return action;
+	}
+	
+	@Override
+	public Action[] getActions(Method[] methods) {
+		
+		ResolvedActions resolved = this.resolvedActions;
+		
+		if(resolved != null && resolved.methods == methods) return resolved.actions;
+		
+		Action[] actions = new Action[methods.length];
+		
+		for(int i = 0; i < methods.length; i++) {
+			
+			actions[i] = getAction(methods[i]);
+		}
+		
+		this.resolvedActions = new ResolvedActions(methods, actions);
+		
+		return actions;
+	}
+	
+	private Action audit(Method method) {
+		
+		Action action = original.getAction(method);
+		
+		if(Decision.of(action) == Decision.GRANT && !log.isAuditGrants()) return action;
+		
+		KeroAccessAgent agent = scheme.getAgent();
+		
+		String property = agent != null ? agent.extractPropertyName(method.getName()) : method.getName();
+		
+		return new AuditedAction(action, log, schemeId, log.id(property), rolesId);
+	}
+	
+	public PreparedAccessConfiguration getOriginal() {
+		
+		return this.original;
+	}
+	
+	private static class ResolvedActions {
+		
+		private final Method[] methods;
+		private final Action[] actions;
+		
+		private ResolvedActions(Method[] methods, Action[] actions) {
+			
+			this.methods = methods;
+			this.actions = actions;
+		}
+	}
+}
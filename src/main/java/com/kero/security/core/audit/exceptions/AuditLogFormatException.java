@@ -0,0 +1,11 @@
+package com.kero.security.core.audit.exceptions;
+
+public class AuditLogFormatException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	public AuditLogFormatException(String message) {
+		super(message);
+	
+	}
+}
@@ -0,0 +1,85 @@
+package com.kero.security.core.config;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionDeny;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.config.action.ActionGrantPassThrough;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class ActionTable {
+
+	private final ActionDeny deny;
+	private final ActionGrantPassThrough passThrough;
+	private final Map<Collection<Role>, ActionGrant> grants = new ConcurrentHashMap<>();
+	
+	private final Map<Action, Integer> indexes = new ConcurrentHashMap<>();
+	private volatile Action[] actions = new Action[8];
+	private int size = 0;
+	
+	public ActionTable(AccessScheme scheme) {
+		
+		this.deny = new ActionDeny(scheme);
+		this.passThrough = new ActionGrantPassThrough(scheme, Collections.emptySet());
+	}
+	
+	public Action intern(Action action) {
+		
+		if(action.getClass() == ActionDeny.class) return this.deny;
+		if(action.getClass() == ActionGrantPassThrough.class) return this.passThrough;
+		
+		if(action.getClass() == ActionGrant.class) {
+			
+			ActionGrant grant = (ActionGrant) action;
+			ActionGrant present = grants.putIfAbsent(grant.getPropagatedRoles(), grant);
+			
+			return present != null ? present : grant;
+		}
+		
+		return action;
+	}
+	
+	public int indexOf(Action action) {
+		
+		Integer index = indexes.get(action);
+		
+		if(index != null) return index;
+		
+		synchronized(this) {
+			
+			index = indexes.get(action);
+			
+			if(index != null) return index;
+			
+			Action[] actions = this.actions;
+			
+			if(size == actions.length) {
+				
+				actions = Arrays.copyOf(actions, actions.length * 2);
+			}
+			
+			actions[size] = action;
+			this.actions = actions;
+			
+			indexes.put(action, size);
+			
+			return size++;
+		}
+	}
+	
+	public Action get(int index) {
+		
+		return this.actions[index];
+	}
+	
+	public int size() {
+		
+		return this.indexes.size();
+	}
+}
@@ -0,0 +1,99 @@
+package com.kero.security.core.config;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class CompactPreparedAccessConfiguration implements PreparedAccessConfiguration {
+
+	private final ConfigurationLayout layout;
+	private final ActionTable table;
+	
+	private final int[] propertyActions;
+	private final int[] slotActions;
+	
+	private volatile ResolvedActions resolvedActions = null;
+	
+	public CompactPreparedAccessConfiguration(ConfigurationLayout layout, ActionTable table, Action[] propertyActions) {
+		
+		this.layout = layout;
+		this.table = table;
+		
+		this.propertyActions = new int[propertyActions.length];
+		
+		for(int i = 0; i < propertyActions.length; i++) {
+			
+			this.propertyActions[i] = table.indexOf(table.intern(propertyActions[i]));
+		}
+		
+		this.slotActions = new int[layout.getSlotsCount()];
+		
+		for(int slot = 0; slot < slotActions.length; slot++) {
+			
+			Action action = table.get(this.propertyActions[layout.getPropertyIndex(slot)]);
+			
+			this.slotActions[slot] = table.indexOf(table.intern(specialize(action, layout.getMethod(slot))));
+		}
+	}
+	
+	private Action specialize(Action action, Method method) {
+		
+		if(action instanceof ActionGrant) {
+			
+			return ((ActionGrant) action).forReturnType(method.getReturnType());
+		}
+		
+		return action;
+	}
+	
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) {
+		
+		Object original = ((AccessProxy) proxy).getOriginal();
+		
+		return getAction(method).process(method, original, args);
+	}
+	
+	@Override
+	public Action getAction(Method method) {
+		
+		int slot = layout.slotOf(method);
+		
+		if(slot >= 0) return table.get(slotActions[slot]);
+		
+		return table.get(propertyActions[layout.propertyIndexOf(method)]);
+	}
+	
+	@Override
+	public Action[] getActions(Method[] methods) {
+		
+		ResolvedActions resolved = this.resolvedActions;
+		
+		if(resolved != null && resolved.methods == methods) return resolved.actions;
+		
+		Action[] actions = new Action[methods.length];
+		
+		for(int i = 0; i < methods.length; i++) {
+			
+			actions[i] = getAction(methods[i]);
+		}
+		
+		this.resolvedActions = new ResolvedActions(methods, actions);
+		
+		return actions;
+	}
+	
+	private static class ResolvedActions {
+		
+		private final Method[] methods;
+		private final Action[] actions;
+		
+		private ResolvedActions(Method[] methods, Action[] actions) {
+			
+			this.methods = methods;
+			this.actions = actions;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.kero.security.core.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class ConfigurationLayout {
+
+	private final Map<Method, Integer> slots;
+	private final Map<Method, Integer> overriddenSlots = new ConcurrentHashMap<>();
+	private final Method[] methods;
+	private final int[] properties;
+	
+	private final Map<String, Integer> propertyIndexes;
+	private final Function<String, String> propertyNameExtractor;
+	private final int defaultIndex;
+	
+	public ConfigurationLayout(Class<?> typeClass, List<String> propertyNames, Function<String, String> propertyNameExtractor) {
+		
+		this.propertyNameExtractor = propertyNameExtractor;
+		this.defaultIndex = propertyNames.size();
+		
+		this.propertyIndexes = new HashMap<>(propertyNames.size() * 2);
+		
+		for(int i = 0; i < propertyNames.size(); i++) {
+			
+			this.propertyIndexes.put(propertyNames.get(i), i);
+		}
+		
+		List<Method> methods = typeClass != null ? collectMethods(typeClass) : Collections.emptyList();
+		
+		this.methods = methods.toArray(new Method[0]);
+		this.properties = new int[this.methods.length];
+		this.slots = new HashMap<>(this.methods.length * 2);
+		
+		for(int i = 0; i < this.methods.length; i++) {
+			
+			this.slots.put(this.methods[i], i);
+			this.properties[i] = propertyIndexOf(this.methods[i]);
+		}
+	}
+	
+	private List<Method> collectMethods(Class<?> typeClass) {
+		
+		Set<Method> methods = new LinkedHashSet<>();
+		
+		Collections.addAll(methods, typeClass.getMethods());
+		
+		Class<?> currentClass = typeClass;
+		
+		while(currentClass != null) {
+			
+			for(Class<?> inter : currentClass.getInterfaces()) {
+				
+				Collections.addAll(methods, inter.getMethods());
+			}
+			
+			currentClass = currentClass.getSuperclass();
+		}
+		
+		return new ArrayList<>(methods);
+	}
+	
+	public int propertyIndexOf(Method method) {
+		
+		Integer index = this.propertyIndexes.get(this.propertyNameExtractor.apply(method.getName()));
+		
+		return index != null ? index : this.defaultIndex;
+	}
+	
+	public int slotOf(Method method) {
+		
+		Integer slot = this.slots.get(method);
+		
+		if(slot != null) return slot;
+		
+		slot = this.overriddenSlots.get(method);
+		
+		if(slot != null) return slot;
+		
+		slot = findSlot(method);
+		
+		this.overriddenSlots.putIfAbsent(method, slot);
+		
+		return slot;
+	}
+	
+	private int findSlot(Method method) {
+		
+		for(int i = 0; i < this.methods.length; i++) {
+			
+			Method candidate = this.methods[i];
+			
+			if(!candidate.isBridge() && candidate.getName().equals(method.getName()) && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes()) && method.getReturnType().isAssignableFrom(candidate.getReturnType())) {
+				
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	public int getSlotsCount() {
+		
+		return this.methods.length;
+	}
+	
+	public Method getMethod(int slot) {
+		
+		return this.methods[slot];
+	}
+	
+	public int getPropertyIndex(int slot) {
+		
+		return this.properties[slot];
+	}
+	
+	public int getPropertiesCount() {
+		
+		return this.defaultIndex;
+	}
+}
@@ -3,8 +3,13 @@ package com.kero.security.core.config;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 
+import com.kero.security.core.config.action.Action;
+
 public interface PreparedAccessConfiguration extends InvocationHandler {
 
 	@Override
 	public Object invoke(Object original, Method method, Object[] args);
+	
+	public Action getAction(Method method);
+	public Action[] getActions(Method[] methods);
 }
@@ -2,18 +2,29 @@ package com.kero.security.core.config;
 
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
 import com.kero.security.core.scheme.AccessProxy;
 import com.kero.security.core.scheme.AccessScheme;
 
+/**
+ * @deprecated access schemes now prepare {@link CompactPreparedAccessConfiguration}; kept for existing callers.
+ */
+@Deprecated
 public class PreparedAccessConfigurationImpl implements PreparedAccessConfiguration {
 
 	private Map<String, Action> actions = new HashMap<>();
+	private Map<Method, Action> dispatchTable = new ConcurrentHashMap<>();
 	private Action defaultAction = null;
 	private AccessScheme type = null;
 	
+	private volatile ResolvedActions resolvedActions = null;
+	
 	public PreparedAccessConfigurationImpl() {}
 	
 	public PreparedAccessConfigurationImpl(AccessScheme type, Map<String, Action> actions, Action defaultTypeAction) {
@@ -21,6 +32,63 @@ public class PreparedAccessConfigurationImpl implements PreparedAccessConfigurat
 		this.type = type;
 		this.actions = actions;
 		this.defaultAction = defaultTypeAction;
+		
+		prepareDispatchTable();
+	}
+	
+	private void prepareDispatchTable() {
+		
+		Class<?> typeClass = type.getTypeClass();
+		
+		if(typeClass == null) return;
+		
+		for(Method method : typeClass.getMethods()) {
+			
+			dispatchTable.put(method, resolveAction(method));
+		}
+		
+		for(Class<?> inter : collectInterfaces(typeClass)) {
+			
+			for(Method method : inter.getMethods()) {
+				
+				dispatchTable.putIfAbsent(method, resolveAction(method));
+			}
+		}
+	}
+	
+	private Set<Class<?>> collectInterfaces(Class<?> typeClass) {
+		
+		Set<Class<?>> interfaces = new HashSet<>();
+		
+		Class<?> currentClass = typeClass;
+		
+		while(currentClass != null) {
+			
+			for(Class<?> inter : currentClass.getInterfaces()) {
+				
+				interfaces.add(inter);
+			}
+			
+			currentClass = currentClass.getSuperclass();
+		}
+		
+		return interfaces;
+	}
+	
+	protected Action resolveAction(Method method) {
+		
+		String name = type.getAgent().extractPropertyName(method.getName());
+		
+		Action action = actions.get(name);
+		
+		if(action == null) action = defaultAction;
+		
+		if(action instanceof ActionGrant) {
+			
+			action = ((ActionGrant) action).forReturnType(method.getReturnType());
+		}
+		
+		return action;
 	}
 	
 	@Override
@@ -28,17 +96,50 @@ public class PreparedAccessConfigurationImpl implements PreparedAccessConfigurat
 		
 		Object original = ((AccessProxy) proxy).getOriginal();
 		
-		String name = type.getAgent().extractPropertyName(method.getName());
+		return getAction(method).process(method, original, args);
+	}
+	
+	@Override
+	public Action getAction(Method method) {
 		
-		Action action = actions.get(name);
+		Action action = dispatchTable.get(method);
+		
+		if(action == null) {
+			
+			action = dispatchTable.computeIfAbsent(method, this::resolveAction);
+		}
 		
-		if(action != null) {
+		return action;
+	}
+	
+	@Override
+	public Action[] getActions(Method[] methods) {
+		
+		ResolvedActions resolved = this.resolvedActions;
+		
+		if(resolved != null && resolved.methods == methods) return resolved.actions;
+		
+		Action[] actions = new Action[methods.length];
+		
+		for(int i = 0; i < methods.length; i++) {
 			
-			return action.process(method, original, args);
+			actions[i] = getAction(methods[i]);
 		}
-		else {
+		
+		this.resolvedActions = new ResolvedActions(methods, actions);
+		
+		return actions;
+	}
+	
+	private static class ResolvedActions {
+		
+		private final Method[] methods;
+		private final Action[] actions;
+		
+		private ResolvedActions(Method[] methods, Action[] actions) {
 			
-			return defaultAction.process(method, original, args);
+			this.methods = methods;
+			this.actions = actions;
 		}
 	}
 }
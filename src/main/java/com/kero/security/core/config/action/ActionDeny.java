@@ -3,6 +3,7 @@ package com.kero.security.core.config.action;
 import java.lang.reflect.Method;
 
 import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.jfr.KeroFlightRecorder;
 import com.kero.security.core.scheme.AccessScheme;
 
 public class ActionDeny extends ActionBase implements Action {
@@ -15,6 +16,8 @@ public class ActionDeny extends ActionBase implements Action {
 	@Override
 	public Object process(Method method, Object original, Object[] args) {
 		
+		KeroFlightRecorder.accessDenied(scheme, method, false);
+		
 		throw new AccessException("Access denied for: "+scheme.getAgent().extractPropertyName(method.getName()));
 	}
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.kero.security.core.config.action;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.kero.security.core.agent.KeroAccessAgent;
 import com.kero.security.core.config.action.exceptions.ActionGrantMethodInvokeException;
@@ -10,7 +13,9 @@ import com.kero.security.core.scheme.AccessScheme;
 
 public class ActionGrant extends ActionBase implements Action {
 	
-	private Collection<Role> propagatedRoles;
+	protected Collection<Role> propagatedRoles;
+	
+	private volatile Map<Class<?>, ActionGrant> returnTypeActions;
 	
 	public ActionGrant(AccessScheme scheme, Collection<Role> propogatedRoles) {
 		super(scheme);
@@ -32,10 +37,57 @@ public class ActionGrant extends ActionBase implements Action {
 			throw new ActionGrantMethodInvokeException(e);
 		}
 		
+		return protect(methodResult);
+	}
+	
+	public Object protect(Object methodResult) {
+		
 		KeroAccessAgent agent = this.scheme.getAgent();
 		
-		methodResult = agent.protect(methodResult, this.propagatedRoles);
-
-		return methodResult;
+		return agent.protect(methodResult, this.propagatedRoles);
+	}
+	
+	public Collection<Role> getPropagatedRoles() {
+		
+		return this.propagatedRoles;
+	}
+	
+	public ActionGrant forReturnType(Class<?> returnType) {
+		
+		Map<Class<?>, ActionGrant> returnTypeActions = this.returnTypeActions;
+		
+		if(returnTypeActions == null) {
+			
+			synchronized(this) {
+				
+				if(this.returnTypeActions == null) {
+					
+					this.returnTypeActions = new ConcurrentHashMap<>(4);
+				}
+				
+				returnTypeActions = this.returnTypeActions;
+			}
+		}
+		
+		return returnTypeActions.computeIfAbsent(returnType, this::classify);
+	}
+	
+	protected ActionGrant classify(Class<?> returnType) {
+		
+		KeroAccessAgent agent = this.scheme.getAgent();
+		
+		boolean exactType = Modifier.isFinal(returnType.getModifiers()) && !returnType.isArray() && !returnType.isInterface();
+		
+		if(returnType.isPrimitive() || (agent.isIgnoredType(returnType) && (exactType || returnType.isEnum()))) {
+			
+			return new ActionGrantPassThrough(this.scheme, this.propagatedRoles);
+		}
+		
+		if(exactType) {
+			
+			return new ActionGrantExactType(this.scheme, this.propagatedRoles, returnType);
+		}
+		
+		return this;
 	}
 }
@@ -0,0 +1,46 @@
+package com.kero.security.core.config.action;
+
+import java.util.Collection;
+
+import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class ActionGrantExactType extends ActionGrant {
+
+	private Class<?> type;
+	private volatile KeroProtector protector;
+	
+	public ActionGrantExactType(AccessScheme scheme, Collection<Role> propagatedRoles, Class<?> type) {
+		super(scheme, propagatedRoles);
+		
+		this.type = type;
+	}
+	
+	@Override
+	public Object protect(Object methodResult) {
+		
+		if(methodResult == null) return null;
+		
+		KeroProtector protector = this.protector;
+		
+		if(protector == null) {
+			
+			protector = this.scheme.getAgent().getOrCreateProtector(this.type);
+			this.protector = protector;
+		}
+		
+		return this.scheme.getAgent().protect(methodResult, this.propagatedRoles, protector);
+	}
+	
+	@Override
+	public ActionGrant forReturnType(Class<?> returnType) {
+		
+		return this;
+	}
+	
+	public Class<?> getType() {
+		
+		return this.type;
+	}
+}
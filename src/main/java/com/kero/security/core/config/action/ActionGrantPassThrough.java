@@ -0,0 +1,26 @@
+package com.kero.security.core.config.action;
+
+import java.util.Collection;
+
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class ActionGrantPassThrough extends ActionGrant {
+
+	public ActionGrantPassThrough(AccessScheme scheme, Collection<Role> propagatedRoles) {
+		super(scheme, propagatedRoles);
+	
+	}
+	
+	@Override
+	public Object protect(Object methodResult) {
+		
+		return methodResult;
+	}
+	
+	@Override
+	public ActionGrant forReturnType(Class<?> returnType) {
+		
+		return this;
+	}
+}
@@ -3,6 +3,7 @@ package com.kero.security.core.config.action;
 import java.lang.reflect.Method;
 import java.util.function.BiFunction;
 
+import com.kero.security.core.jfr.KeroFlightRecorder;
 import com.kero.security.core.scheme.AccessScheme;
 
 public class ActionInterceptor extends ActionBase implements Action {
@@ -18,6 +19,7 @@ public class ActionInterceptor extends ActionBase implements Action {
 	@Override
 	public Object process(Method method, Object original, Object[] args) {
 		
+		KeroFlightRecorder.accessDenied(scheme, method, true);
 		
 		return interceptor.apply(original, args);
 	}
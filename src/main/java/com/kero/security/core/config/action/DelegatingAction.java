@@ -0,0 +1,16 @@
+package com.kero.security.core.config.action;
+
+public interface DelegatingAction extends Action {
+
+	public Action getDelegate();
+	
+	public static Action unwrap(Action action) {
+		
+		while(action instanceof DelegatingAction) {
+			
+			action = ((DelegatingAction) action).getDelegate();
+		}
+		
+		return action;
+	}
+}
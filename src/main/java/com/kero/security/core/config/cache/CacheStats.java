@@ -0,0 +1,48 @@
+package com.kero.security.core.config.cache;
+
+public class CacheStats {
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+	
+	public CacheStats(long hitCount, long missCount, long evictionCount) {
+		
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+	
+	public double getHitRate() {
+		
+		long requestCount = getRequestCount();
+		
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+	
+	public long getRequestCount() {
+		
+		return hitCount + missCount;
+	}
+	
+	public long getHitCount() {
+		
+		return this.hitCount;
+	}
+	
+	public long getMissCount() {
+		
+		return this.missCount;
+	}
+	
+	public long getEvictionCount() {
+		
+		return this.evictionCount;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "CacheStats [hits="+hitCount+", misses="+missCount+", evictions="+evictionCount+"]";
+	}
+}
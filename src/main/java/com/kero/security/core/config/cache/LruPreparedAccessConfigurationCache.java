@@ -0,0 +1,212 @@
+package com.kero.security.core.config.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleSet;
+
+public class LruPreparedAccessConfigurationCache implements PreparedAccessConfigurationCache {
+
+	private static final int EVICTION_SAMPLE_SIZE = 32;
+	private static final int EVICTION_PASSES = 4;
+	
+	private Map<Set<Role>, Entry> entries = new ConcurrentHashMap<>();
+	
+	private int maximumSize;
+	private long expireAfterWriteNanos;
+	private long recencyWindow;
+	
+	private AtomicLong accessClock = new AtomicLong();
+	
+	private LongAdder hits = new LongAdder();
+	private LongAdder misses = new LongAdder();
+	private LongAdder evictions = new LongAdder();
+	
+	private ReentrantLock evictionLock = new ReentrantLock();
+	
+	public LruPreparedAccessConfigurationCache(int maximumSize) {
+		
+		this(maximumSize, 0, TimeUnit.NANOSECONDS);
+	}
+	
+	public LruPreparedAccessConfigurationCache(int maximumSize, long expireAfterWrite, TimeUnit unit) {
+		
+		if(maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive: "+maximumSize);
+		if(expireAfterWrite < 0) throw new IllegalArgumentException("Expire after write can't be negative: "+expireAfterWrite);
+		
+		this.maximumSize = maximumSize;
+		this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+		this.recencyWindow = maximumSize / 10;
+	}
+	
+	@Override
+	public PreparedAccessConfiguration get(Collection<Role> roles, Function<Set<Role>, PreparedAccessConfiguration> loader) {
+		
+		Set<Role> lookupKey = roles instanceof Set ? (Set<Role>) roles : new HashSet<>(roles);
+		
+		long now = expireAfterWriteNanos > 0 ? now() : 0;
+		
+		Entry entry = entries.get(lookupKey);
+		
+		if(entry != null) {
+			
+			if(!isExpired(entry, now)) {
+				
+				touch(entry);
+				hits.increment();
+				
+				return entry.value;
+			}
+			
+			if(entries.remove(lookupKey, entry)) {
+				
+				evictions.increment();
+			}
+		}
+		
+		misses.increment();
+		
+		Set<Role> key = roles instanceof RoleSet ? (RoleSet) roles : Collections.unmodifiableSet(new HashSet<>(roles));
+		
+		Entry created = new Entry(loader.apply(key), now, accessClock.incrementAndGet());
+		Entry present = entries.putIfAbsent(key, created);
+		
+		if(present != null && !isExpired(present, now)) return present.value;
+		
+		if(present != null) {
+			
+			entries.put(key, created);
+		}
+		
+		evictIfNeeded();
+		
+		return created.value;
+	}
+	
+	private void touch(Entry entry) {
+		
+		long current = accessClock.get();
+		
+		if(current - entry.accessTick > recencyWindow) {
+			
+			entry.accessTick = accessClock.incrementAndGet();
+		}
+	}
+	
+	private void evictIfNeeded() {
+		
+		if(entries.size() <= maximumSize) return;
+		if(!evictionLock.tryLock()) return;
+		
+		try {
+			
+			for(int pass = 0; pass < EVICTION_PASSES; pass++) {
+				
+				int size = entries.size();
+				int excess = size - maximumSize;
+				
+				if(excess <= 0) return;
+				
+				evict(excess + maximumSize / 10, size);
+			}
+		}
+		finally {
+			
+			evictionLock.unlock();
+		}
+	}
+	
+	private void evict(int toEvict, int size) {
+		
+		long[] sample = new long[EVICTION_SAMPLE_SIZE];
+		int sampled = 0;
+		
+		for(Entry entry : entries.values()) {
+			
+			sample[sampled++] = entry.accessTick;
+			
+			if(sampled == sample.length) break;
+		}
+		
+		if(sampled == 0) return;
+		
+		Arrays.sort(sample, 0, sampled);
+		
+		long cutoff = sample[Math.max(0, Math.min(sampled - 1, (int) ((long) sampled * toEvict / size) - 1))];
+		
+		int evicted = 0;
+		Iterator<Map.Entry<Set<Role>, Entry>> iterator = entries.entrySet().iterator();
+		
+		while(evicted < toEvict && iterator.hasNext()) {
+			
+			Map.Entry<Set<Role>, Entry> candidate = iterator.next();
+			
+			if(candidate.getValue().accessTick <= cutoff && entries.remove(candidate.getKey(), candidate.getValue())) {
+				
+				evictions.increment();
+				evicted++;
+			}
+		}
+	}
+	
+	private boolean isExpired(Entry entry, long now) {
+		
+		return expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos;
+	}
+	
+	protected long now() {
+		
+		return System.nanoTime();
+	}
+	
+	@Override
+	public void clear() {
+		
+		entries.clear();
+	}
+	
+	@Override
+	public int size() {
+		
+		return entries.size();
+	}
+	
+	@Override
+	public CacheStats getStats() {
+		
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+	}
+	
+	public int getMaximumSize() {
+		
+		return this.maximumSize;
+	}
+	
+	private static class Entry {
+		
+		private final PreparedAccessConfiguration value;
+		private final long writeTime;
+		
+		private volatile long accessTick;
+		
+		private Entry(PreparedAccessConfiguration value, long writeTime, long accessTick) {
+			
+			this.value = value;
+			this.writeTime = writeTime;
+			this.accessTick = accessTick;
+		}
+	}
+}
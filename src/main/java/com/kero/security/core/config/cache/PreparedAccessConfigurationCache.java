@@ -0,0 +1,25 @@
+package com.kero.security.core.config.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.role.Role;
+
+public interface PreparedAccessConfigurationCache {
+
+	public static int DEFAULT_MAXIMUM_SIZE = 1024;
+	
+	public PreparedAccessConfiguration get(Collection<Role> roles, Function<Set<Role>, PreparedAccessConfiguration> loader);
+	
+	public void clear();
+	public int size();
+	
+	public CacheStats getStats();
+	
+	public static PreparedAccessConfigurationCache create() {
+		
+		return new LruPreparedAccessConfigurationCache(DEFAULT_MAXIMUM_SIZE);
+	}
+}
@@ -15,6 +15,8 @@ public abstract class DenyInterceptorBase implements DenyInterceptor {
 	private Set<Role> roles = new HashSet<>();
 	private AccessScheme scheme;
 	
+	private volatile ActionInterceptor action;
+	
 	public DenyInterceptorBase() {}
 	
 	public DenyInterceptorBase(AccessScheme scheme, Set<Role> roles) {
@@ -28,7 +30,15 @@ public abstract class DenyInterceptorBase implements DenyInterceptor {
 		
 		if(manageAny(roles) || this.roles.isEmpty()) {
 		
-			return new ActionInterceptor(this.scheme, this::intercept);
+			ActionInterceptor action = this.action;
+			
+			if(action == null) {
+				
+				action = new ActionInterceptor(this.scheme, this::intercept);
+				this.action = action;
+			}
+			
+			return action;
 		}
 		else {
 
@@ -0,0 +1,23 @@
+package com.kero.security.core.jfr;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.scheme.AccessScheme;
+
+import net.bytebuddy.dynamic.DynamicType;
+
+interface KeroEventSink {
+
+	public boolean isAvailable();
+	
+	public Object beginSchemeCreation();
+	public void commitSchemeCreation(Object token, Class<?> type, String scheme);
+	
+	public Object beginConfigurationPreparation();
+	public void commitConfigurationPreparation(Object token, String scheme, int roles, int properties);
+	
+	public Object beginProxyGeneration();
+	public void commitProxyGeneration(Object token, Class<?> target, DynamicType proxyType);
+	
+	public void accessDenied(AccessScheme scheme, Method method, boolean intercepted);
+}
@@ -0,0 +1,75 @@
+package com.kero.security.core.jfr;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.scheme.AccessScheme;
+
+import net.bytebuddy.dynamic.DynamicType;
+
+public final class KeroFlightRecorder {
+
+	private static final KeroEventSink SINK = load();
+	private static final boolean AVAILABLE = SINK != null;
+	
+	private KeroFlightRecorder() {
+	
+	}
+	
+	public static boolean isAvailable() {
+		
+		return AVAILABLE;
+	}
+	
+	public static Object beginSchemeCreation() {
+		
+		return AVAILABLE ? SINK.beginSchemeCreation() : null;
+	}
+	
+	public static void commitSchemeCreation(Object event, Class<?> type, String scheme) {
+		
+		if(event != null) SINK.commitSchemeCreation(event, type, scheme);
+	}
+	
+	public static Object beginConfigurationPreparation() {
+		
+		return AVAILABLE ? SINK.beginConfigurationPreparation() : null;
+	}
+	
+	public static void commitConfigurationPreparation(Object event, String scheme, int roles, int properties) {
+		
+		if(event != null) SINK.commitConfigurationPreparation(event, scheme, roles, properties);
+	}
+	
+	public static Object beginProxyGeneration() {
+		
+		return AVAILABLE ? SINK.beginProxyGeneration() : null;
+	}
+	
+	public static void commitProxyGeneration(Object event, Class<?> target, DynamicType proxyType) {
+		
+		if(event != null) SINK.commitProxyGeneration(event, target, proxyType);
+	}
+	
+	public static void accessDenied(AccessScheme scheme, Method method, boolean intercepted) {
+		
+		if(AVAILABLE) SINK.accessDenied(scheme, method, intercepted);
+	}
+	
+	private static KeroEventSink load() {
+		
+		try {
+			
+			ClassLoader loader = KeroFlightRecorder.class.getClassLoader();
+			
+			Class.forName("jdk.jfr.Event", false, loader);
+			
+			KeroEventSink sink = (KeroEventSink) Class.forName("com.kero.security.core.jfr.KeroEvents", true, loader).getDeclaredConstructor().newInstance();
+			
+			return sink.isAvailable() ? sink : null;
+		}
+		catch(Throwable e) {
+			
+			return null;
+		}
+	}
+}
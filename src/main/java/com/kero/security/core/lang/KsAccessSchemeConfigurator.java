@@ -0,0 +1,171 @@
+package com.kero.security.core.lang;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.property.Property;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+import com.kero.security.core.scheme.configurator.AccessSchemeConfiguratorBase;
+import com.kero.security.core.utils.WeakClassMap;
+
+public class KsAccessSchemeConfigurator extends AccessSchemeConfiguratorBase {
+
+	private KsPolicy policy;
+	
+	private WeakClassMap<Applied> applied = new WeakClassMap<>();
+	
+	public KsAccessSchemeConfigurator(KsPolicy policy) {
+		
+		this.policy = policy;
+	}
+	
+	@Override
+	public void configure(AccessScheme scheme) {
+		
+		KsScheme source = this.policy.getScheme(scheme.getName());
+		
+		if(source == null) return;
+		
+		KeroAccessAgent agent = scheme.getAgent();
+		
+		List<Runnable> undo = getUndo(scheme);
+		
+		Access schemeAccess = source.getDefaultAccess();
+		
+		if(schemeAccess != Access.UNKNOWN && scheme.getDefaultAccess() != schemeAccess) {
+			
+			Access previous = scheme.getDefaultAccess();
+			
+			scheme.setDefaultAccess(schemeAccess);
+			
+			undo.add(()-> {
+				
+				if(scheme.getDefaultAccess() == schemeAccess) scheme.setDefaultAccess(previous);
+			});
+		}
+		
+		for(KsProperty ksProperty : source.getProperties()) {
+			
+			Property property = scheme.getOrCreateLocalProperty(agent.extractPropertyName(ksProperty.getName()));
+			
+			Access propertyAccess = ksProperty.getDefaultAccess();
+			
+			if(propertyAccess != Access.UNKNOWN && property.getLocalDefaultAccess() != propertyAccess) {
+				
+				Access previous = property.getLocalDefaultAccess();
+				
+				property.setDefaultAccess(propertyAccess);
+				
+				undo.add(()-> {
+					
+					if(property.getLocalDefaultAccess() == propertyAccess) property.setDefaultAccess(previous);
+				});
+			}
+			
+			for(Role role : agent.getOrCreateRole(ksProperty.getGrantRoles())) {
+				
+				if(property.getLocalGrantRoles().contains(role)) continue;
+				
+				property.grantRole(role);
+				
+				undo.add(()-> property.removeGrantRole(role));
+			}
+			
+			for(Role role : agent.getOrCreateRole(ksProperty.getDenyRoles())) {
+				
+				if(property.getLocalDenyRoles().contains(role)) continue;
+				
+				property.denyRole(role);
+				
+				undo.add(()-> property.removeDenyRole(role));
+			}
+			
+			for(String[] propagation : ksProperty.getPropagations()) {
+				
+				Role from = agent.getOrCreateRole(propagation[0]);
+				Role to = agent.getOrCreateRole(propagation[1]);
+				
+				Role previous = property.getLocalRolesPropagation().get(from);
+				
+				if(to.equals(previous)) continue;
+				
+				property.addRolePropagation(from, to);
+				
+				undo.add(()-> {
+					
+					if(!to.equals(property.getLocalRolesPropagation().get(from))) return;
+					
+					if(previous != null) {
+						
+						property.addRolePropagation(from, previous);
+					}
+					else {
+						
+						property.removeRolePropagation(from);
+					}
+				});
+			}
+		}
+	}
+	
+	public void revoke(AccessScheme scheme) {
+		
+		Applied applied;
+		
+		synchronized(this.applied) {
+			
+			applied = this.applied.get(scheme.getTypeClass());
+			
+			if(applied == null || applied.scheme != scheme) return;
+			
+			this.applied.remove(scheme.getTypeClass());
+		}
+		
+		List<Runnable> undo = applied.undo;
+		
+		synchronized(undo) {
+			
+			for(int i = undo.size() - 1; i >= 0; i--) {
+				
+				undo.get(i).run();
+			}
+		}
+	}
+	
+	private List<Runnable> getUndo(AccessScheme scheme) {
+		
+		synchronized(this.applied) {
+			
+			Applied applied = this.applied.get(scheme.getTypeClass());
+			
+			if(applied == null || applied.scheme != scheme) {
+				
+				applied = new Applied(scheme);
+				
+				this.applied.put(scheme.getTypeClass(), applied);
+			}
+			
+			return applied.undo;
+		}
+	}
+	
+	public KsPolicy getPolicy() {
+		
+		return this.policy;
+	}
+	
+	private static class Applied {
+		
+		private final AccessScheme scheme;
+		private final List<Runnable> undo = Collections.synchronizedList(new ArrayList<>());
+		
+		private Applied(AccessScheme scheme) {
+			
+			this.scheme = scheme;
+		}
+	}
+}
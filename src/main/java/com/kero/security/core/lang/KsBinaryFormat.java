@@ -0,0 +1,238 @@
+package com.kero.security.core.lang;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.lang.exceptions.KsBinaryFormatException;
+
+public class KsBinaryFormat {
+
+	public static final int MAGIC = 0x4B534231;
+	public static final short VERSION = 1;
+	
+	private static final int HEADER_SIZE = 4 + 2 + 8;
+	
+	public static void write(KsPolicy policy, long fingerprint, Path file) {
+		
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		
+		for(KsScheme scheme : policy.getSchemes()) {
+			
+			intern(strings, scheme.getName());
+			
+			for(KsProperty property : scheme.getProperties()) {
+				
+				intern(strings, property.getName());
+				property.getGrantRoles().forEach((role)-> intern(strings, role));
+				property.getDenyRoles().forEach((role)-> intern(strings, role));
+				property.getPropagations().forEach((pair)-> {
+					
+					intern(strings, pair[0]);
+					intern(strings, pair[1]);
+				});
+			}
+		}
+		
+		Path temp = file.resolveSibling(file.getFileName()+".tmp");
+		
+		try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeLong(fingerprint);
+			
+			out.writeInt(strings.size());
+			
+			for(String value : strings.keySet()) {
+				
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			
+			out.writeInt(policy.getSchemes().size());
+			
+			for(KsScheme scheme : policy.getSchemes()) {
+				
+				out.writeInt(strings.get(scheme.getName()));
+				out.writeByte(scheme.getDefaultAccess().ordinal());
+				out.writeInt(scheme.getProperties().size());
+				
+				for(KsProperty property : scheme.getProperties()) {
+					
+					out.writeInt(strings.get(property.getName()));
+					out.writeByte(property.getDefaultAccess().ordinal());
+					
+					out.writeInt(property.getGrantRoles().size());
+					
+					for(String role : property.getGrantRoles()) {
+						
+						out.writeInt(strings.get(role));
+					}
+					
+					out.writeInt(property.getDenyRoles().size());
+					
+					for(String role : property.getDenyRoles()) {
+						
+						out.writeInt(strings.get(role));
+					}
+					
+					out.writeInt(property.getPropagations().size());
+					
+					for(String[] pair : property.getPropagations()) {
+						
+						out.writeInt(strings.get(pair[0]));
+						out.writeInt(strings.get(pair[1]));
+					}
+				}
+			}
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		try {
+			
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static long readFingerprint(Path file) {
+		
+		if(!Files.isRegularFile(file)) return 0;
+		
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			
+			if(channel.size() < HEADER_SIZE) return 0;
+			
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			
+			while(header.hasRemaining() && channel.read(header) != -1);
+			
+			header.flip();
+			
+			if(header.getInt() != MAGIC || header.getShort() != VERSION) return 0;
+			
+			return header.getLong();
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static KsPolicy read(Path file) {
+		
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static KsPolicy read(ByteBuffer buffer) {
+		
+		try {
+			
+			if(buffer.getInt() != MAGIC) throw new KsBinaryFormatException("Not a compiled Kero-Security policy");
+			
+			short version = buffer.getShort();
+			
+			if(version != VERSION) throw new KsBinaryFormatException("Unsupported compiled policy version: "+version);
+			
+			buffer.getLong();
+			
+			String[] strings = new String[readCount(buffer, 4)];
+			
+			for(int i = 0; i < strings.length; i++) {
+				
+				byte[] bytes = new byte[readCount(buffer, 1)];
+				
+				buffer.get(bytes);
+				
+				strings[i] = new String(bytes, StandardCharsets.UTF_8);
+			}
+			
+			Access[] accesses = Access.values();
+			
+			int schemesCount = readCount(buffer, 4 + 1 + 4);
+			
+			List<KsScheme> schemes = new ArrayList<>(schemesCount);
+			
+			for(int i = 0; i < schemesCount; i++) {
+				
+				KsScheme scheme = new KsScheme(strings[buffer.getInt()]);
+					scheme.setDefaultAccess(accesses[buffer.get()]);
+				
+				int propertiesCount = readCount(buffer, 4 + 1 + 4 + 4 + 4);
+				
+				for(int j = 0; j < propertiesCount; j++) {
+					
+					KsProperty property = scheme.getOrCreateProperty(strings[buffer.getInt()]);
+						property.setDefaultAccess(accesses[buffer.get()]);
+					
+					for(int k = readCount(buffer, 4); k > 0; k--) {
+						
+						property.grant(strings[buffer.getInt()]);
+					}
+					
+					for(int k = readCount(buffer, 4); k > 0; k--) {
+						
+						property.deny(strings[buffer.getInt()]);
+					}
+					
+					for(int k = readCount(buffer, 4 + 4); k > 0; k--) {
+						
+						property.propagate(strings[buffer.getInt()], strings[buffer.getInt()]);
+					}
+				}
+				
+				schemes.add(scheme);
+			}
+			
+			return new KsPolicy(schemes);
+		}
+		catch(BufferUnderflowException | IndexOutOfBoundsException e) {
+			
+			throw new KsBinaryFormatException("Corrupted compiled policy: "+e);
+		}
+	}
+	
+	private static int readCount(ByteBuffer buffer, int elementSize) {
+		
+		int count = buffer.getInt();
+		
+		if(count < 0 || (long) count * elementSize > buffer.remaining()) throw new KsBinaryFormatException("Corrupted compiled policy: count "+count+" exceeds remaining "+buffer.remaining()+" bytes");
+		
+		return count;
+	}
+	
+	private static void intern(Map<String, Integer> strings, String value) {
+		
+		strings.putIfAbsent(value, strings.size());
+	}
+}
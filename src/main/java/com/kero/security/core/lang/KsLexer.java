@@ -0,0 +1,194 @@
+package com.kero.security.core.lang;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+import com.kero.security.core.lang.exceptions.KsParseException;
+
+class KsLexer {
+
+	enum TokenType {
+		
+		IDENTIFIER, LEFT_PAREN, RIGHT_PAREN, LEFT_BRACE, RIGHT_BRACE, COLON, PLUS, MINUS, ARROW, COMMA, EOF;
+	}
+	
+	static class Token {
+		
+		final TokenType type;
+		final String text;
+		final int line;
+		final int column;
+		
+		Token(TokenType type, String text, int line, int column) {
+			
+			this.type = type;
+			this.text = text;
+			this.line = line;
+			this.column = column;
+		}
+		
+		String describe() {
+			
+			return this.type == TokenType.EOF ? "end of file" : "'"+this.text+"'";
+		}
+	}
+	
+	private Reader reader;
+	private String source;
+	
+	private char[] buffer = new char[8192];
+	private int position = 0;
+	private int limit = 0;
+	
+	private int line = 1;
+	private int column = 1;
+	
+	KsLexer(Reader reader, String source) {
+		
+		this.reader = reader;
+		this.source = source;
+	}
+	
+	Token next() {
+		
+		skipWhitespaceAndComments();
+		
+		int startLine = this.line;
+		int startColumn = this.column;
+		
+		int c = read();
+		
+		switch(c) {
+			
+			case -1: return new Token(TokenType.EOF, "", startLine, startColumn);
+			case '(': return new Token(TokenType.LEFT_PAREN, "(", startLine, startColumn);
+			case ')': return new Token(TokenType.RIGHT_PAREN, ")", startLine, startColumn);
+			case '{': return new Token(TokenType.LEFT_BRACE, "{", startLine, startColumn);
+			case '}': return new Token(TokenType.RIGHT_BRACE, "}", startLine, startColumn);
+			case ':': return new Token(TokenType.COLON, ":", startLine, startColumn);
+			case '+': return new Token(TokenType.PLUS, "+", startLine, startColumn);
+			case ',': return new Token(TokenType.COMMA, ",", startLine, startColumn);
+			case '-':
+				
+				if(peek() == '>') {
+					
+					read();
+					return new Token(TokenType.ARROW, "->", startLine, startColumn);
+				}
+				
+				return new Token(TokenType.MINUS, "-", startLine, startColumn);
+		}
+		
+		if(isIdentifierStart(c)) {
+			
+			StringBuilder builder = new StringBuilder();
+				builder.append((char) c);
+			
+			while(isIdentifierPart(peek())) {
+				
+				builder.append((char) read());
+			}
+			
+			return new Token(TokenType.IDENTIFIER, builder.toString(), startLine, startColumn);
+		}
+		
+		throw error(startLine, startColumn, "Unexpected character '"+(char) c+"'");
+	}
+	
+	KsParseException error(int line, int column, String message) {
+		
+		return new KsParseException(this.source, line, column, message);
+	}
+	
+	private void skipWhitespaceAndComments() {
+		
+		while(true) {
+			
+			int c = peek();
+			
+			if(c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+				
+				read();
+			}
+			else if(c == '/' && peekSecond() == '/') {
+				
+				while(peek() != '\n' && peek() != -1) {
+					
+					read();
+				}
+			}
+			else {
+				
+				return;
+			}
+		}
+	}
+	
+	private boolean isIdentifierStart(int c) {
+		
+		return c != -1 && (Character.isLetter(c) || c == '_' || c == '$');
+	}
+	
+	private boolean isIdentifierPart(int c) {
+		
+		return c != -1 && (Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.');
+	}
+	
+	private int read() {
+		
+		if(!fill(1)) return -1;
+		
+		char c = this.buffer[this.position++];
+		
+		if(c == '\n') {
+			
+			this.line++;
+			this.column = 1;
+		}
+		else {
+			
+			this.column++;
+		}
+		
+		return c;
+	}
+	
+	private int peek() {
+		
+		return fill(1) ? this.buffer[this.position] : -1;
+	}
+	
+	private int peekSecond() {
+		
+		return fill(2) ? this.buffer[this.position + 1] : -1;
+	}
+	
+	private boolean fill(int required) {
+		
+		if(this.limit - this.position >= required) return true;
+		
+		try {
+			
+			System.arraycopy(this.buffer, this.position, this.buffer, 0, this.limit - this.position);
+			
+			this.limit -= this.position;
+			this.position = 0;
+			
+			while(this.limit < required) {
+				
+				int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+				
+				if(read == -1) return false;
+				
+				this.limit += read;
+			}
+			
+			return true;
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.kero.security.core.lang;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.lang.KsLexer.Token;
+import com.kero.security.core.lang.KsLexer.TokenType;
+import com.kero.security.core.lang.exceptions.KsParseException;
+
+public class KsParser {
+
+	private static final String SCHEME_KEYWORD = "scheme";
+	private static final String PROPAGATION_KEYWORD = "propagation";
+	
+	private KsLexer lexer;
+	private Token current;
+	
+	private Set<String> schemeNames = new HashSet<>();
+	
+	public KsParser(Reader reader, String source) {
+		
+		this.lexer = new KsLexer(reader, source);
+	}
+	
+	public List<KsScheme> parse() {
+		
+		List<KsScheme> schemes = new ArrayList<>();
+		
+		parse(schemes::add);
+		
+		return schemes;
+	}
+	
+	public void parse(Consumer<KsScheme> consumer) {
+		
+		advance();
+		
+		while(this.current.type != TokenType.EOF) {
+			
+			consumer.accept(parseScheme());
+		}
+	}
+	
+	private KsScheme parseScheme() {
+		
+		Token keyword = expect(TokenType.IDENTIFIER, "'"+SCHEME_KEYWORD+"'");
+		
+		if(!keyword.text.equals(SCHEME_KEYWORD)) throw error(keyword, "Expected '"+SCHEME_KEYWORD+"' but found "+keyword.describe());
+		
+		Token name = expect(TokenType.IDENTIFIER, "scheme name");
+		
+		if(!this.schemeNames.add(name.text)) throw error(name, "Duplicate scheme '"+name.text+"'");
+		
+		KsScheme scheme = new KsScheme(name.text);
+		
+		if(this.current.type == TokenType.LEFT_PAREN) {
+			
+			scheme.setDefaultAccess(parseAccess());
+		}
+		
+		expect(TokenType.LEFT_BRACE, "'{'");
+		
+		while(this.current.type != TokenType.RIGHT_BRACE) {
+			
+			parseProperty(scheme);
+		}
+		
+		advance();
+		
+		return scheme;
+	}
+	
+	private void parseProperty(KsScheme scheme) {
+		
+		Token name = expect(TokenType.IDENTIFIER, "property name or '}'");
+		
+		KsProperty property = scheme.getOrCreateProperty(name.text);
+		
+		if(this.current.type == TokenType.LEFT_PAREN) {
+			
+			property.setDefaultAccess(parseAccess());
+		}
+		
+		expect(TokenType.COLON, "':'");
+		
+		while(true) {
+			
+			if(this.current.type == TokenType.PLUS) {
+				
+				advance();
+				property.grant(expect(TokenType.IDENTIFIER, "role name").text);
+			}
+			else if(this.current.type == TokenType.MINUS) {
+				
+				advance();
+				
+				Token role = expect(TokenType.IDENTIFIER, "role name or '"+PROPAGATION_KEYWORD+"'");
+				
+				if(role.text.equals(PROPAGATION_KEYWORD) && this.current.type == TokenType.COLON) {
+					
+					advance();
+					parsePropagations(property);
+				}
+				else {
+					
+					property.deny(role.text);
+				}
+			}
+			else {
+				
+				return;
+			}
+		}
+	}
+	
+	private void parsePropagations(KsProperty property) {
+		
+		while(true) {
+			
+			String from = expect(TokenType.IDENTIFIER, "role name").text;
+			
+			expect(TokenType.ARROW, "'->'");
+			
+			do {
+				
+				String to = expect(TokenType.IDENTIFIER, "role name").text;
+				
+				property.propagate(from, to);
+				
+				from = to;
+			}
+			while(consume(TokenType.ARROW));
+			
+			if(!consume(TokenType.COMMA)) return;
+		}
+	}
+	
+	private Access parseAccess() {
+		
+		expect(TokenType.LEFT_PAREN, "'('");
+		
+		Token token = expect(TokenType.IDENTIFIER, "access");
+		
+		Access access;
+		
+		switch(token.text) {
+			
+			case "G": case "GRANT": access = Access.GRANT; break;
+			case "D": case "DENY": access = Access.DENY; break;
+			default: throw error(token, "Unknown access "+token.describe()+", expected G or D");
+		}
+		
+		expect(TokenType.RIGHT_PAREN, "')'");
+		
+		return access;
+	}
+	
+	private boolean consume(TokenType type) {
+		
+		if(this.current.type != type) return false;
+		
+		advance();
+		
+		return true;
+	}
+	
+	private Token expect(TokenType type, String expected) {
+		
+		Token token = this.current;
+		
+		if(token.type != type) throw error(token, "Expected "+expected+" but found "+token.describe());
+		
+		advance();
+		
+		return token;
+	}
+	
+	private void advance() {
+		
+		this.current = this.lexer.next();
+	}
+	
+	private KsParseException error(Token token, String message) {
+		
+		return this.lexer.error(token.line, token.column, message);
+	}
+}
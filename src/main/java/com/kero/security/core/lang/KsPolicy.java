@@ -0,0 +1,158 @@
+package com.kero.security.core.lang;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+
+public class KsPolicy {
+
+	private static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private Map<String, KsScheme> schemes = new LinkedHashMap<>();
+	
+	public KsPolicy(List<KsScheme> schemes) {
+		
+		for(KsScheme scheme : schemes) {
+			
+			this.schemes.put(scheme.getName(), scheme);
+		}
+	}
+	
+	public KsScheme getScheme(String name) {
+		
+		return this.schemes.get(name);
+	}
+	
+	public Collection<KsScheme> getSchemes() {
+		
+		return Collections.unmodifiableCollection(this.schemes.values());
+	}
+	
+	public KsAccessSchemeConfigurator createConfigurator() {
+		
+		return new KsAccessSchemeConfigurator(this);
+	}
+	
+	public KsAccessSchemeConfigurator apply(KeroAccessAgent agent) {
+		
+		return reload(agent, null);
+	}
+	
+	public KsAccessSchemeConfigurator reload(KeroAccessAgent agent, KsAccessSchemeConfigurator previous) {
+		
+		KsAccessSchemeConfigurator configurator = createConfigurator();
+		
+		agent.updatePolicy((root)-> {
+			
+			if(previous != null) {
+				
+				agent.removeConfigurator(previous);
+				agent.getSchemeStorage().values().forEach(previous::revoke);
+			}
+			
+			agent.addConfigurator(configurator);
+			
+			try {
+				
+				agent.getSchemeStorage().values().forEach(configurator::configure);
+			}
+			catch(RuntimeException | Error e) {
+				
+				agent.removeConfigurator(configurator);
+				agent.getSchemeStorage().values().forEach(configurator::revoke);
+				
+				if(previous != null) {
+					
+					agent.addConfigurator(previous);
+					agent.getSchemeStorage().values().forEach(previous::configure);
+				}
+				
+				throw e;
+			}
+		});
+		
+		return configurator;
+	}
+	
+	public void write(Path file) {
+		
+		KsBinaryFormat.write(this, 0, file);
+	}
+	
+	public static KsPolicy parse(Reader reader, String source) {
+		
+		return new KsPolicy(new KsParser(reader, source).parse());
+	}
+	
+	public static KsPolicy parse(Path file) {
+		
+		try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			
+			return parse(reader, file.toString());
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static KsPolicy read(Path compiledFile) {
+		
+		return KsBinaryFormat.read(compiledFile);
+	}
+	
+	public static KsPolicy load(Path file, Path compiledFile) {
+		
+		byte[] source;
+		
+		try {
+			
+			source = Files.readAllBytes(file);
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		long fingerprint = fingerprint(source);
+		
+		if(KsBinaryFormat.readFingerprint(compiledFile) == fingerprint) {
+			
+			LOGGER.debug("Loading compiled policy: "+compiledFile);
+			
+			return KsBinaryFormat.read(compiledFile);
+		}
+		
+		LOGGER.debug("Compiling policy: "+file+" into: "+compiledFile);
+		
+		KsPolicy policy = parse(new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8), file.toString());
+		
+		KsBinaryFormat.write(policy, fingerprint, compiledFile);
+		
+		return policy;
+	}
+	
+	private static long fingerprint(byte[] source) {
+		
+		CRC32 crc = new CRC32();
+			crc.update(source);
+		
+		return ((long) source.length << 32) | crc.getValue() | Long.MIN_VALUE;
+	}
+}
@@ -0,0 +1,69 @@
+package com.kero.security.core.lang;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.kero.security.core.access.Access;
+
+public class KsProperty {
+
+	private String name;
+	private Access defaultAccess = Access.UNKNOWN;
+	
+	private Set<String> grantRoles = new LinkedHashSet<>();
+	private Set<String> denyRoles = new LinkedHashSet<>();
+	private List<String[]> propagations = new ArrayList<>();
+	
+	public KsProperty(String name) {
+		
+		this.name = name;
+	}
+	
+	public void setDefaultAccess(Access defaultAccess) {
+		
+		this.defaultAccess = defaultAccess;
+	}
+	
+	public void grant(String role) {
+		
+		this.grantRoles.add(role);
+	}
+	
+	public void deny(String role) {
+		
+		this.denyRoles.add(role);
+	}
+	
+	public void propagate(String from, String to) {
+		
+		this.propagations.add(new String[] {from, to});
+	}
+	
+	public String getName() {
+		
+		return this.name;
+	}
+	
+	public Access getDefaultAccess() {
+		
+		return this.defaultAccess;
+	}
+	
+	public Set<String> getGrantRoles() {
+		
+		return Collections.unmodifiableSet(this.grantRoles);
+	}
+	
+	public Set<String> getDenyRoles() {
+		
+		return Collections.unmodifiableSet(this.denyRoles);
+	}
+	
+	public List<String[]> getPropagations() {
+		
+		return Collections.unmodifiableList(this.propagations);
+	}
+}
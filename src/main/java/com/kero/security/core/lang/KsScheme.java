@@ -0,0 +1,46 @@
+package com.kero.security.core.lang;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.kero.security.core.access.Access;
+
+public class KsScheme {
+
+	private String name;
+	private Access defaultAccess = Access.UNKNOWN;
+	
+	private Map<String, KsProperty> properties = new LinkedHashMap<>();
+	
+	public KsScheme(String name) {
+		
+		this.name = name;
+	}
+	
+	public void setDefaultAccess(Access defaultAccess) {
+		
+		this.defaultAccess = defaultAccess;
+	}
+	
+	public KsProperty getOrCreateProperty(String name) {
+		
+		return this.properties.computeIfAbsent(name, KsProperty::new);
+	}
+	
+	public String getName() {
+		
+		return this.name;
+	}
+	
+	public Access getDefaultAccess() {
+		
+		return this.defaultAccess;
+	}
+	
+	public Collection<KsProperty> getProperties() {
+		
+		return Collections.unmodifiableCollection(this.properties.values());
+	}
+}
@@ -0,0 +1,11 @@
+package com.kero.security.core.lang.exceptions;
+
+public class KsBinaryFormatException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	public KsBinaryFormatException(String message) {
+		super(message);
+	
+	}
+}
@@ -0,0 +1,33 @@
+package com.kero.security.core.lang.exceptions;
+
+public class KsParseException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	private String source;
+	private int line;
+	private int column;
+	
+	public KsParseException(String source, int line, int column, String message) {
+		super(source+":"+line+":"+column+": "+message);
+		
+		this.source = source;
+		this.line = line;
+		this.column = column;
+	}
+	
+	public String getSource() {
+		
+		return this.source;
+	}
+	
+	public int getLine() {
+		
+		return this.line;
+	}
+	
+	public int getColumn() {
+		
+		return this.column;
+	}
+}
@@ -0,0 +1,24 @@
+package com.kero.security.core.management;
+
+import java.util.List;
+
+public interface KeroAgentMXBean {
+
+	public int getSchemeCount();
+	public int getProtectorCount();
+	public long getConfigurationVersion();
+	
+	public long getProxyClassCount();
+	public long getProxyClassBytes();
+	public int getBridgeClassLoaderCount();
+	public long getMetaspaceUsed();
+	
+	public List<SchemeCacheStats> getCacheStats();
+	
+	public void clearCaches();
+	public boolean clearSchemeCaches(String schemeName);
+	
+	public String warmUp(String[] classNames, String[] roles);
+	
+	public String[] dumpDecisionTable(String schemeName, String[] roles);
+}
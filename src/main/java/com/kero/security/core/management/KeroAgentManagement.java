@@ -0,0 +1,343 @@
+package com.kero.security.core.management;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.warmup.WarmUpReport;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.config.action.DelegatingAction;
+import com.kero.security.core.config.cache.CacheStats;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
+import com.kero.security.core.management.exceptions.KeroManagementException;
+import com.kero.security.core.metrics.Decision;
+import com.kero.security.core.protector.BaseKeroProtector;
+import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.proxy.ProxyClassLoading;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+import com.kero.security.core.scheme.AccessSchemeCacheWrap;
+
+public class KeroAgentManagement implements KeroAgentMXBean {
+
+	public static final String DOMAIN = "com.kero.security";
+	
+	private final KeroAccessAgent agent;
+	
+	private MBeanServer server;
+	private ObjectName objectName;
+	
+	public KeroAgentManagement(KeroAccessAgent agent) {
+		
+		this.agent = agent;
+	}
+	
+	public synchronized ObjectName register(MBeanServer server, String name) {
+		
+		if(this.objectName != null) throw new KeroManagementException("Already registered as: "+this.objectName);
+		
+		try {
+			
+			ObjectName objectName = new ObjectName(DOMAIN+":type=KeroAccessAgent,name="+ObjectName.quote(name));
+			
+			server.registerMBean(this, objectName);
+			
+			this.server = server;
+			this.objectName = objectName;
+			
+			return objectName;
+		}
+		catch(JMException e) {
+			
+			throw new KeroManagementException("Can't register agent MBean: "+name, e);
+		}
+	}
+	
+	public synchronized void unregister() {
+		
+		if(this.objectName == null) return;
+		
+		try {
+			
+			server.unregisterMBean(this.objectName);
+		}
+		catch(JMException e) {
+			
+			throw new KeroManagementException("Can't unregister agent MBean: "+this.objectName, e);
+		}
+		finally {
+			
+			this.server = null;
+			this.objectName = null;
+		}
+	}
+	
+	public ObjectName getObjectName() {
+		
+		return this.objectName;
+	}
+	
+	@Override
+	public int getSchemeCount() {
+		
+		return agent.getSchemeStorage().size();
+	}
+	
+	@Override
+	public int getProtectorCount() {
+		
+		return agent.getProtectorStorage().getProtectors().size();
+	}
+	
+	@Override
+	public long getConfigurationVersion() {
+		
+		return agent.getConfigurationVersion();
+	}
+	
+	@Override
+	public long getProxyClassCount() {
+		
+		return ProxyClassLoading.getLoadedClassesCount();
+	}
+	
+	@Override
+	public long getProxyClassBytes() {
+		
+		return ProxyClassLoading.getLoadedBytes();
+	}
+	
+	@Override
+	public int getBridgeClassLoaderCount() {
+		
+		return ProxyClassLoading.getBridgesCount();
+	}
+	
+	@Override
+	public long getMetaspaceUsed() {
+		
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			
+			if(pool.getName().equals("Metaspace")) return pool.getUsage().getUsed();
+		}
+		
+		return -1;
+	}
+	
+	@Override
+	public List<SchemeCacheStats> getCacheStats() {
+		
+		List<SchemeCacheStats> result = new ArrayList<>();
+		
+		for(KeroProtector protector : agent.getProtectorStorage().getProtectors()) {
+			
+			if(!(protector instanceof BaseKeroProtector)) continue;
+			
+			AccessScheme scheme = ((BaseKeroProtector) protector).getScheme();
+			
+			if(!(scheme instanceof AccessSchemeCacheWrap)) continue;
+			
+			PreparedAccessConfigurationCache cache = ((AccessSchemeCacheWrap) scheme).getConfigsCache();
+			CacheStats stats = cache.getStats();
+			
+			result.add(new SchemeCacheStats(scheme.getName(), scheme.getTypeClass().getName(), cache.size(), stats.getHitCount(), stats.getMissCount(), stats.getEvictionCount(), stats.getHitRate()));
+		}
+		
+		result.sort((a, b)-> a.getType().compareTo(b.getType()));
+		
+		return result;
+	}
+	
+	@Override
+	public void clearCaches() {
+		
+		for(KeroProtector protector : agent.getProtectorStorage().getProtectors()) {
+			
+			protector.clearCaches();
+		}
+	}
+	
+	@Override
+	public boolean clearSchemeCaches(String schemeName) {
+		
+		boolean cleared = false;
+		
+		for(KeroProtector protector : agent.getProtectorStorage().getProtectors()) {
+			
+			if(!(protector instanceof BaseKeroProtector)) continue;
+			
+			if(matches(((BaseKeroProtector) protector).getScheme(), schemeName)) {
+				
+				protector.clearCaches();
+				cleared = true;
+			}
+		}
+		
+		return cleared;
+	}
+	
+	@Override
+	public String warmUp(String[] classNames, String[] roles) {
+		
+		List<Class<?>> types = new ArrayList<>();
+		List<String> missing = new ArrayList<>();
+		
+		for(String className : classNames) {
+			
+			Class<?> type = loadClass(className);
+			
+			if(type != null) {
+				
+				types.add(type);
+			}
+			else {
+				
+				missing.add(className);
+			}
+		}
+		
+		WarmUpReport report = agent.warmUp()
+			.types(types)
+			.roles(roles != null ? roles : new String[0])
+			.run();
+		
+		return missing.isEmpty() ? report.toString() : report+", missing classes: "+missing;
+	}
+	
+	@Override
+	public String[] dumpDecisionTable(String schemeName, String[] roleNames) {
+		
+		AccessScheme scheme = findScheme(schemeName);
+		Set<Role> roles = findRoles(roleNames != null ? roleNames : new String[0]);
+		
+		PreparedAccessConfiguration config = scheme.prepareAccessConfiguration(roles);
+		
+		Map<String, String> table = new TreeMap<>();
+		
+		for(Method method : scheme.getTypeClass().getMethods()) {
+			
+			if(Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class) continue;
+			
+			table.putIfAbsent(agent.extractPropertyName(method.getName()), describe(config.getAction(method)));
+		}
+		
+		List<String> lines = new ArrayList<>(table.size());
+		
+		table.forEach((property, decision)-> lines.add(property+": "+decision));
+		
+		return lines.toArray(new String[0]);
+	}
+	
+	private String describe(Action action) {
+		
+		Action original = DelegatingAction.unwrap(action);
+		Decision decision = Decision.of(original);
+		
+		if(original instanceof ActionGrant) {
+			
+			Collection<Role> propagated = ((ActionGrant) original).getPropagatedRoles();
+			
+			if(!propagated.isEmpty()) {
+				
+				List<String> names = new ArrayList<>();
+				
+				propagated.forEach((role)-> names.add(role.getName()));
+				names.sort(null);
+				
+				return decision+" -> "+names;
+			}
+		}
+		
+		return decision.name();
+	}
+	
+	private AccessScheme findScheme(String schemeName) {
+		
+		if(agent.getSchemeStorage().isAmbiguous(schemeName)) throw new KeroManagementException("Scheme name \""+schemeName+"\" is ambiguous, use the class name");
+		
+		AccessScheme scheme = agent.getSchemeByName(schemeName);
+		
+		if(scheme != AccessScheme.EMPTY) return scheme;
+		
+		Class<?> type = loadClass(schemeName);
+		
+		scheme = type != null ? agent.getSchemeStorage().get(type) : null;
+		
+		if(scheme == null) throw new KeroManagementException("Unknown scheme: "+schemeName);
+		
+		return scheme;
+	}
+	
+	private Set<Role> findRoles(String[] roleNames) {
+		
+		List<Role> roles = new ArrayList<>(roleNames.length);
+		List<String> unknown = new ArrayList<>();
+		
+		for(String roleName : roleNames) {
+			
+			Role role = agent.getRole(roleName);
+			
+			if(role != null) {
+				
+				roles.add(role);
+			}
+			else {
+				
+				unknown.add(roleName);
+			}
+		}
+		
+		if(!unknown.isEmpty()) throw new KeroManagementException("Unknown roles: "+unknown);
+		
+		return agent.getRoleStorage().toRoleSet(roles);
+	}
+	
+	private boolean matches(AccessScheme scheme, String schemeName) {
+		
+		return scheme.getName().equals(schemeName) || scheme.getTypeClass().getName().equals(schemeName);
+	}
+	
+	private Class<?> loadClass(String className) {
+		
+		ClassLoader[] loaders = {Thread.currentThread().getContextClassLoader(), agent.getClass().getClassLoader()};
+		
+		for(ClassLoader loader : loaders) {
+			
+			if(loader == null) continue;
+			
+			try {
+				
+				return Class.forName(className, false, loader);
+			}
+			catch(ClassNotFoundException | LinkageError e) {
+				
+				continue;
+			}
+		}
+		
+		return null;
+	}
+	
+	public static KeroAgentManagement register(KeroAccessAgent agent, String name) {
+		
+		KeroAgentManagement management = new KeroAgentManagement(agent);
+		
+		management.register(ManagementFactory.getPlatformMBeanServer(), name);
+		
+		return management;
+	}
+}
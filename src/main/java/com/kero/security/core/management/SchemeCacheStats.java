@@ -0,0 +1,61 @@
+package com.kero.security.core.management;
+
+import java.beans.ConstructorProperties;
+
+public class SchemeCacheStats {
+
+	private final String scheme;
+	private final String type;
+	private final int size;
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final double hitRate;
+	
+	@ConstructorProperties({"scheme", "type", "size", "hitCount", "missCount", "evictionCount", "hitRate"})
+	public SchemeCacheStats(String scheme, String type, int size, long hitCount, long missCount, long evictionCount, double hitRate) {
+		
+		this.scheme = scheme;
+		this.type = type;
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.hitRate = hitRate;
+	}
+	
+	public String getScheme() {
+		
+		return this.scheme;
+	}
+	
+	public String getType() {
+		
+		return this.type;
+	}
+	
+	public int getSize() {
+		
+		return this.size;
+	}
+	
+	public long getHitCount() {
+		
+		return this.hitCount;
+	}
+	
+	public long getMissCount() {
+		
+		return this.missCount;
+	}
+	
+	public long getEvictionCount() {
+		
+		return this.evictionCount;
+	}
+	
+	public double getHitRate() {
+		
+		return this.hitRate;
+	}
+}
@@ -0,0 +1,16 @@
+package com.kero.security.core.management.exceptions;
+
+public class KeroManagementException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	
+	public KeroManagementException(String message) {
+		super(message);
+	
+	}
+	
+	public KeroManagementException(String message, Throwable cause) {
+		super(message, cause);
+	
+	}
+}
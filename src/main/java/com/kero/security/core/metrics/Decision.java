@@ -0,0 +1,21 @@
+package com.kero.security.core.metrics;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionDeny;
+import com.kero.security.core.config.action.ActionInterceptor;
+import com.kero.security.core.config.action.DelegatingAction;
+
+public enum Decision {
+
+	GRANT, DENY, INTERCEPT;
+	
+	public static Decision of(Action action) {
+		
+		action = DelegatingAction.unwrap(action);
+		
+		if(action instanceof ActionDeny) return DENY;
+		if(action instanceof ActionInterceptor) return INTERCEPT;
+		
+		return GRANT;
+	}
+}
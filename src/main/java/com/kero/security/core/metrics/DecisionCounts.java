@@ -0,0 +1,51 @@
+package com.kero.security.core.metrics;
+
+public class DecisionCounts {
+
+	private final long grants;
+	private final long denies;
+	private final long intercepts;
+	
+	public DecisionCounts(long grants, long denies, long intercepts) {
+		
+		this.grants = grants;
+		this.denies = denies;
+		this.intercepts = intercepts;
+	}
+	
+	public long get(Decision decision) {
+		
+		switch(decision) {
+			
+			case GRANT: return this.grants;
+			case DENY: return this.denies;
+			default: return this.intercepts;
+		}
+	}
+	
+	public long getTotal() {
+		
+		return grants + denies + intercepts;
+	}
+	
+	public long getGrants() {
+		
+		return this.grants;
+	}
+	
+	public long getDenies() {
+		
+		return this.denies;
+	}
+	
+	public long getIntercepts() {
+		
+		return this.intercepts;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "DecisionCounts [grants="+grants+", denies="+denies+", intercepts="+intercepts+"]";
+	}
+}
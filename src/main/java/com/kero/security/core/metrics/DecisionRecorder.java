@@ -0,0 +1,7 @@
+package com.kero.security.core.metrics;
+
+@FunctionalInterface
+public interface DecisionRecorder {
+
+	public void record(Decision decision);
+}
@@ -0,0 +1,68 @@
+package com.kero.security.core.metrics;
+
+public class HistogramSnapshot {
+
+	private final long[] buckets;
+	private final long count;
+	private final long total;
+	private final long max;
+	
+	public HistogramSnapshot(long[] buckets, long total, long max) {
+		
+		this.buckets = buckets;
+		this.total = total;
+		this.max = max;
+		
+		long count = 0;
+		
+		for(long bucket : buckets) {
+			
+			count += bucket;
+		}
+		
+		this.count = count;
+	}
+	
+	public long getPercentile(double percentile) {
+		
+		if(count == 0) return 0;
+		
+		long rank = (long) Math.ceil(count * Math.min(1.0, Math.max(0.0, percentile)));
+		long seen = 0;
+		
+		for(int i = 0; i < buckets.length; i++) {
+			
+			seen += buckets[i];
+			
+			if(seen >= rank && seen > 0) return Math.min(LatencyHistogram.upperBoundOf(i), max);
+		}
+		
+		return max;
+	}
+	
+	public double getMean() {
+		
+		return count == 0 ? 0.0 : (double) total / count;
+	}
+	
+	public long getCount() {
+		
+		return this.count;
+	}
+	
+	public long getTotal() {
+		
+		return this.total;
+	}
+	
+	public long getMax() {
+		
+		return this.max;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "HistogramSnapshot [count="+count+", mean="+getMean()+", p50="+getPercentile(0.5)+", p99="+getPercentile(0.99)+", max="+max+"]";
+	}
+}
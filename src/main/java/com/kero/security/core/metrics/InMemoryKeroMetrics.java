@@ -0,0 +1,165 @@
+package com.kero.security.core.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.kero.security.core.scheme.AccessScheme;
+
+public class InMemoryKeroMetrics implements KeroMetrics {
+
+	public static int DEFAULT_SAMPLE_RATE = 64;
+	
+	private final int sampleRate;
+	
+	private final LongAdder protects = new LongAdder();
+	private final Map<Class<?>, LongAdder> protectsByType = new ConcurrentHashMap<>();
+	
+	private final Map<String, Map<String, DecisionCounters>> decisions = new ConcurrentHashMap<>();
+	
+	private final LongAdder configurationRequests = new LongAdder();
+	private final LongAdder configurationPrepares = new LongAdder();
+	private final LongAdder proxyClasses = new LongAdder();
+	
+	private final LatencyHistogram protectLatency = new LatencyHistogram();
+	private final LatencyHistogram prepareLatency = new LatencyHistogram();
+	private final LatencyHistogram proxyClassLatency = new LatencyHistogram();
+	
+	public InMemoryKeroMetrics() {
+		
+		this(DEFAULT_SAMPLE_RATE);
+	}
+	
+	public InMemoryKeroMetrics(int sampleRate) {
+		
+		if(sampleRate < 1) throw new IllegalArgumentException("Sample rate must be positive: "+sampleRate);
+		
+		this.sampleRate = sampleRate;
+	}
+	
+	@Override
+	public boolean sample() {
+		
+		return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+	}
+	
+	@Override
+	public void protect(Class<?> type, long nanos) {
+		
+		protects.increment();
+		
+		LongAdder counter = protectsByType.get(type);
+		
+		if(counter == null) {
+			
+			counter = protectsByType.computeIfAbsent(type, (key)-> new LongAdder());
+		}
+		
+		counter.increment();
+		
+		protectLatency.record(nanos);
+	}
+	
+	@Override
+	public void decision(AccessScheme scheme, String property, Decision decision) {
+		
+		decisionRecorder(scheme, property).record(decision);
+	}
+	
+	@Override
+	public DecisionRecorder decisionRecorder(AccessScheme scheme, String property) {
+		
+		Map<String, DecisionCounters> properties = decisions.get(scheme.getName());
+		
+		if(properties == null) {
+			
+			properties = decisions.computeIfAbsent(scheme.getName(), (key)-> new ConcurrentHashMap<>());
+		}
+		
+		DecisionCounters counters = properties.get(property);
+		
+		if(counters == null) {
+			
+			counters = properties.computeIfAbsent(property, (key)-> new DecisionCounters(sampleRate));
+		}
+		
+		return counters;
+	}
+	
+	@Override
+	public void configurationRequested(AccessScheme scheme) {
+		
+		configurationRequests.increment();
+	}
+	
+	@Override
+	public void configurationPrepared(AccessScheme scheme, long nanos) {
+		
+		configurationPrepares.increment();
+		prepareLatency.record(nanos);
+	}
+	
+	@Override
+	public void proxyClassCreated(Class<?> type, long nanos) {
+		
+		proxyClasses.increment();
+		proxyClassLatency.record(nanos);
+	}
+	
+	public MetricsSnapshot snapshot() {
+		
+		Map<Class<?>, Long> protectsByType = new HashMap<>();
+		
+		this.protectsByType.forEach((type, counter)-> protectsByType.put(type, counter.sum()));
+		
+		Map<String, Map<String, DecisionCounts>> decisions = new HashMap<>();
+		
+		this.decisions.forEach((scheme, properties)-> {
+			
+			Map<String, DecisionCounts> counts = new HashMap<>();
+			
+			properties.forEach((property, counters)-> counts.put(property, counters.snapshot()));
+			
+			decisions.put(scheme, counts);
+		});
+		
+		return new MetricsSnapshot(this.sampleRate, protects.sum(), protectsByType, decisions, configurationRequests.sum(), configurationPrepares.sum(), proxyClasses.sum(), protectLatency.snapshot(), prepareLatency.snapshot(), proxyClassLatency.snapshot());
+	}
+	
+	public int getSampleRate() {
+		
+		return this.sampleRate;
+	}
+	
+	private static class DecisionCounters implements DecisionRecorder {
+		
+		private final int weight;
+		
+		private final LongAdder grants = new LongAdder();
+		private final LongAdder denies = new LongAdder();
+		private final LongAdder intercepts = new LongAdder();
+		
+		private DecisionCounters(int weight) {
+			
+			this.weight = weight;
+		}
+		
+		@Override
+		public void record(Decision decision) {
+			
+			switch(decision) {
+				
+				case GRANT: grants.add(weight); break;
+				case DENY: denies.add(weight); break;
+				default: intercepts.add(weight); break;
+			}
+		}
+		
+		private DecisionCounts snapshot() {
+			
+			return new DecisionCounts(grants.sum(), denies.sum(), intercepts.sum());
+		}
+	}
+}
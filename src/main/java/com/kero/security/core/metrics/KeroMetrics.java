@@ -0,0 +1,85 @@
+package com.kero.security.core.metrics;
+
+import com.kero.security.core.scheme.AccessScheme;
+
+public interface KeroMetrics {
+
+	public static KeroMetrics EMPTY = new Empty();
+	
+	public static long NOT_SAMPLED = -1;
+	
+	public default boolean isEnabled() {
+		
+		return true;
+	}
+	
+	public boolean sample();
+	
+	public void protect(Class<?> type, long nanos);
+	
+	public void decision(AccessScheme scheme, String property, Decision decision);
+	
+	public default DecisionRecorder decisionRecorder(AccessScheme scheme, String property) {
+		
+		return (decision)-> decision(scheme, property, decision);
+	}
+	
+	public void configurationRequested(AccessScheme scheme);
+	public void configurationPrepared(AccessScheme scheme, long nanos);
+	
+	public void proxyClassCreated(Class<?> type, long nanos);
+	
+	public static InMemoryKeroMetrics create() {
+		
+		return new InMemoryKeroMetrics();
+	}
+	
+	public static InMemoryKeroMetrics create(int sampleRate) {
+		
+		return new InMemoryKeroMetrics(sampleRate);
+	}
+	
+	static class Empty implements KeroMetrics {
+		
+		private Empty() {
+		
+		}
+		
+		@Override
+		public boolean isEnabled() {
+			
+			return false;
+		}
+		
+		@Override
+		public boolean sample() {
+			
+			return false;
+		}
+		
+		@Override
+		public void protect(Class<?> type, long nanos) {
+		
+		}
+		
+		@Override
+		public void decision(AccessScheme scheme, String property, Decision decision) {
+		
+		}
+		
+		@Override
+		public void configurationRequested(AccessScheme scheme) {
+		
+		}
+		
+		@Override
+		public void configurationPrepared(AccessScheme scheme, long nanos) {
+		
+		}
+		
+		@Override
+		public void proxyClassCreated(Class<?> type, long nanos) {
+		
+		}
+	}
+}
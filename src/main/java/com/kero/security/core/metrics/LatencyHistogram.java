@@ -0,0 +1,52 @@
+package com.kero.security.core.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+	private static final int BUCKETS = 64;
+	
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	
+	public LatencyHistogram() {
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			
+			buckets[i] = new LongAdder();
+		}
+	}
+	
+	public void record(long nanos) {
+		
+		if(nanos < 0) return;
+		
+		buckets[bucketOf(nanos)].increment();
+		total.add(nanos);
+		max.accumulate(nanos);
+	}
+	
+	public HistogramSnapshot snapshot() {
+		
+		long[] counts = new long[BUCKETS];
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			
+			counts[i] = buckets[i].sum();
+		}
+		
+		return new HistogramSnapshot(counts, total.sum(), max.get());
+	}
+	
+	static int bucketOf(long nanos) {
+		
+		return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+	}
+	
+	static long upperBoundOf(int bucket) {
+		
+		return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+}
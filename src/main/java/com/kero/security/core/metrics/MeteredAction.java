@@ -0,0 +1,39 @@
+package com.kero.security.core.metrics;
+
+import java.lang.reflect.Method;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.DelegatingAction;
+
+public class MeteredAction implements DelegatingAction {
+
+	private final Action action;
+	private final Decision decision;
+	private final DecisionRecorder recorder;
+	
+	public MeteredAction(Action action, DecisionRecorder recorder) {
+		
+		this.action = action;
+		this.decision = Decision.of(action);
+		this.recorder = recorder;
+	}
+	
+	@Override
+	public Object process(Method method, Object original, Object[] args) {
+		
+		recorder.record(decision);
+		
+		return action.process(method, original, args);
+	}
+	
+	@Override
+	public Action getDelegate() {
+		
+		return this.action;
+	}
+	
+	public Decision getDecision() {
+		
+		return this.decision;
+	}
+}
@@ -0,0 +1,75 @@
+package com.kero.security.core.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.scheme.AccessProxy;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class MeteredPreparedAccessConfiguration implements PreparedAccessConfiguration {
+
+	private final PreparedAccessConfiguration original;
+	private final AccessScheme scheme;
+	private final KeroMetrics metrics;
+	
+	private final Map<Method, Action> actions = new ConcurrentHashMap<>();
+	
+	public MeteredPreparedAccessConfiguration(PreparedAccessConfiguration original, AccessScheme scheme, KeroMetrics metrics) {
+		
+		this.original = original;
+		this.scheme = scheme;
+		this.metrics = metrics;
+	}
+	
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) {
+		
+		Object original = ((AccessProxy) proxy).getOriginal();
+		
+		return getAction(method).process(method, original, args);
+	}
+	
+	@Override
+	public Action getAction(Method method) {
+		
+		Action action = actions.get(method);
+		
+		if(action == null) {
+			
+			action = actions.computeIfAbsent(method, this::meter);
+		}
+		
+		return action;
+	}
+	
+	@Override
+	public Action[] getActions(Method[] methods) {
+		
+		Action[] actions = new Action[methods.length];
+		
+		for(int i = 0; i < methods.length; i++) {
+			
+			actions[i] = getAction(methods[i]);
+		}
+		
+		return actions;
+	}
+	
+	private Action meter(Method method) {
+		
+		KeroAccessAgent agent = scheme.getAgent();
+		
+		String property = agent != null ? agent.extractPropertyName(method.getName()) : method.getName();
+		
+		return new MeteredAction(original.getAction(method), metrics.decisionRecorder(scheme, property));
+	}
+	
+	public PreparedAccessConfiguration getOriginal() {
+		
+		return this.original;
+	}
+}
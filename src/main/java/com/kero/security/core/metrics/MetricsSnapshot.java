@@ -0,0 +1,142 @@
+package com.kero.security.core.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MetricsSnapshot {
+
+	private final int sampleRate;
+	
+	private final long protectCount;
+	private final Map<Class<?>, Long> protectsByType;
+	
+	private final Map<String, Map<String, DecisionCounts>> decisions;
+	
+	private final long configurationRequests;
+	private final long configurationPrepares;
+	private final long proxyClassCount;
+	
+	private final HistogramSnapshot protectLatency;
+	private final HistogramSnapshot prepareLatency;
+	private final HistogramSnapshot proxyClassLatency;
+	
+	public MetricsSnapshot(int sampleRate, long protectCount, Map<Class<?>, Long> protectsByType, Map<String, Map<String, DecisionCounts>> decisions, long configurationRequests, long configurationPrepares, long proxyClassCount, HistogramSnapshot protectLatency, HistogramSnapshot prepareLatency, HistogramSnapshot proxyClassLatency) {
+		
+		this.sampleRate = sampleRate;
+		this.protectCount = protectCount;
+		this.protectsByType = Collections.unmodifiableMap(protectsByType);
+		this.decisions = Collections.unmodifiableMap(decisions);
+		this.configurationRequests = configurationRequests;
+		this.configurationPrepares = configurationPrepares;
+		this.proxyClassCount = proxyClassCount;
+		this.protectLatency = protectLatency;
+		this.prepareLatency = prepareLatency;
+		this.proxyClassLatency = proxyClassLatency;
+	}
+	
+	public long getProtectCount(Class<?> type) {
+		
+		return protectsByType.getOrDefault(type, 0L);
+	}
+	
+	public Map<String, DecisionCounts> getDecisions(String schemeName) {
+		
+		return Collections.unmodifiableMap(decisions.getOrDefault(schemeName, Collections.emptyMap()));
+	}
+	
+	public DecisionCounts getDecisions(String schemeName, String property) {
+		
+		return getDecisions(schemeName).getOrDefault(property, new DecisionCounts(0, 0, 0));
+	}
+	
+	public Map<String, Long> getDecisionsBySchemes() {
+		
+		Map<String, Long> totals = new HashMap<>();
+		
+		decisions.forEach((scheme, properties)-> {
+			
+			long total = 0;
+			
+			for(DecisionCounts counts : properties.values()) {
+				
+				total += counts.getTotal();
+			}
+			
+			totals.put(scheme, total);
+		});
+		
+		return totals;
+	}
+	
+	public long getDecisionCount(Decision decision) {
+		
+		long total = 0;
+		
+		for(Map<String, DecisionCounts> properties : decisions.values()) {
+			
+			for(DecisionCounts counts : properties.values()) {
+				
+				total += counts.get(decision);
+			}
+		}
+		
+		return total;
+	}
+	
+	public double getConfigurationHitRate() {
+		
+		return configurationRequests == 0 ? 1.0 : (double) (configurationRequests - configurationPrepares) / configurationRequests;
+	}
+	
+	public int getSampleRate() {
+		
+		return this.sampleRate;
+	}
+	
+	public long getProtectCount() {
+		
+		return this.protectCount;
+	}
+	
+	public Map<Class<?>, Long> getProtectsByType() {
+		
+		return this.protectsByType;
+	}
+	
+	public long getConfigurationRequests() {
+		
+		return this.configurationRequests;
+	}
+	
+	public long getConfigurationPrepares() {
+		
+		return this.configurationPrepares;
+	}
+	
+	public long getProxyClassCount() {
+		
+		return this.proxyClassCount;
+	}
+	
+	public HistogramSnapshot getProtectLatency() {
+		
+		return this.protectLatency;
+	}
+	
+	public HistogramSnapshot getPrepareLatency() {
+		
+		return this.prepareLatency;
+	}
+	
+	public HistogramSnapshot getProxyClassLatency() {
+		
+		return this.proxyClassLatency;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return "MetricsSnapshot [protects="+protectCount+", grants="+getDecisionCount(Decision.GRANT)+", denies="+getDecisionCount(Decision.DENY)+", intercepts="+getDecisionCount(Decision.INTERCEPT)+", configHitRate="+getConfigurationHitRate()+", proxyClasses="+proxyClassCount+", protectLatency="+protectLatency+"]";
+	}
+}
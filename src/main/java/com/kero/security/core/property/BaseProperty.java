@@ -18,6 +18,7 @@ import com.kero.security.core.interceptor.DenyInterceptor;
 import com.kero.security.core.property.exceptions.PropertyPrepareException;
 import com.kero.security.core.property.exceptions.RoleCollisionException;
 import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleSet;
 import com.kero.security.core.scheme.AccessScheme;
 
 public class BaseProperty implements Property {
@@ -47,6 +48,11 @@ public class BaseProperty implements Property {
 	
 		if(rolesArg.isEmpty()) return Access.UNKNOWN;
 		
+		if(rolesArg instanceof RoleSet) {
+			
+			return accessible((RoleSet) rolesArg);
+		}
+		
 		Set<Role> roles = new HashSet<>(rolesArg);
 			roles.removeAll(this.denyRoles);
 		
@@ -62,6 +68,22 @@ public class BaseProperty implements Property {
 		return getParent().accessible(roles);
 	}
 	
+	protected Access accessible(RoleSet rolesArg) {
+		
+		RoleSet roles = rolesArg.without(this.denyRoles);
+		
+		if(roles.isEmpty()) return Access.DENY;
+		
+		if(roles.intersects(this.grantRoles)) {
+			
+			return Access.GRANT;
+		}
+
+		if(!this.scheme.isInherit()) return Access.UNKNOWN;
+	
+		return getParent().accessible(roles);
+	}
+	
 	@Override
 	public Action prepare(Collection<Role> roles) {
 		
@@ -74,7 +96,7 @@ public class BaseProperty implements Property {
 		
 		if(accessible == Access.GRANT) {
 			
-			return new ActionGrant(this.scheme, propagateRoles(roles));
+			return new ActionGrant(this.scheme, preparePropagatedRoles(roles));
 		}
 		else if(accessible == Access.DENY) {
 		
@@ -95,6 +117,15 @@ public class BaseProperty implements Property {
 		}
 	}
 	
+	protected Collection<Role> preparePropagatedRoles(Collection<Role> roles) {
+		
+		Set<Role> propagated = propagateRoles(roles);
+		
+		if(!(roles instanceof RoleSet)) return propagated;
+		
+		return this.scheme.getAgent().getRoleStorage().toRoleSet(propagated);
+	}
+	
 	protected Access determineDefaultAccess() {
 		
 		Access defaultAccess = getDefaultAccess();
@@ -110,12 +141,15 @@ public class BaseProperty implements Property {
 	@Override
 	public DenyInterceptor determineInterceptor(Collection<Role> roles) {
 		
+		return determineInterceptor(getInterceptors(), getDefaultInterceptor(), roles);
+	}
+	
+	static DenyInterceptor determineInterceptor(List<DenyInterceptor> interceptors, DenyInterceptor defaultInterceptor, Collection<Role> roles) {
+		
 		int maxOverlap = 0;
 		int minTrash = Integer.MAX_VALUE;
 		DenyInterceptor result = null;
 		
-		List<DenyInterceptor> interceptors = getInterceptors();
-		
 		for(DenyInterceptor interceptor : interceptors) {
 			
 			Set<Role> interceptorRoles = interceptor.getRoles();
@@ -123,15 +157,23 @@ public class BaseProperty implements Property {
 			int overlap = 0;
 			int trash = 0;
 			
-			for(Role interceptorRole : interceptorRoles) {
+			if(roles instanceof RoleSet) {
 				
-				if(roles.contains(interceptorRole)) {
-					
-					overlap++;
-				}
-				else {
+				overlap = ((RoleSet) roles).countCommon(interceptorRoles);
+				trash = interceptorRoles.size() - overlap;
+			}
+			else {
+				
+				for(Role interceptorRole : interceptorRoles) {
 					
-					trash++;
+					if(roles.contains(interceptorRole)) {
+						
+						overlap++;
+					}
+					else {
+						
+						trash++;
+					}
 				}
 			}
 			
@@ -149,7 +191,7 @@ public class BaseProperty implements Property {
 			}
 		}
 	
-		if(maxOverlap == 0 || result == null) return getDefaultInterceptor();
+		if(maxOverlap == 0 || result == null) return defaultInterceptor;
 		
 		return result;
 	}
@@ -190,6 +232,53 @@ public class BaseProperty implements Property {
 		return result;
 	}
 	
+	@Override
+	public CompiledProperty compile() {
+		
+		List<Set<Role>> denyLevels = new ArrayList<>();
+		List<Set<Role>> grantLevels = new ArrayList<>();
+		Map<Role, Role> propagation = new HashMap<>();
+		
+		Property tail = null;
+		Property current = this;
+		
+		while(true) {
+			
+			if(!(current instanceof BaseProperty)) {
+				
+				tail = current;
+				break;
+			}
+			
+			BaseProperty property = (BaseProperty) current;
+			
+			denyLevels.add(property.denyRoles);
+			grantLevels.add(property.grantRoles);
+			
+			property.rolesPropagation.forEach(propagation::putIfAbsent);
+			
+			if(!property.scheme.isInherit()) break;
+			
+			current = property.getParent();
+		}
+		
+		return new CompiledProperty(this.scheme, this.name, denyLevels, grantLevels, tail, propagation, determineDefaultAccess(), getInterceptors(), getDefaultInterceptor());
+	}
+	
+	@Override
+	public void reset() {
+		
+		this.defaultAccess = Access.UNKNOWN;
+		this.defaultInterceptor = null;
+		
+		this.grantRoles.clear();
+		this.denyRoles.clear();
+		this.interceptors.clear();
+		this.rolesPropagation.clear();
+		
+		configurationChanged();
+	}
+	
 	@Override
 	public boolean hasPropagationFor(Role target) {
 		
@@ -200,6 +289,16 @@ public class BaseProperty implements Property {
 	public void addRolePropagation(Role from, Role to) {
 		
 		this.rolesPropagation.put(from, to);
+		
+		configurationChanged();
+	}
+	
+	@Override
+	public void removeRolePropagation(Role from) {
+		
+		this.rolesPropagation.remove(from);
+		
+		configurationChanged();
 	}
 	
 	@Override
@@ -212,6 +311,8 @@ public class BaseProperty implements Property {
 	public void addInterceptor(DenyInterceptor interceptor) {
 		
 		this.interceptors.add(interceptor);
+		
+		configurationChanged();
 	}
 	
 	@Override
@@ -240,6 +341,16 @@ public class BaseProperty implements Property {
 		if(this.denyRoles.contains(role)) throw new RoleCollisionException("Detected roles collision: "+role);
 		
 		this.grantRoles.add(role);
+		
+		configurationChanged();
+	}
+	
+	@Override
+	public void removeGrantRole(Role role) {
+		
+		this.grantRoles.remove(role);
+		
+		configurationChanged();
 	}
 	
 	public void denyRoles(Collection<Role> roles) {
@@ -255,6 +366,16 @@ public class BaseProperty implements Property {
 		if(this.grantRoles.contains(role)) throw new RoleCollisionException("Detected roles collision: "+role);
 		
 		this.denyRoles.add(role);
+		
+		configurationChanged();
+	}
+	
+	@Override
+	public void removeDenyRole(Role role) {
+		
+		this.denyRoles.remove(role);
+		
+		configurationChanged();
 	}
 
 	@Override
@@ -273,6 +394,8 @@ public class BaseProperty implements Property {
 	public void setDefaultAccess(Access access) {
 		
 		this.defaultAccess = access;
+		
+		configurationChanged();
 	}
 	
 	@Override
@@ -313,6 +436,13 @@ public class BaseProperty implements Property {
 	public void setDefaultInterceptor(DenyInterceptor interceptor) {
 		
 		this.defaultInterceptor = interceptor;
+		
+		configurationChanged();
+	}
+	
+	protected void configurationChanged() {
+		
+		this.scheme.configurationChanged();
 	}
 
 	@Override
@@ -0,0 +1,193 @@
+package com.kero.security.core.property;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionDeny;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.interceptor.DenyInterceptor;
+import com.kero.security.core.property.exceptions.PropertyPrepareException;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleSet;
+import com.kero.security.core.role.storage.RoleStorage;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class CompiledProperty {
+
+	private final Property property;
+	
+	private final AccessScheme scheme;
+	private final String name;
+	
+	private final Set<Role>[] denyLevels;
+	private final Set<Role>[] grantLevels;
+	private final Property tail;
+	
+	private final Map<Role, Role> propagation;
+	
+	private final Access defaultAccess;
+	private final List<DenyInterceptor> interceptors;
+	private final DenyInterceptor defaultInterceptor;
+	
+	public CompiledProperty(Property property) {
+		
+		this.property = property;
+		this.scheme = null;
+		this.name = property.getName();
+		this.denyLevels = null;
+		this.grantLevels = null;
+		this.tail = null;
+		this.propagation = Collections.emptyMap();
+		this.defaultAccess = Access.UNKNOWN;
+		this.interceptors = Collections.emptyList();
+		this.defaultInterceptor = null;
+	}
+	
+	public CompiledProperty(AccessScheme scheme, String name, List<Set<Role>> denyLevels, List<Set<Role>> grantLevels, Property tail, Map<Role, Role> propagation, Access defaultAccess, List<DenyInterceptor> interceptors, DenyInterceptor defaultInterceptor) {
+		
+		this.property = null;
+		this.scheme = scheme;
+		this.name = name;
+		this.denyLevels = toLevels(scheme, denyLevels);
+		this.grantLevels = toLevels(scheme, grantLevels);
+		this.tail = tail;
+		this.propagation = propagation;
+		this.defaultAccess = defaultAccess;
+		this.interceptors = interceptors;
+		this.defaultInterceptor = defaultInterceptor;
+	}
+	
+	private static Set<Role>[] toLevels(AccessScheme scheme, List<Set<Role>> levels) {
+		
+		RoleStorage storage = scheme.getAgent() != null ? scheme.getAgent().getRoleStorage() : null;
+		
+		@SuppressWarnings("unchecked")
+		Set<Role>[] result = (Set<Role>[]) new Set<?>[levels.size()];
+		
+		for(int i = 0; i < result.length; i++) {
+			
+			Set<Role> level = levels.get(i);
+			
+			result[i] = storage != null ? storage.toRoleSet(level) : Collections.unmodifiableSet(new HashSet<>(level));
+		}
+		
+		return result;
+	}
+	
+	public Action prepare(Collection<Role> roles) {
+		
+		if(this.property != null) return this.property.prepare(roles);
+		
+		Access accessible = accessible(roles);
+		
+		if(accessible == Access.UNKNOWN) {
+			
+			accessible = this.defaultAccess;
+		}
+		
+		if(accessible == Access.GRANT) {
+			
+			return new ActionGrant(this.scheme, preparePropagatedRoles(roles));
+		}
+		else if(accessible == Access.DENY) {
+			
+			DenyInterceptor interceptor = BaseProperty.determineInterceptor(this.interceptors, this.defaultInterceptor, roles);
+			
+			if(interceptor != null) {
+				
+				return interceptor.prepare(roles);
+			}
+			else {
+				
+				return new ActionDeny(this.scheme);
+			}
+		}
+		else {
+			
+			throw new PropertyPrepareException("Can't prepare property: \""+this.name+"\". Your Kero-Security configuration is bad, if you see this exception.");
+		}
+	}
+	
+	public Access accessible(Collection<Role> rolesArg) {
+		
+		if(this.property != null) return this.property.accessible(rolesArg);
+		
+		if(rolesArg.isEmpty()) return Access.UNKNOWN;
+		
+		if(rolesArg instanceof RoleSet) {
+			
+			RoleSet roles = (RoleSet) rolesArg;
+			
+			for(int i = 0; i < denyLevels.length; i++) {
+				
+				roles = roles.without(denyLevels[i]);
+				
+				if(roles.isEmpty()) return Access.DENY;
+				if(roles.intersects(grantLevels[i])) return Access.GRANT;
+			}
+			
+			return this.tail != null ? this.tail.accessible(roles) : Access.UNKNOWN;
+		}
+		
+		Set<Role> roles = new HashSet<>(rolesArg);
+		
+		for(int i = 0; i < denyLevels.length; i++) {
+			
+			roles.removeAll(denyLevels[i]);
+			
+			if(roles.isEmpty()) return Access.DENY;
+			if(!Collections.disjoint(roles, grantLevels[i])) return Access.GRANT;
+		}
+		
+		return this.tail != null ? this.tail.accessible(roles) : Access.UNKNOWN;
+	}
+	
+	public Set<Role> propagateRoles(Collection<Role> roles) {
+		
+		if(this.property != null) return this.property.propagateRoles(roles);
+		
+		Set<Role> result = new HashSet<>();
+		Set<Role> remaining = new HashSet<>();
+		
+		for(Role role : roles) {
+			
+			Role propagated = this.propagation.get(role);
+			
+			if(propagated != null) {
+				
+				result.add(propagated);
+			}
+			else {
+				
+				remaining.add(role);
+			}
+		}
+		
+		if(this.tail != null) {
+			
+			result.addAll(this.tail.propagateRoles(remaining));
+		}
+		
+		return result;
+	}
+	
+	protected Collection<Role> preparePropagatedRoles(Collection<Role> roles) {
+		
+		Set<Role> propagated = propagateRoles(roles);
+		
+		if(!(roles instanceof RoleSet)) return propagated;
+		
+		return this.scheme.getAgent().getRoleStorage().toRoleSet(propagated);
+	}
+	
+	public String getName() {
+		
+		return this.name;
+	}
+}
@@ -25,14 +25,17 @@ public interface Property extends DefaultAccessOwner {
 	public Set<Role> propagateRoles(Collection<Role> roles);
 	public boolean hasPropagationFor(Role target);
 	public void addRolePropagation(Role from, Role to);
+	public void removeRolePropagation(Role from);
 	public Map<Role, Role> getLocalRolesPropagation();
 	
 	public void grantRoles(Collection<Role> roles);
 	public void grantRole(Role role);
+	public void removeGrantRole(Role role);
 	public Set<Role> getLocalGrantRoles();
 
 	public void denyRoles(Collection<Role> roles);
 	public void denyRole(Role role);
+	public void removeDenyRole(Role role);
 	public Set<Role> getLocalDenyRoles();
 	
 	public DenyInterceptor determineInterceptor(Collection<Role> roles);
@@ -48,8 +51,15 @@ public interface Property extends DefaultAccessOwner {
 	
 	public String getName();
 	
+	public void reset();
+	
 	public Property getParent();
 	
+	public default CompiledProperty compile() {
+		
+		return new CompiledProperty(this);
+	}
+	
 	public boolean hasLocalDefaultAccess();
 	public Access getLocalDefaultAccess();
 	
@@ -96,6 +106,16 @@ public interface Property extends DefaultAccessOwner {
 		@Override
 		public void grantRole(Role role) {
 			
+		}
+		
+		@Override
+		public void removeGrantRole(Role role) {
+			
+		}
+		
+		@Override
+		public void reset() {
+			
 		}
 
 		@Override
@@ -114,6 +134,11 @@ public interface Property extends DefaultAccessOwner {
 			
 		}
 
+		@Override
+		public void removeDenyRole(Role role) {
+			
+		}
+
 		@Override
 		public void denyRoles(Collection<Role> roles) {
 			
@@ -159,6 +184,11 @@ public interface Property extends DefaultAccessOwner {
 			return null;
 		}
 
+		@Override
+		public void removeRolePropagation(Role from) {
+			
+		}
+
 		@Override
 		public boolean hasPropagationFor(Role role) {
 			
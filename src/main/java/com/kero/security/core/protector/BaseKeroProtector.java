@@ -1,24 +1,36 @@
 package com.kero.security.core.protector;
 
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 import com.kero.security.core.config.PreparedAccessConfiguration;
 import com.kero.security.core.proxy.ProxyWrapper;
+import com.kero.security.core.proxy.ProxyWrapperBase;
+import com.kero.security.core.proxy.cache.ProxyInstanceCache;
 import com.kero.security.core.role.Role;
 import com.kero.security.core.scheme.AccessScheme;
+import com.kero.security.core.scheme.AccessSchemeCacheWrap;
 
 public class BaseKeroProtector implements KeroProtector {
 
 	protected AccessScheme scheme;
 	protected ProxyWrapper proxyWrapper;
+	protected ProxyInstanceCache proxyCache;
 	
 	public BaseKeroProtector(AccessScheme scheme) {
 	
-		this.scheme = AccessScheme.addCacheWrap(scheme);
+		this.scheme = AccessScheme.addCacheWrap(scheme, scheme.getAgent()::createConfigsCache);
 		
 		Class<?> typeClass = scheme.getTypeClass();
 	
-		this.proxyWrapper = ProxyWrapper.create(typeClass);
+		this.proxyWrapper = ProxyWrapper.create(typeClass, scheme.getAgent().getProxyMode(), scheme.getAgent().isInterfaceProxyType(typeClass));
+		
+		if(this.proxyWrapper instanceof ProxyWrapperBase) {
+			
+			((ProxyWrapperBase) this.proxyWrapper).setMetrics(scheme.getAgent().getMetrics());
+		}
+		
+		this.proxyCache = scheme.getAgent().createProxyInstanceCache();
 	}
 	
 	@Override
@@ -26,11 +38,47 @@ public class BaseKeroProtector implements KeroProtector {
 		
 		PreparedAccessConfiguration config = scheme.prepareAccessConfiguration(roles);
 		
+		if(proxyCache != null) return (T) proxyCache.get(obj, config, proxyWrapper::wrap);
+		
 		return (T) proxyWrapper.wrap(obj, config);
 	}
 
+	@Override
+	public UnaryOperator<Object> bind(Collection<Role> roles) {
+		
+		PreparedAccessConfiguration config = scheme.prepareAccessConfiguration(roles);
+		ProxyInstanceCache proxyCache = this.proxyCache;
+		ProxyWrapper proxyWrapper = this.proxyWrapper;
+		
+		if(proxyCache != null) return (obj)-> proxyCache.get(obj, config, proxyWrapper::wrap);
+		
+		return (obj)-> proxyWrapper.wrap(obj, config);
+	}
+	
+	@Override
+	public void prepare(Collection<Role> roles) {
+		
+		proxyWrapper.prepare();
+		
+		scheme.prepareAccessConfiguration(roles);
+	}
+	
+	@Override
+	public void clearCaches() {
+		
+		if(this.scheme instanceof AccessSchemeCacheWrap) ((AccessSchemeCacheWrap) this.scheme).clearConfigsCache();
+		if(this.proxyCache != null) this.proxyCache.clear();
+	}
+	
+	public AccessScheme getScheme() {
+		
+		return this.scheme;
+	}
+	
 	public void setProxyAgent(ProxyWrapper agent) {
 		
 		this.proxyWrapper = agent;
+		
+		if(this.proxyCache != null) this.proxyCache.clear();
 	}
 }
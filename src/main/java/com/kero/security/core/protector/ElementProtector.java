@@ -0,0 +1,104 @@
+package com.kero.security.core.protector;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.role.Role;
+
+public class ElementProtector implements UnaryOperator<Object> {
+
+	private KeroAccessAgent agent;
+	private Collection<Role> roles;
+	
+	private volatile Map<Class<?>, Binding> bindings;
+	private volatile Binding last;
+	
+	public ElementProtector(KeroAccessAgent agent, Collection<Role> roles) {
+		
+		this.agent = agent;
+		this.roles = roles;
+	}
+	
+	@Override
+	public Object apply(Object obj) {
+		
+		if(obj == null) return null;
+		
+		Class<?> type = obj.getClass();
+		Binding binding = this.last;
+		
+		if(binding == null) {
+			
+			binding = bind(type);
+			this.last = binding;
+		}
+		else if(binding.type != type) {
+			
+			binding = getBindings().computeIfAbsent(type, this::bind);
+			this.last = binding;
+		}
+		
+		return binding.operator.apply(obj);
+	}
+	
+	private Map<Class<?>, Binding> getBindings() {
+		
+		Map<Class<?>, Binding> bindings = this.bindings;
+		
+		if(bindings == null) {
+			
+			synchronized(this) {
+				
+				if(this.bindings == null) {
+					
+					this.bindings = new ConcurrentHashMap<>();
+					
+					Binding last = this.last;
+					
+					if(last != null) this.bindings.put(last.type, last);
+				}
+				
+				bindings = this.bindings;
+			}
+		}
+		
+		return bindings;
+	}
+	
+	private Binding bind(Class<?> type) {
+		
+		if(Enum.class.isAssignableFrom(type) || agent.isIgnoredType(type)) {
+			
+			return new Binding(type, UnaryOperator.identity());
+		}
+		
+		return new Binding(type, agent.getOrCreateProtector(type).bind(this.roles));
+	}
+	
+	// bound operators return the object itself or a subclass proxy of its class
+	@SuppressWarnings("unchecked")
+	public <T> T protect(T obj) {
+		
+		return (T) apply(obj);
+	}
+	
+	public Collection<Role> getRoles() {
+		
+		return this.roles;
+	}
+	
+	private static class Binding {
+		
+		private final Class<?> type;
+		private final UnaryOperator<Object> operator;
+		
+		private Binding(Class<?> type, UnaryOperator<Object> operator) {
+			
+			this.type = type;
+			this.operator = operator;
+		}
+	}
+}
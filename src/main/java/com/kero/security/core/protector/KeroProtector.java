@@ -1,6 +1,7 @@
 package com.kero.security.core.protector;
 
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 import com.kero.security.core.proxy.ProxyWrapper;
 import com.kero.security.core.role.Role;
@@ -9,5 +10,14 @@ public interface KeroProtector {
 
 	public <T> T protect(T obj, Collection<Role> roles);
 	
+	public void prepare(Collection<Role> roles);
+	
+	public default UnaryOperator<Object> bind(Collection<Role> roles) {
+		
+		return (obj)-> protect(obj, roles);
+	}
+	
 	public void setProxyAgent(ProxyWrapper agent);
+	
+	public void clearCaches();
 }
@@ -0,0 +1,155 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.kero.security.core.protector.ElementProtector;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectedCollection<E> implements Collection<E>, AccessProxy {
+
+	protected Collection<E> original;
+	protected ElementProtector protector;
+	
+	public ProtectedCollection(Collection<E> original, ElementProtector protector) {
+		
+		this.original = original;
+		this.protector = protector;
+	}
+	
+	@Override
+	public int size() {
+		
+		return original.size();
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		
+		return original.isEmpty();
+	}
+	
+	@Override
+	public boolean contains(Object obj) {
+		
+		return original.contains(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public Iterator<E> iterator() {
+		
+		return new ProtectedIterator<>(original.iterator(), protector);
+	}
+	
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		
+		original.forEach((element)-> action.accept(protector.protect(element)));
+	}
+	
+	@Override
+	public Object[] toArray() {
+		
+		Object[] elements = original.toArray();
+		
+		for(int i = 0; i < elements.length; i++) {
+			
+			elements[i] = protector.apply(elements[i]);
+		}
+		
+		return elements;
+	}
+	
+	@Override
+	public <T> T[] toArray(T[] array) {
+		
+		Object[] elements = toArray();
+		
+		if(array.length < elements.length) {
+			
+			array = Arrays.copyOf(array, elements.length);
+		}
+		
+		System.arraycopy(elements, 0, array, 0, elements.length);
+		
+		if(array.length > elements.length) array[elements.length] = null;
+		
+		return array;
+	}
+	
+	@Override
+	public boolean add(E element) {
+		
+		return original.add(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public boolean remove(Object obj) {
+		
+		return original.remove(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public boolean containsAll(Collection<?> collection) {
+		
+		return original.containsAll(ProtectedViews.unwrapAll(collection));
+	}
+	
+	@Override
+	public boolean addAll(Collection<? extends E> collection) {
+		
+		return original.addAll(ProtectedViews.unwrapAll(collection));
+	}
+	
+	@Override
+	public boolean removeAll(Collection<?> collection) {
+		
+		return original.removeAll(ProtectedViews.unwrapAll(collection));
+	}
+	
+	@Override
+	public boolean retainAll(Collection<?> collection) {
+		
+		return original.retainAll(ProtectedViews.unwrapAll(collection));
+	}
+	
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		
+		return original.removeIf((element)-> filter.test(protector.protect(element)));
+	}
+	
+	@Override
+	public void clear() {
+		
+		original.clear();
+	}
+	
+	@Override
+	public Object getOriginal() {
+		
+		return this.original;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		
+		return obj == this || original.equals(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public int hashCode() {
+		
+		return original.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		
+		return new ArrayList<>(this).toString();
+	}
+}
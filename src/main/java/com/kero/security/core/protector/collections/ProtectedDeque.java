@@ -0,0 +1,121 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Deque;
+import java.util.Iterator;
+
+import com.kero.security.core.protector.ElementProtector;
+
+public class ProtectedDeque<E> extends ProtectedQueue<E> implements Deque<E> {
+
+	public ProtectedDeque(Deque<E> original, ElementProtector protector) {
+		super(original, protector);
+	
+	}
+	
+	@Override
+	public void addFirst(E element) {
+		
+		original().addFirst(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public void addLast(E element) {
+		
+		original().addLast(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public boolean offerFirst(E element) {
+		
+		return original().offerFirst(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public boolean offerLast(E element) {
+		
+		return original().offerLast(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public E removeFirst() {
+		
+		return protector.protect(original().removeFirst());
+	}
+	
+	@Override
+	public E removeLast() {
+		
+		return protector.protect(original().removeLast());
+	}
+	
+	@Override
+	public E pollFirst() {
+		
+		return protector.protect(original().pollFirst());
+	}
+	
+	@Override
+	public E pollLast() {
+		
+		return protector.protect(original().pollLast());
+	}
+	
+	@Override
+	public E getFirst() {
+		
+		return protector.protect(original().getFirst());
+	}
+	
+	@Override
+	public E getLast() {
+		
+		return protector.protect(original().getLast());
+	}
+	
+	@Override
+	public E peekFirst() {
+		
+		return protector.protect(original().peekFirst());
+	}
+	
+	@Override
+	public E peekLast() {
+		
+		return protector.protect(original().peekLast());
+	}
+	
+	@Override
+	public boolean removeFirstOccurrence(Object obj) {
+		
+		return original().removeFirstOccurrence(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public boolean removeLastOccurrence(Object obj) {
+		
+		return original().removeLastOccurrence(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public void push(E element) {
+		
+		original().push(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public E pop() {
+		
+		return protector.protect(original().pop());
+	}
+	
+	@Override
+	public Iterator<E> descendingIterator() {
+		
+		return new ProtectedIterator<>(original().descendingIterator(), protector);
+	}
+	
+	private Deque<E> original() {
+		
+		return (Deque<E>) this.original;
+	}
+}
@@ -0,0 +1,49 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import com.kero.security.core.protector.ElementProtector;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectedIterator<E> implements Iterator<E>, AccessProxy {
+
+	protected Iterator<E> original;
+	protected ElementProtector protector;
+	
+	public ProtectedIterator(Iterator<E> original, ElementProtector protector) {
+		
+		this.original = original;
+		this.protector = protector;
+	}
+	
+	@Override
+	public boolean hasNext() {
+		
+		return original.hasNext();
+	}
+	
+	@Override
+	public E next() {
+		
+		return protector.protect(original.next());
+	}
+	
+	@Override
+	public void remove() {
+		
+		original.remove();
+	}
+	
+	@Override
+	public void forEachRemaining(Consumer<? super E> action) {
+		
+		original.forEachRemaining((element)-> action.accept(protector.protect(element)));
+	}
+	
+	@Override
+	public Object getOriginal() {
+		
+		return this.original;
+	}
+}
@@ -0,0 +1,109 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.UnaryOperator;
+
+import com.kero.security.core.protector.ElementProtector;
+
+public class ProtectedList<E> extends ProtectedCollection<E> implements List<E> {
+
+	public ProtectedList(List<E> original, ElementProtector protector) {
+		super(original, protector);
+	
+	}
+	
+	@Override
+	public E get(int index) {
+		
+		return protector.protect(original().get(index));
+	}
+	
+	@Override
+	public E set(int index, E element) {
+		
+		return protector.protect(original().set(index, ProtectedViews.unwrap(element)));
+	}
+	
+	@Override
+	public void add(int index, E element) {
+		
+		original().add(index, ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public E remove(int index) {
+		
+		return protector.protect(original().remove(index));
+	}
+	
+	@Override
+	public int indexOf(Object obj) {
+		
+		return original().indexOf(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public int lastIndexOf(Object obj) {
+		
+		return original().lastIndexOf(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public boolean addAll(int index, Collection<? extends E> collection) {
+		
+		return original().addAll(index, ProtectedViews.unwrapAll(collection));
+	}
+	
+	@Override
+	public ListIterator<E> listIterator() {
+		
+		return new ProtectedListIterator<>(original().listIterator(), protector);
+	}
+	
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		
+		return new ProtectedListIterator<>(original().listIterator(index), protector);
+	}
+	
+	@Override
+	public List<E> subList(int fromIndex, int toIndex) {
+		
+		return ProtectedViews.list(original().subList(fromIndex, toIndex), protector);
+	}
+	
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		
+		original().replaceAll((element)-> ProtectedViews.unwrap(operator.apply(protector.protect(element))));
+	}
+	
+	@Override
+	public void sort(Comparator<? super E> comparator) {
+		
+		if(comparator == null) {
+			
+			original().sort(null);
+		}
+		else {
+			
+			original().sort((first, second)-> comparator.compare(protector.protect(first), protector.protect(second)));
+		}
+	}
+	
+	private List<E> original() {
+		
+		return (List<E>) this.original;
+	}
+	
+	public static class RandomAccess<E> extends ProtectedList<E> implements java.util.RandomAccess {
+		
+		public RandomAccess(List<E> original, ElementProtector protector) {
+			super(original, protector);
+		
+		}
+	}
+}
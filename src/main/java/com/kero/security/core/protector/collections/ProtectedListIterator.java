@@ -0,0 +1,54 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.ListIterator;
+
+import com.kero.security.core.protector.ElementProtector;
+
+public class ProtectedListIterator<E> extends ProtectedIterator<E> implements ListIterator<E> {
+
+	public ProtectedListIterator(ListIterator<E> original, ElementProtector protector) {
+		super(original, protector);
+	
+	}
+	
+	@Override
+	public boolean hasPrevious() {
+		
+		return original().hasPrevious();
+	}
+	
+	@Override
+	public E previous() {
+		
+		return protector.protect(original().previous());
+	}
+	
+	@Override
+	public int nextIndex() {
+		
+		return original().nextIndex();
+	}
+	
+	@Override
+	public int previousIndex() {
+		
+		return original().previousIndex();
+	}
+	
+	@Override
+	public void set(E element) {
+		
+		original().set(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public void add(E element) {
+		
+		original().add(ProtectedViews.unwrap(element));
+	}
+	
+	private ListIterator<E> original() {
+		
+		return (ListIterator<E>) this.original;
+	}
+}
@@ -0,0 +1,250 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.kero.security.core.protector.ElementProtector;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectedMap<K, V> implements Map<K, V>, AccessProxy {
+
+	protected Map<K, V> original;
+	protected ElementProtector protector;
+	
+	public ProtectedMap(Map<K, V> original, ElementProtector protector) {
+		
+		this.original = original;
+		this.protector = protector;
+	}
+	
+	@Override
+	public int size() {
+		
+		return original.size();
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		
+		return original.isEmpty();
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		
+		return original.containsKey(ProtectedViews.unwrap(key));
+	}
+	
+	@Override
+	public boolean containsValue(Object value) {
+		
+		return original.containsValue(ProtectedViews.unwrap(value));
+	}
+	
+	@Override
+	public V get(Object key) {
+		
+		return protector.protect(original.get(ProtectedViews.unwrap(key)));
+	}
+	
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		
+		Object originalKey = ProtectedViews.unwrap(key);
+		V value = original.get(originalKey);
+		
+		if(value == null && !original.containsKey(originalKey)) return defaultValue;
+		
+		return protector.protect(value);
+	}
+	
+	@Override
+	public V put(K key, V value) {
+		
+		return protector.protect(original.put(ProtectedViews.unwrap(key), ProtectedViews.unwrap(value)));
+	}
+	
+	@Override
+	public V remove(Object key) {
+		
+		return protector.protect(original.remove(ProtectedViews.unwrap(key)));
+	}
+	
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		
+		for(Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+			
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	@Override
+	public void clear() {
+		
+		original.clear();
+	}
+	
+	@Override
+	public Set<K> keySet() {
+		
+		return new ProtectedSet<>(original.keySet(), protector);
+	}
+	
+	@Override
+	public Collection<V> values() {
+		
+		return new ProtectedCollection<>(original.values(), protector);
+	}
+	
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		
+		return new EntrySet<>(original.entrySet(), protector);
+	}
+	
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		
+		original.forEach((key, value)-> action.accept(protector.protect(key), protector.protect(value)));
+	}
+	
+	@Override
+	public Object getOriginal() {
+		
+		return this.original;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		
+		return obj == this || original.equals(ProtectedViews.unwrap(obj));
+	}
+	
+	@Override
+	public int hashCode() {
+		
+		return original.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		
+		return new HashMap<>(this).toString();
+	}
+	
+	private static class EntrySet<K, V> extends ProtectedSet<Map.Entry<K, V>> {
+		
+		private EntrySet(Set<Map.Entry<K, V>> original, ElementProtector protector) {
+			super(original, protector);
+		
+		}
+		
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			
+			Iterator<Map.Entry<K, V>> iterator = original.iterator();
+			
+			return new Iterator<Map.Entry<K, V>>() {
+				
+				@Override
+				public boolean hasNext() {
+					
+					return iterator.hasNext();
+				}
+				
+				@Override
+				public Map.Entry<K, V> next() {
+					
+					return new Entry<>(iterator.next(), protector);
+				}
+				
+				@Override
+				public void remove() {
+					
+					iterator.remove();
+				}
+			};
+		}
+		
+		@Override
+		public Object[] toArray() {
+			
+			return original.stream()
+				.map((entry)-> new Entry<>(entry, protector))
+				.toArray();
+		}
+		
+		@Override
+		public void forEach(Consumer<? super Map.Entry<K, V>> action) {
+			
+			original.forEach((entry)-> action.accept(new Entry<>(entry, protector)));
+		}
+		
+		@Override
+		public boolean removeIf(Predicate<? super Map.Entry<K, V>> filter) {
+			
+			return original.removeIf((entry)-> filter.test(new Entry<>(entry, protector)));
+		}
+	}
+	
+	private static class Entry<K, V> implements Map.Entry<K, V>, AccessProxy {
+		
+		private Map.Entry<K, V> original;
+		private ElementProtector protector;
+		
+		private Entry(Map.Entry<K, V> original, ElementProtector protector) {
+			
+			this.original = original;
+			this.protector = protector;
+		}
+		
+		@Override
+		public K getKey() {
+			
+			return protector.protect(original.getKey());
+		}
+		
+		@Override
+		public V getValue() {
+			
+			return protector.protect(original.getValue());
+		}
+		
+		@Override
+		public V setValue(V value) {
+			
+			return protector.protect(original.setValue(ProtectedViews.unwrap(value)));
+		}
+		
+		@Override
+		public Object getOriginal() {
+			
+			return this.original;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			return obj == this || original.equals(ProtectedViews.unwrap(obj));
+		}
+		
+		@Override
+		public int hashCode() {
+			
+			return original.hashCode();
+		}
+		
+		@Override
+		public String toString() {
+			
+			return getKey()+"="+getValue();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Queue;
+
+import com.kero.security.core.protector.ElementProtector;
+
+public class ProtectedQueue<E> extends ProtectedCollection<E> implements Queue<E> {
+
+	public ProtectedQueue(Queue<E> original, ElementProtector protector) {
+		super(original, protector);
+	
+	}
+	
+	@Override
+	public boolean offer(E element) {
+		
+		return original().offer(ProtectedViews.unwrap(element));
+	}
+	
+	@Override
+	public E remove() {
+		
+		return protector.protect(original().remove());
+	}
+	
+	@Override
+	public E poll() {
+		
+		return protector.protect(original().poll());
+	}
+	
+	@Override
+	public E element() {
+		
+		return protector.protect(original().element());
+	}
+	
+	@Override
+	public E peek() {
+		
+		return protector.protect(original().peek());
+	}
+	
+	private Queue<E> original() {
+		
+		return (Queue<E>) this.original;
+	}
+}
@@ -0,0 +1,13 @@
+package com.kero.security.core.protector.collections;
+
+import java.util.Set;
+
+import com.kero.security.core.protector.ElementProtector;
+
+public class ProtectedSet<E> extends ProtectedCollection<E> implements Set<E> {
+
+	public ProtectedSet(Set<E> original, ElementProtector protector) {
+		super(original, protector);
+	
+	}
+}
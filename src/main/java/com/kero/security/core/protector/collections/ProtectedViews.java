@@ -0,0 +1,142 @@
+package com.kero.security.core.protector.collections;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+import com.kero.security.core.protector.ElementProtector;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectedViews {
+
+	private static final Map<Class<?>, BiFunction<Object, ElementProtector, Object>> VIEWS = new HashMap<>();
+	
+	static {
+		
+		register(ArrayList.class, (original, protector)-> list((List<?>) original, protector));
+		register(Vector.class, (original, protector)-> list((List<?>) original, protector));
+		register(CopyOnWriteArrayList.class, (original, protector)-> list((List<?>) original, protector));
+		register(Arrays.asList().getClass(), (original, protector)-> list((List<?>) original, protector));
+		
+		register(HashSet.class, (original, protector)-> set((Set<?>) original, protector));
+		register(LinkedHashSet.class, (original, protector)-> set((Set<?>) original, protector));
+		
+		register(HashMap.class, (original, protector)-> map((Map<?, ?>) original, protector));
+		register(LinkedHashMap.class, (original, protector)-> map((Map<?, ?>) original, protector));
+		
+		register(PriorityQueue.class, (original, protector)-> queue((Queue<?>) original, protector));
+		register(ConcurrentLinkedQueue.class, (original, protector)-> queue((Queue<?>) original, protector));
+		
+		register(ArrayDeque.class, (original, protector)-> queue((Queue<?>) original, protector));
+		register(ConcurrentLinkedDeque.class, (original, protector)-> queue((Queue<?>) original, protector));
+	}
+	
+	private static void register(Class<?> type, BiFunction<Object, ElementProtector, Object> factory) {
+		
+		VIEWS.put(type, factory);
+	}
+	
+	private static final ClassValue<BiFunction<Object, ElementProtector, Object>> FACTORIES = new ClassValue<BiFunction<Object, ElementProtector, Object>>() {
+		
+		@Override
+		protected BiFunction<Object, ElementProtector, Object> computeValue(Class<?> type) {
+			
+			BiFunction<Object, ElementProtector, Object> factory = VIEWS.get(type);
+			
+			if(factory != null) return factory;
+			
+			if(isJdkIterator(type)) {
+				
+				if(ListIterator.class.isAssignableFrom(type)) return (original, protector)-> new ProtectedListIterator<>((ListIterator<?>) original, protector);
+				
+				return (original, protector)-> new ProtectedIterator<>((Iterator<?>) original, protector);
+			}
+			
+			return null;
+		}
+	};
+	
+	public static boolean isSupported(Class<?> type) {
+		
+		return FACTORIES.get(type) != null;
+	}
+	
+	public static Object create(Object original, ElementProtector protector) {
+		
+		BiFunction<Object, ElementProtector, Object> factory = FACTORIES.get(original.getClass());
+		
+		return factory != null ? factory.apply(original, protector) : null;
+	}
+	
+	private static boolean isJdkIterator(Class<?> type) {
+		
+		return Iterator.class.isAssignableFrom(type) && !Modifier.isPublic(type.getModifiers()) && type.getName().startsWith("java.util.");
+	}
+	
+	public static <E> List<E> list(List<E> original, ElementProtector protector) {
+		
+		return original instanceof RandomAccess ? new ProtectedList.RandomAccess<>(original, protector) : new ProtectedList<>(original, protector);
+	}
+	
+	public static <E> Set<E> set(Set<E> original, ElementProtector protector) {
+		
+		return new ProtectedSet<>(original, protector);
+	}
+	
+	public static <E> Queue<E> queue(Queue<E> original, ElementProtector protector) {
+		
+		return original instanceof Deque ? new ProtectedDeque<>((Deque<E>) original, protector) : new ProtectedQueue<>(original, protector);
+	}
+	
+	public static <K, V> Map<K, V> map(Map<K, V> original, ElementProtector protector) {
+		
+		return new ProtectedMap<>(original, protector);
+	}
+	
+	// a proxy always wraps an instance of its own proxied type
+	@SuppressWarnings("unchecked")
+	public static <T> T unwrap(Object obj) {
+		
+		return (T) (obj instanceof AccessProxy ? ((AccessProxy) obj).getOriginal() : obj);
+	}
+	
+	public static <T> Collection<? extends T> unwrapAll(Collection<? extends T> collection) {
+		
+		for(Object obj : collection) {
+			
+			if(obj instanceof AccessProxy) {
+				
+				List<T> unwrapped = new ArrayList<>(collection.size());
+				
+				for(Object element : collection) {
+					
+					unwrapped.add(unwrap(element));
+				}
+				
+				return unwrapped;
+			}
+		}
+		
+		return collection;
+	}
+}
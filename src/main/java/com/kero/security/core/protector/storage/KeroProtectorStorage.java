@@ -1,5 +1,7 @@
 package com.kero.security.core.protector.storage;
 
+import java.util.Collection;
+
 import com.kero.security.core.protector.KeroProtector;
 import com.kero.security.core.scheme.AccessScheme;
 
@@ -13,6 +15,7 @@ public interface KeroProtectorStorage {
 	public KeroProtector createProtector(AccessScheme scheme);
 	public boolean hasProtector(AccessScheme scheme);
 	public KeroProtector getProtector(AccessScheme scheme);
+	public Collection<KeroProtector> getProtectors();
 	
 	public static KeroProtectorStorage create() {
 		
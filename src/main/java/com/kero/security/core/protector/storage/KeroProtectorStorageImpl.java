@@ -1,33 +1,91 @@
 package com.kero.security.core.protector.storage;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import com.kero.security.core.protector.BaseKeroProtector;
 import com.kero.security.core.protector.KeroProtector;
 import com.kero.security.core.protector.storage.exceptions.ProtectorAlreadyExistsException;
 import com.kero.security.core.scheme.AccessScheme;
+import com.kero.security.core.utils.WeakClassMap;
 
-public class KeroProtectorStorageImpl extends HashMap<AccessScheme, KeroProtector> implements KeroProtectorStorage {
-
-	private static final long serialVersionUID = 1L;
+public class KeroProtectorStorageImpl implements KeroProtectorStorage {
 
+	private final WeakClassMap<Entry> protectors = new WeakClassMap<>();
+	
 	@Override
 	public KeroProtector createProtector(AccessScheme scheme) {
+		
+		KeroProtector protector = new BaseKeroProtector(scheme);
+		
+		synchronized(this) {
+			
+			if(getProtector(scheme) != null) throw new ProtectorAlreadyExistsException("Already has protector for: "+scheme);
+			
+			protectors.put(scheme.getTypeClass(), new Entry(scheme, protector));
+		}
+		
+		return protector;
+	}
 	
-		if(hasProtector(scheme)) throw new ProtectorAlreadyExistsException("Already has protector for: "+scheme);
+	@Override
+	public KeroProtector getOrCreateProtector(AccessScheme scheme) {
+		
+		KeroProtector protector = getProtector(scheme);
+		
+		if(protector != null) return protector;
 		
-		return computeIfAbsent(scheme, BaseKeroProtector::new);
+		synchronized(this) {
+			
+			protector = getProtector(scheme);
+			
+			if(protector != null) return protector;
+			
+			protector = new BaseKeroProtector(scheme);
+			
+			protectors.put(scheme.getTypeClass(), new Entry(scheme, protector));
+			
+			return protector;
+		}
 	}
-
+	
 	@Override
 	public boolean hasProtector(AccessScheme scheme) {
 		
-		return containsKey(scheme);
+		return getProtector(scheme) != null;
 	}
-
+	
 	@Override
 	public KeroProtector getProtector(AccessScheme scheme) {
 		
-		return get(scheme);
+		Entry entry = protectors.get(scheme.getTypeClass());
+		
+		return entry != null && entry.scheme == scheme ? entry.protector : null;
+	}
+	
+	@Override
+	public Collection<KeroProtector> getProtectors() {
+		
+		List<KeroProtector> result = new ArrayList<>();
+		
+		for(Entry entry : protectors.snapshot().values()) {
+			
+			result.add(entry.protector);
+		}
+		
+		return result;
+	}
+	
+	private static class Entry {
+		
+		private final AccessScheme scheme;
+		private final KeroProtector protector;
+		
+		private Entry(AccessScheme scheme, KeroProtector protector) {
+			
+			this.scheme = scheme;
+			this.protector = protector;
+		}
 	}
 }
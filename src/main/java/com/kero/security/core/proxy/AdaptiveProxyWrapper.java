@@ -1,70 +1,50 @@
 package com.kero.security.core.proxy;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import com.kero.security.core.config.PreparedAccessConfiguration;
-import com.kero.security.core.proxy.exception.CreateProxyClassException;
 import com.kero.security.core.scheme.AccessProxy;
 import com.kero.security.core.utils.ByteBuddyClassUtils;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.implementation.MethodCall;
-import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.dynamic.DynamicType;
 
 public class AdaptiveProxyWrapper extends ProxyWrapperBase {
 
 	public AdaptiveProxyWrapper(Class<?> targetClass) {
 		super(targetClass);
+	
+	}
+	
+	public AdaptiveProxyWrapper(Class<?> targetClass, ProxyMode mode) {
+		super(targetClass, mode);
 		
 	}
 
 	@Override
-	protected Class<?> createProxyClass() {
+	protected DynamicType.Builder<?> createProxyBuilder() throws NoSuchMethodException {
 		
 		Class<?> superType = determineProxySuperclass();
 		List<Class<?>> interfaces = collectProxyInterfaces(superType);
 		
-		boolean hasDefaultConstructor = true;
+		Constructor<?> defaultConstructor = null;
 		
 		try {
 			
-			superType.getDeclaredConstructor();
+			defaultConstructor = superType.getDeclaredConstructor();
 		}
 		catch(NoSuchMethodException e) {
 			
-			hasDefaultConstructor = false;
+			defaultConstructor = null;
 		}
 		
-		try {
-			
-			return new ByteBuddy()
-				.subclass(superType)
-				.implement(interfaces)
-				.defineField("original", Object.class, Visibility.PRIVATE)
-				.defineField("pac", PreparedAccessConfiguration.class, Visibility.PRIVATE)
-				.defineConstructor(Visibility.PUBLIC)
-				.withParameters(Object.class, PreparedAccessConfiguration.class)
-				.intercept(hasDefaultConstructor
-						? MethodCall.invoke(superType.getDeclaredConstructor()).andThen(FieldAccessor.ofField("original").setsArgumentAt(0).andThen(FieldAccessor.ofField("pac").setsArgumentAt(1)))
-						: FieldAccessor.ofField("original").setsArgumentAt(0).andThen(FieldAccessor.ofField("pac").setsArgumentAt(1)))
-				.method(ElementMatchers.isPublic())
-				.intercept(InvocationHandlerAdapter.toField("pac"))
-				.defineMethod("getOriginal", Object.class, Visibility.PUBLIC).intercept(FieldAccessor.ofField("original"))
-				.make()
-				.load(ClassLoader.getSystemClassLoader())
-				.getLoaded();
-		}
-		catch(Exception e) {
-			
-			throw new CreateProxyClassException(e);
-		}
+		return defineProxy(new ByteBuddy()
+			.subclass(superType)
+			.implement(interfaces), defaultConstructor);
 	}
 	
 	private List<Class<?>> collectProxyInterfaces(Class<?> superClazz) {
@@ -0,0 +1,217 @@
+package com.kero.security.core.proxy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.config.action.exceptions.ActionGrantMethodInvokeException;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Duplication;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.Throw;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.InstanceCheck;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.collection.ArrayAccess;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.matcher.ElementMatchers;
+
+/*
+ * Emits a body per slot method:
+ *
+ * Action action = this.actions[slot];
+ * if(action instanceof ActionGrant) {
+ *     Object result;
+ *     try { result = ((Declaring) this.original).method(args...); }
+ *     catch(Throwable e) { throw DirectCallImplementation.invokeFailed(e); }
+ *     return ((ActionGrant) action).protect(result);
+ * }
+ * return action.process(slots[slot], this.original, new Object[] {args...});
+ *
+ * Primitive and void results skip the protect call, so the granted path has no reflection and no boxing.
+ * Failures of the original method are wrapped the same way ActionGrant.process wraps them.
+ */
+public class DirectCallImplementation implements Implementation {
+
+	private static final TypeDescription ACTION = TypeDescription.ForLoadedType.of(Action.class);
+	private static final TypeDescription ACTION_GRANT = TypeDescription.ForLoadedType.of(ActionGrant.class);
+	
+	private static final MethodDescription PROTECT;
+	private static final MethodDescription PROCESS;
+	private static final MethodDescription INVOKE_FAILED;
+	
+	static {
+		
+		try {
+			
+			PROTECT = new MethodDescription.ForLoadedMethod(ActionGrant.class.getMethod("protect", Object.class));
+			PROCESS = new MethodDescription.ForLoadedMethod(Action.class.getMethod("process", Method.class, Object.class, Object[].class));
+			INVOKE_FAILED = new MethodDescription.ForLoadedMethod(DirectCallImplementation.class.getMethod("invokeFailed", Throwable.class));
+		}
+		catch(NoSuchMethodException e) {
+			
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private Method[] slots;
+	private Map<MethodDescription.SignatureToken, Integer> indexes = new HashMap<>();
+	
+	public DirectCallImplementation(Method[] slots) {
+		
+		this.slots = slots;
+		
+		for(int i = 0; i < slots.length; i++) {
+			
+			indexes.put(new MethodDescription.ForLoadedMethod(slots[i]).asSignatureToken(), i);
+		}
+	}
+	
+	public static RuntimeException invokeFailed(Throwable cause) {
+		
+		return new ActionGrantMethodInvokeException(new InvocationTargetException(cause));
+	}
+	
+	public boolean isDirect(MethodDescription method) {
+		
+		return indexes.containsKey(method.asSignatureToken());
+	}
+	
+	@Override
+	public InstrumentedType prepare(InstrumentedType instrumentedType) {
+		
+		return instrumentedType;
+	}
+	
+	@Override
+	public ByteCodeAppender appender(Target implementationTarget) {
+		
+		return new Appender(implementationTarget.getInstrumentedType());
+	}
+	
+	private class Appender implements ByteCodeAppender {
+		
+		private FieldDescription actionsField;
+		private FieldDescription slotsField;
+		private FieldDescription originalField;
+		
+		private Appender(TypeDescription instrumentedType) {
+			
+			this.actionsField = instrumentedType.getDeclaredFields().filter(ElementMatchers.named("actions")).getOnly();
+			this.slotsField = instrumentedType.getDeclaredFields().filter(ElementMatchers.named("slots")).getOnly();
+			this.originalField = instrumentedType.getDeclaredFields().filter(ElementMatchers.named("original")).getOnly();
+		}
+		
+		@Override
+		public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+			
+			int slot = indexes.get(instrumentedMethod.asSignatureToken());
+			
+			MethodDescription target = new MethodDescription.ForLoadedMethod(slots[slot]);
+			TypeDescription.Generic returnType = instrumentedMethod.getReturnType();
+			
+			boolean protectResult = !returnType.isPrimitive();
+			
+			Label fallback = new Label();
+			Label invokeStart = new Label();
+			Label invokeEnd = new Label();
+			Label invokeFailed = new Label();
+			
+			methodVisitor.visitTryCatchBlock(invokeStart, invokeEnd, invokeFailed, "java/lang/Throwable");
+			
+			StackManipulation.Size check = new StackManipulation.Compound(
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField(actionsField).read(),
+					IntegerConstant.forValue(slot),
+					ArrayAccess.REFERENCE.load(),
+					Duplication.SINGLE,
+					InstanceCheck.of(ACTION_GRANT)
+				).apply(methodVisitor, implementationContext);
+			
+			methodVisitor.visitJumpInsn(Opcodes.IFEQ, fallback);
+			
+			StackManipulation.Size prepare = (protectResult ? TypeCasting.to(ACTION_GRANT) : Removal.SINGLE).apply(methodVisitor, implementationContext);
+			
+			methodVisitor.visitLabel(invokeStart);
+			
+			StackManipulation.Size invoke = new StackManipulation.Compound(
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField(originalField).read(),
+					TypeCasting.to(target.getDeclaringType()),
+					MethodVariableAccess.allArgumentsOf(instrumentedMethod),
+					MethodInvocation.invoke(target)
+				).apply(methodVisitor, implementationContext);
+			
+			methodVisitor.visitLabel(invokeEnd);
+			
+			StackManipulation.Size direct = new StackManipulation.Compound(
+					protectResult
+						? new StackManipulation.Compound(MethodInvocation.invoke(PROTECT), TypeCasting.to(returnType.asErasure()))
+						: StackManipulation.Trivial.INSTANCE,
+					MethodReturn.of(returnType)
+				).apply(methodVisitor, implementationContext);
+			
+			methodVisitor.visitLabel(fallback);
+			methodVisitor.visitFrame(Opcodes.F_SAME1, 0, null, 1, new Object[] {ACTION.getInternalName()});
+			
+			StackManipulation.Size reflective = new StackManipulation.Compound(
+					FieldAccess.forField(slotsField).read(),
+					IntegerConstant.forValue(slot),
+					ArrayAccess.REFERENCE.load(),
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField(originalField).read(),
+					ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(boxArguments(instrumentedMethod)),
+					MethodInvocation.invoke(PROCESS),
+					Assigner.DEFAULT.assign(TypeDescription.Generic.OBJECT, returnType, Assigner.Typing.DYNAMIC),
+					MethodReturn.of(returnType)
+				).apply(methodVisitor, implementationContext);
+			
+			methodVisitor.visitLabel(invokeFailed);
+			methodVisitor.visitFrame(Opcodes.F_SAME1, 0, null, 1, new Object[] {"java/lang/Throwable"});
+			
+			StackManipulation.Size failed = new StackManipulation.Compound(
+					MethodInvocation.invoke(INVOKE_FAILED),
+					Throw.INSTANCE
+				).apply(methodVisitor, implementationContext);
+			
+			int stackSize = check.getMaximalSize() + prepare.getMaximalSize() + invoke.getMaximalSize() + direct.getMaximalSize() + reflective.getMaximalSize() + failed.getMaximalSize();
+			
+			return new Size(stackSize, instrumentedMethod.getStackSize());
+		}
+		
+		private List<StackManipulation> boxArguments(MethodDescription instrumentedMethod) {
+			
+			List<StackManipulation> arguments = new ArrayList<>();
+			
+			for(ParameterDescription parameter : instrumentedMethod.getParameters()) {
+				
+				arguments.add(new StackManipulation.Compound(
+					MethodVariableAccess.load(parameter),
+					Assigner.DEFAULT.assign(parameter.getType(), TypeDescription.Generic.OBJECT, Assigner.Typing.STATIC)));
+			}
+			
+			return arguments;
+		}
+	}
+}
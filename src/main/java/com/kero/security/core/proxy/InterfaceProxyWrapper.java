@@ -0,0 +1,92 @@
+package com.kero.security.core.proxy;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.kero.security.core.scheme.AccessProxy;
+import com.kero.security.core.utils.ByteBuddyClassUtils;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.DynamicType;
+
+public class InterfaceProxyWrapper extends ProxyWrapperBase {
+
+	public InterfaceProxyWrapper(Class<?> targetClass) {
+		super(targetClass);
+	
+	}
+	
+	public InterfaceProxyWrapper(Class<?> targetClass, ProxyMode mode) {
+		super(targetClass, mode);
+	
+	}
+	
+	@Override
+	protected DynamicType.Builder<?> createProxyBuilder() throws NoSuchMethodException {
+		
+		List<Class<?>> interfaces = new ArrayList<>(collectProxyInterfaces(this.targetClass));
+			interfaces.add(AccessProxy.class);
+		
+		return defineProxy(new ByteBuddy()
+			.subclass(Object.class)
+			.implement(interfaces), Object.class.getDeclaredConstructor());
+	}
+	
+	@Override
+	protected Method[] collectDirectSlots() {
+		
+		Set<MethodDescription.SignatureToken> exposed = new HashSet<>();
+		
+		for(Class<?> inter : collectProxyInterfaces(this.targetClass)) {
+			
+			for(Method method : inter.getMethods()) {
+				
+				exposed.add(new MethodDescription.ForLoadedMethod(method).asSignatureToken());
+			}
+		}
+		
+		List<Method> slots = new ArrayList<>();
+		
+		for(Method method : super.collectDirectSlots()) {
+			
+			if(exposed.contains(new MethodDescription.ForLoadedMethod(method).asSignatureToken())) {
+				
+				slots.add(method);
+			}
+		}
+		
+		return slots.toArray(new Method[0]);
+	}
+	
+	public static boolean isApplicable(Class<?> targetClass) {
+		
+		return !collectProxyInterfaces(targetClass).isEmpty();
+	}
+	
+	private static Set<Class<?>> collectProxyInterfaces(Class<?> targetClass) {
+		
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		
+		Class<?> currentClass = targetClass;
+		
+		while(currentClass != null) {
+			
+			for(Class<?> inter : currentClass.getInterfaces()) {
+				
+				if(ByteBuddyClassUtils.checkAccessible(inter)) {
+					
+					interfaces.add(inter);
+				}
+			}
+			
+			currentClass = currentClass.getSuperclass();
+		}
+		
+		return interfaces;
+	}
+}
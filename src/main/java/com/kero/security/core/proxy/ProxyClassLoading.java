@@ -0,0 +1,152 @@
+package com.kero.security.core.proxy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.kero.security.core.scheme.AccessProxy;
+
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
+
+public class ProxyClassLoading {
+
+	public static final String PROXY_SUFFIX = "$KeroProxy$";
+	
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+	
+	private static final AtomicLong LOADED_CLASSES = new AtomicLong();
+	private static final AtomicLong LOADED_BYTES = new AtomicLong();
+	
+	private static final Map<ClassLoader, WeakReference<ClassLoader>> BRIDGES = Collections.synchronizedMap(new WeakHashMap<>());
+	
+	public static String nameFor(Class<?> targetClass) {
+		
+		Class<?> host = getHost(targetClass);
+		
+		String baseName = host == targetClass ? targetClass.getName() : host.getPackage().getName()+"."+targetClass.getSimpleName();
+		
+		return baseName+PROXY_SUFFIX+SEQUENCE.incrementAndGet();
+	}
+	
+	public static Class<?> load(DynamicType.Unloaded<?> type, Class<?> targetClass) {
+		
+		Class<?> loaded = define(type, targetClass);
+		
+		long bytes = 0;
+		
+		for(byte[] definition : type.getAllTypes().values()) {
+			
+			bytes += definition.length;
+		}
+		
+		LOADED_CLASSES.incrementAndGet();
+		LOADED_BYTES.addAndGet(bytes);
+		
+		return loaded;
+	}
+	
+	private static Class<?> define(DynamicType.Unloaded<?> type, Class<?> targetClass) {
+		
+		Class<?> host = getHost(targetClass);
+		ClassLoader loader = host.getClassLoader();
+		
+		if(isKeroVisible(loader)) {
+			
+			try {
+				
+				if(ClassInjector.UsingLookup.isAvailable()) {
+					
+					ClassInjector injector = ClassInjector.UsingLookup.of(MethodHandles.lookup()).in(host);
+					
+					return type.load(loader, (ClassLoadingStrategy<ClassLoader>) (classLoader, types)-> injector.inject(types)).getLoaded();
+				}
+				
+				if(ClassInjector.UsingReflection.isAvailable()) {
+					
+					return type.load(loader, ClassLoadingStrategy.Default.INJECTION).getLoaded();
+				}
+			}
+			catch(RuntimeException e) {
+				
+				if(!isInjectionFailure(e)) throw e;
+			}
+		}
+		
+		return type.load(getBridge(loader), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+	}
+	
+	public static ClassLoader getBridge(ClassLoader loader) {
+		
+		synchronized(BRIDGES) {
+			
+			WeakReference<ClassLoader> reference = BRIDGES.get(loader);
+			ClassLoader bridge = reference != null ? reference.get() : null;
+			
+			if(bridge == null) {
+				
+				bridge = new MultipleParentClassLoader.Builder()
+					.append(loader, getKeroLoader())
+					.build();
+				
+				BRIDGES.put(loader, new WeakReference<>(bridge));
+			}
+			
+			return bridge;
+		}
+	}
+	
+	public static int getBridgesCount() {
+		
+		return BRIDGES.size();
+	}
+	
+	public static long getLoadedClassesCount() {
+		
+		return LOADED_CLASSES.get();
+	}
+	
+	public static long getLoadedBytes() {
+		
+		return LOADED_BYTES.get();
+	}
+	
+	private static Class<?> getHost(Class<?> targetClass) {
+		
+		if(targetClass.getClassLoader() == null || targetClass.getName().startsWith("java.")) {
+			
+			return ProxyClassLoading.class;
+		}
+		
+		return targetClass;
+	}
+	
+	private static boolean isKeroVisible(ClassLoader loader) {
+		
+		try {
+			
+			return Class.forName(AccessProxy.class.getName(), false, loader) == AccessProxy.class;
+		}
+		catch(ClassNotFoundException | LinkageError e) {
+			
+			return false;
+		}
+	}
+	
+	private static boolean isInjectionFailure(RuntimeException e) {
+		
+		return e instanceof IllegalStateException || e instanceof UnsupportedOperationException || e instanceof SecurityException;
+	}
+	
+	private static ClassLoader getKeroLoader() {
+		
+		ClassLoader loader = ProxyClassLoading.class.getClassLoader();
+		
+		return loader != null ? loader : ClassLoader.getSystemClassLoader();
+	}
+}
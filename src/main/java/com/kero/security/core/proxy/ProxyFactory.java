@@ -0,0 +1,52 @@
+package com.kero.security.core.proxy;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.proxy.exception.CreateProxyClassException;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+
+public interface ProxyFactory {
+
+	public Object newInstance(Object original, PreparedAccessConfiguration pac);
+	
+	public static ProxyFactory create(Class<?> proxyClass) {
+		
+		try {
+			
+			return make(TypeDescription.ForLoadedType.of(proxyClass), null)
+				.load(proxyClass.getClassLoader())
+				.getLoaded()
+				.getDeclaredConstructor()
+				.newInstance();
+		}
+		catch(Exception e) {
+			
+			throw new CreateProxyClassException(e);
+		}
+	}
+	
+	public static DynamicType.Unloaded<? extends ProxyFactory> make(TypeDescription proxyType, String name) {
+		
+		MethodDescription constructor = proxyType.getDeclaredMethods()
+			.filter(ElementMatchers.isConstructor().and(ElementMatchers.takesArguments(Object.class, PreparedAccessConfiguration.class)))
+			.getOnly();
+		
+		DynamicType.Builder<ProxyFactory> builder = new ByteBuddy()
+			.subclass(ProxyFactory.class);
+		
+		if(name != null) {
+			
+			builder = builder.name(name);
+		}
+		
+		return builder
+			.method(ElementMatchers.named("newInstance"))
+			.intercept(MethodCall.construct(constructor).withAllArguments())
+			.make();
+	}
+}
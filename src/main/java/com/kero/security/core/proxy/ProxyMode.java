@@ -0,0 +1,6 @@
+package com.kero.security.core.proxy;
+
+public enum ProxyMode {
+
+	DIRECT, REFLECTIVE;
+}
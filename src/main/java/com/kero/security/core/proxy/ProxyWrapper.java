@@ -3,23 +3,57 @@ package com.kero.security.core.proxy;
 import java.lang.reflect.Modifier;
 
 import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.proxy.precompiled.PrecompiledProxyRegistry;
+import com.kero.security.core.proxy.precompiled.PrecompiledProxyWrapper;
 import com.kero.security.core.utils.ByteBuddyClassUtils;
 
 public interface ProxyWrapper {
 
 	public Object wrap(Object obj, PreparedAccessConfiguration pac);
+	
+	public default void prepare() {
+		
+	}
 
 	public static ProxyWrapper create(Class<?> targetClass) {
 		
+		return create(targetClass, ProxyMode.DIRECT);
+	}
+	
+	public static ProxyWrapper create(Class<?> targetClass, ProxyMode mode, boolean interfaceOnly) {
+		
+		if(interfaceOnly && InterfaceProxyWrapper.isApplicable(targetClass)) {
+			
+			return new InterfaceProxyWrapper(targetClass, mode);
+		}
+		
+		return create(targetClass, mode);
+	}
+	
+	public static ProxyWrapper create(Class<?> targetClass, ProxyMode mode) {
+		
+		ClassLoader classLoader = targetClass.getClassLoader();
+		PrecompiledProxyRegistry.Entry precompiled = PrecompiledProxyRegistry.get(classLoader).find(targetClass, mode);
+		
+		if(precompiled != null) {
+			
+			return new PrecompiledProxyWrapper(targetClass, precompiled, classLoader);
+		}
+		
+		return createGenerating(targetClass, mode);
+	}
+	
+	public static ProxyWrapper createGenerating(Class<?> targetClass, ProxyMode mode) {
+		
 		boolean accessible = ByteBuddyClassUtils.checkAccessible(targetClass);
 		
 		if(!Modifier.isFinal(targetClass.getModifiers()) && accessible) {
 			
-			return new SubclassProxyWrapper(targetClass);
+			return new SubclassProxyWrapper(targetClass, mode);
 		}
 		else {
 			
-			return new AdaptiveProxyWrapper(targetClass);
+			return new AdaptiveProxyWrapper(targetClass, mode);
 		}
 	}
 }
@@ -1,26 +1,58 @@
 package com.kero.security.core.proxy;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.jfr.KeroFlightRecorder;
+import com.kero.security.core.metrics.KeroMetrics;
+import com.kero.security.core.proxy.exception.CreateProxyClassException;
 import com.kero.security.core.proxy.exception.ProxyWrappingException;
+import com.kero.security.core.utils.ByteBuddyClassUtils;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
 
 public abstract class ProxyWrapperBase implements ProxyWrapper {
 	
 	protected Class<?> targetClass;
-	private Class<?> proxyClass;
+	protected ProxyMode mode;
+	protected KeroMetrics metrics = KeroMetrics.EMPTY;
+	private volatile ProxyFactory proxyFactory;
 	
 	public ProxyWrapperBase(Class<?> targetClass) {
 		
+		this(targetClass, ProxyMode.DIRECT);
+	}
+	
+	public ProxyWrapperBase(Class<?> targetClass, ProxyMode mode) {
+		
 		this.targetClass = targetClass;
+		this.mode = mode;
 	}
 
 	@Override
 	public Object wrap(Object obj, PreparedAccessConfiguration pac) {
 
-		Class<?> proxyClass = getProxyClass();
+		ProxyFactory proxyFactory = getProxyFactory();
 		
 		try {
 			
-			return proxyClass.getDeclaredConstructor(Object.class, PreparedAccessConfiguration.class).newInstance(obj, pac);
+			return proxyFactory.newInstance(obj, pac);
 		}
 		catch(Exception e) {
 			
@@ -28,14 +60,166 @@ public abstract class ProxyWrapperBase implements ProxyWrapper {
 		}
 	}
 
-	protected abstract Class<?> createProxyClass();
+	@Override
+	public void prepare() {
+		
+		getProxyFactory();
+	}
+
+	protected Class<?> createProxyClass() {
+		
+		try {
+			
+			long start = System.nanoTime();
+			
+			Object event = KeroFlightRecorder.beginProxyGeneration();
+			
+			DynamicType.Unloaded<?> proxyType = createProxyBuilder()
+				.name(ProxyClassLoading.nameFor(this.targetClass))
+				.make();
+			
+			Class<?> proxyClass = ProxyClassLoading.load(proxyType, this.targetClass);
+			
+			KeroFlightRecorder.commitProxyGeneration(event, this.targetClass, proxyType);
+			
+			metrics.proxyClassCreated(this.targetClass, System.nanoTime() - start);
+			
+			return proxyClass;
+		}
+		catch(Exception e) {
+			
+			throw new CreateProxyClassException(e);
+		}
+	}
+	
+	public DynamicType.Unloaded<?> makeProxyClass(String name) {
+		
+		try {
+			
+			return createProxyBuilder()
+				.name(name)
+				.make();
+		}
+		catch(Exception e) {
+			
+			throw new CreateProxyClassException(e);
+		}
+	}
 	
-	private Class<?> getProxyClass() {
+	protected ProxyFactory createProxyFactory() {
 		
-		if(this.proxyClass != null) return this.proxyClass;
+		return ProxyFactory.create(createProxyClass());
+	}
+	
+	public void setMetrics(KeroMetrics metrics) {
 		
-		this.proxyClass = createProxyClass();
+		this.metrics = metrics;
+	}
+	
+	protected abstract DynamicType.Builder<?> createProxyBuilder() throws NoSuchMethodException;
 	
-		return this.proxyClass;
+	protected DynamicType.Builder<?> defineProxy(DynamicType.Builder<?> builder, Constructor<?> superConstructor) throws NoSuchMethodException {
+		
+		Implementation.Composable fieldsInitializer = FieldAccessor.ofField("original").setsArgumentAt(0).andThen(FieldAccessor.ofField("pac").setsArgumentAt(1));
+		
+		builder = builder
+			.defineField("original", Object.class, Visibility.PRIVATE)
+			.defineField("pac", PreparedAccessConfiguration.class, Visibility.PRIVATE);
+		
+		DirectCallImplementation directCall = null;
+		
+		if(this.mode == ProxyMode.DIRECT) {
+			
+			Method[] slots = collectDirectSlots();
+			
+			directCall = new DirectCallImplementation(slots);
+			
+			builder = builder
+				.defineField("actions", Action[].class, Visibility.PRIVATE)
+				.defineField("slots", Method[].class, Visibility.PRIVATE, Ownership.STATIC)
+				.initializer(new LoadedTypeInitializer.ForStaticField("slots", slots));
+			
+			Method getActions = PreparedAccessConfiguration.class.getMethod("getActions", Method[].class);
+			
+			fieldsInitializer = MethodCall.invoke(getActions).onArgument(1).withField("slots").setsField(ElementMatchers.named("actions")).andThen(fieldsInitializer);
+		}
+		
+		if(superConstructor != null) {
+			
+			fieldsInitializer = MethodCall.invoke(superConstructor).andThen(fieldsInitializer);
+		}
+		
+		builder = builder
+			.defineConstructor(Visibility.PUBLIC)
+			.withParameters(Object.class, PreparedAccessConfiguration.class)
+			.intercept(fieldsInitializer)
+			.method(ElementMatchers.isPublic())
+			.intercept(InvocationHandlerAdapter.toField("pac"));
+		
+		if(directCall != null) {
+			
+			builder = builder
+				.method(ElementMatchers.isPublic().and(directCall::isDirect))
+				.intercept(directCall);
+		}
+		
+		return builder
+			.defineMethod("getOriginal", Object.class, Visibility.PUBLIC).intercept(FieldAccessor.ofField("original"));
+	}
+	
+	protected Method[] collectDirectSlots() {
+		
+		return collectDirectSlots(this.targetClass);
+	}
+	
+	public static Method[] collectDirectSlots(Class<?> targetClass) {
+		
+		Map<MethodDescription.SignatureToken, Method> slots = new LinkedHashMap<>();
+		
+		for(Method method : targetClass.getMethods()) {
+			
+			int modifiers = method.getModifiers();
+			
+			if(Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) continue;
+			if(method.isBridge() || method.isSynthetic()) continue;
+			if(!ByteBuddyClassUtils.checkAccessible(method.getDeclaringClass())) continue;
+			
+			MethodDescription.SignatureToken token = new MethodDescription.ForLoadedMethod(method).asSignatureToken();
+			
+			Method present = slots.get(token);
+			
+			if(present == null || present.getDeclaringClass().isInterface()) {
+				
+				slots.put(token, method);
+			}
+		}
+		
+		Method[] result = slots.values().toArray(new Method[0]);
+		
+		Arrays.sort(result, Comparator.comparing(ProxyWrapperBase::slotKey));
+		
+		return result;
+	}
+	
+	private static String slotKey(Method method) {
+		
+		return method.getName()+new MethodDescription.ForLoadedMethod(method).getDescriptor();
+	}
+	
+	private ProxyFactory getProxyFactory() {
+		
+		ProxyFactory proxyFactory = this.proxyFactory;
+		
+		if(proxyFactory != null) return proxyFactory;
+		
+		synchronized(this) {
+			
+			if(this.proxyFactory == null) {
+				
+				this.proxyFactory = createProxyFactory();
+			}
+			
+			return this.proxyFactory;
+		}
 	}
 }
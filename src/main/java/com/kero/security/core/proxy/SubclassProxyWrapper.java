@@ -1,15 +1,11 @@
 package com.kero.security.core.proxy;
 
-import com.kero.security.core.config.PreparedAccessConfiguration;
-import com.kero.security.core.proxy.exception.CreateProxyClassException;
+import java.lang.reflect.Constructor;
+
 import com.kero.security.core.scheme.AccessProxy;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.implementation.MethodCall;
-import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.dynamic.DynamicType;
 
 public class SubclassProxyWrapper extends ProxyWrapperBase {
 
@@ -18,42 +14,27 @@ public class SubclassProxyWrapper extends ProxyWrapperBase {
 		
 	}
 
+	public SubclassProxyWrapper(Class<?> targetClass, ProxyMode mode) {
+		super(targetClass, mode);
+	
+	}
+	
 	@Override
-	protected Class<?> createProxyClass() {
+	protected DynamicType.Builder<?> createProxyBuilder() throws NoSuchMethodException {
 
-		boolean hasDefaultConstructor = true;
+		Constructor<?> defaultConstructor = null;
 	
 		try {
 			
-			targetClass.getDeclaredConstructor();
+			defaultConstructor = targetClass.getDeclaredConstructor();
 		}
 		catch(NoSuchMethodException e) {
 			
-			hasDefaultConstructor = false;
+			defaultConstructor = null;
 		}
 		
-		try {
-			
-			return new ByteBuddy()
-				.subclass(this.targetClass)
-				.implement(AccessProxy.class)
-				.defineField("original", Object.class, Visibility.PRIVATE)
-				.defineField("pac", PreparedAccessConfiguration.class, Visibility.PRIVATE)
-				.defineConstructor(Visibility.PUBLIC)
-				.withParameters(Object.class, PreparedAccessConfiguration.class)
-				.intercept(hasDefaultConstructor
-					? MethodCall.invoke(targetClass.getDeclaredConstructor()).andThen(FieldAccessor.ofField("original").setsArgumentAt(0).andThen(FieldAccessor.ofField("pac").setsArgumentAt(1)))
-					: FieldAccessor.ofField("original").setsArgumentAt(0).andThen(FieldAccessor.ofField("pac").setsArgumentAt(1)))
-				.method(ElementMatchers.isPublic())
-				.intercept(InvocationHandlerAdapter.toField("pac"))
-				.defineMethod("getOriginal", Object.class, Visibility.PUBLIC).intercept(FieldAccessor.ofField("original"))
-				.make()
-				.load(ClassLoader.getSystemClassLoader())
-				.getLoaded();
-		}
-		catch(Exception e) {
-			
-			throw new CreateProxyClassException(e);
-		}
+		return defineProxy(new ByteBuddy()
+			.subclass(this.targetClass)
+			.implement(AccessProxy.class), defaultConstructor);
 	}
 }
@@ -0,0 +1,18 @@
+package com.kero.security.core.proxy.cache;
+
+import java.util.function.BiFunction;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+
+public interface ProxyInstanceCache {
+
+	public Object get(Object original, PreparedAccessConfiguration pac, BiFunction<Object, PreparedAccessConfiguration, Object> factory);
+	
+	public void clear();
+	public int size();
+	
+	public static ProxyInstanceCache create() {
+		
+		return new WeakIdentityProxyInstanceCache();
+	}
+}
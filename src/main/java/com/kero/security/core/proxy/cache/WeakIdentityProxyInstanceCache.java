@@ -0,0 +1,162 @@
+package com.kero.security.core.proxy.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+
+public class WeakIdentityProxyInstanceCache implements ProxyInstanceCache {
+
+	private Map<Key, Reference<Object>> entries = new ConcurrentHashMap<>();
+	
+	private ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	
+	private boolean softValues;
+	
+	public WeakIdentityProxyInstanceCache() {
+		
+		this(false);
+	}
+	
+	public WeakIdentityProxyInstanceCache(boolean softValues) {
+		
+		this.softValues = softValues;
+	}
+	
+	@Override
+	public Object get(Object original, PreparedAccessConfiguration pac, BiFunction<Object, PreparedAccessConfiguration, Object> factory) {
+		
+		expunge();
+		
+		Reference<Object> reference = entries.get(new Key(original, pac, null));
+		Object proxy = reference != null ? reference.get() : null;
+		
+		if(proxy != null) return proxy;
+		
+		proxy = factory.apply(original, pac);
+		
+		Key key = new Key(original, pac, queue);
+		Reference<Object> created = softValues ? new SoftValue(proxy, key, queue) : new WeakValue(proxy, key, queue);
+		
+		while(true) {
+			
+			Reference<Object> present = entries.putIfAbsent(key, created);
+			
+			if(present == null) return proxy;
+			
+			Object presentProxy = present.get();
+			
+			if(presentProxy != null) return presentProxy;
+			
+			if(entries.replace(key, present, created)) return proxy;
+		}
+	}
+	
+	@Override
+	public void clear() {
+		
+		entries.clear();
+		
+		while(queue.poll() != null);
+	}
+	
+	@Override
+	public int size() {
+		
+		expunge();
+		
+		return entries.size();
+	}
+	
+	private void expunge() {
+		
+		Reference<?> reference;
+		
+		while((reference = queue.poll()) != null) {
+			
+			if(reference instanceof Key) {
+				
+				entries.remove(reference);
+			}
+			else if(reference instanceof ValueReference) {
+				
+				entries.remove(((ValueReference) reference).getKey(), reference);
+			}
+		}
+	}
+	
+	private interface ValueReference {
+		
+		public Key getKey();
+	}
+	
+	private static class WeakValue extends WeakReference<Object> implements ValueReference {
+		
+		private Key key;
+		
+		public WeakValue(Object proxy, Key key, ReferenceQueue<Object> queue) {
+			super(proxy, queue);
+			
+			this.key = key;
+		}
+		
+		@Override
+		public Key getKey() {
+			
+			return this.key;
+		}
+	}
+	
+	private static class SoftValue extends SoftReference<Object> implements ValueReference {
+		
+		private Key key;
+		
+		public SoftValue(Object proxy, Key key, ReferenceQueue<Object> queue) {
+			super(proxy, queue);
+			
+			this.key = key;
+		}
+		
+		@Override
+		public Key getKey() {
+			
+			return this.key;
+		}
+	}
+	
+	private static class Key extends WeakReference<Object> {
+		
+		private PreparedAccessConfiguration pac;
+		private int hash;
+		
+		public Key(Object original, PreparedAccessConfiguration pac, ReferenceQueue<Object> queue) {
+			super(original, queue);
+			
+			this.pac = pac;
+			this.hash = System.identityHashCode(original) * 31 + System.identityHashCode(pac);
+		}
+		
+		@Override
+		public int hashCode() {
+			
+			return this.hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			if(this == obj) return true;
+			if(!(obj instanceof Key)) return false;
+			
+			Key other = (Key) obj;
+			Object original = get();
+			
+			return original != null && original == other.get() && this.pac == other.pac;
+		}
+	}
+}
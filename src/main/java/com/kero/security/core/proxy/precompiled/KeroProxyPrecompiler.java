@@ -0,0 +1,221 @@
+package com.kero.security.core.proxy.precompiled;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.proxy.ProxyFactory;
+import com.kero.security.core.proxy.ProxyMode;
+import com.kero.security.core.proxy.ProxyWrapper;
+import com.kero.security.core.proxy.ProxyWrapperBase;
+
+import net.bytebuddy.dynamic.DynamicType;
+
+public class KeroProxyPrecompiler {
+
+	private static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private static final String ANNOTATIONS_PACKAGE = "com.kero.security.";
+	
+	private File classesDir;
+	private ClassLoader classLoader;
+	private ProxyMode mode = ProxyMode.DIRECT;
+	
+	public KeroProxyPrecompiler(File classesDir, ClassLoader classLoader) {
+		
+		this.classesDir = classesDir;
+		this.classLoader = classLoader;
+	}
+	
+	public KeroProxyPrecompiler mode(ProxyMode mode) {
+		
+		this.mode = mode;
+		
+		return this;
+	}
+	
+	public Set<String> run() {
+		
+		Set<String> schemes = new TreeSet<>();
+		Properties proxies = new Properties();
+		
+		for(String className : findClassNames()) {
+			
+			Class<?> type;
+			
+			try {
+				
+				type = Class.forName(className, false, this.classLoader);
+			}
+			catch(ClassNotFoundException | LinkageError e) {
+				
+				LOGGER.warn("Skip precompilation of unloadable class: "+className);
+				continue;
+			}
+			
+			if(!isAnnotated(type)) continue;
+			
+			schemes.add(className);
+			
+			if(!isProxyable(type)) continue;
+			
+			try {
+				
+				ProxyWrapperBase wrapper = (ProxyWrapperBase) ProxyWrapper.createGenerating(type, this.mode);
+				
+				String proxyName = className+PrecompiledProxyRegistry.PROXY_SUFFIX;
+				String factoryName = className+PrecompiledProxyRegistry.FACTORY_SUFFIX;
+				
+				DynamicType.Unloaded<?> proxy = wrapper.makeProxyClass(proxyName);
+				DynamicType.Unloaded<?> factory = ProxyFactory.make(proxy.getTypeDescription(), factoryName);
+				
+				proxy.saveIn(this.classesDir);
+				factory.saveIn(this.classesDir);
+				
+				String fingerprint = this.mode == ProxyMode.DIRECT ? PrecompiledProxyRegistry.fingerprint(ProxyWrapperBase.collectDirectSlots(type)) : null;
+				
+				proxies.setProperty(className, new PrecompiledProxyRegistry.Entry(this.mode, proxyName, factoryName, fingerprint).toString());
+			}
+			catch(Exception e) {
+				
+				LOGGER.warn("Can't precompile proxy for: "+className, e);
+			}
+		}
+		
+		writeResources(proxies, schemes);
+		
+		LOGGER.info("Precompiled "+proxies.size()+" proxies for "+schemes.size()+" annotated types into "+this.classesDir);
+		
+		return proxies.stringPropertyNames();
+	}
+	
+	protected boolean isAnnotated(Class<?> type) {
+		
+		if(hasKeroAnnotation(type.getDeclaredAnnotations())) return true;
+		
+		List<AccessibleObject> members = new ArrayList<>();
+		
+		members.addAll(Arrays.asList(type.getDeclaredFields()));
+		members.addAll(Arrays.asList(type.getDeclaredMethods()));
+		
+		for(AccessibleObject member : members) {
+			
+			if(hasKeroAnnotation(member.getDeclaredAnnotations())) return true;
+		}
+		
+		return false;
+	}
+	
+	private boolean hasKeroAnnotation(Annotation[] annotations) {
+		
+		for(Annotation annotation : annotations) {
+			
+			if(annotation.annotationType().getName().startsWith(ANNOTATIONS_PACKAGE)) return true;
+		}
+		
+		return false;
+	}
+	
+	protected boolean isProxyable(Class<?> type) {
+		
+		if(type.isInterface() || type.isEnum() || type.isAnnotation() || type.isAnonymousClass() || type.isSynthetic()) return false;
+		
+		return Modifier.isPublic(type.getModifiers());
+	}
+	
+	private List<String> findClassNames() {
+		
+		Path root = this.classesDir.toPath();
+		
+		try(Stream<Path> files = Files.walk(root)) {
+			
+			return files
+				.filter((file)-> file.toString().endsWith(".class"))
+				.map((file)-> root.relativize(file).toString())
+				.map((name)-> name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'))
+				.filter((name)-> !name.contains(PrecompiledProxyRegistry.PROXY_SUFFIX))
+				.filter((name)-> !name.endsWith("package-info") && !name.endsWith("module-info"))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private void writeResources(Properties proxies, Set<String> schemes) {
+		
+		File proxiesFile = new File(this.classesDir, PrecompiledProxyRegistry.PROXIES_RESOURCE);
+		File schemesFile = new File(this.classesDir, PrecompiledProxyRegistry.SCHEMES_RESOURCE);
+		
+		proxiesFile.getParentFile().mkdirs();
+		
+		try(OutputStream out = Files.newOutputStream(proxiesFile.toPath())) {
+			
+			proxies.store(out, "Generated by Kero-Security");
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		try(Writer writer = Files.newBufferedWriter(schemesFile.toPath(), StandardCharsets.UTF_8)) {
+			
+			for(String scheme : schemes) {
+				
+				writer.write(scheme);
+				writer.write('\n');
+			}
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static void main(String[] args) throws Exception {
+		
+		if(args.length < 1) throw new IllegalArgumentException("Usage: KeroProxyPrecompiler <classesDir> [DIRECT|REFLECTIVE] [classpath entries...]");
+		
+		File classesDir = new File(args[0]);
+		ProxyMode mode = args.length > 1 ? ProxyMode.valueOf(args[1]) : ProxyMode.DIRECT;
+		
+		List<URL> urls = new ArrayList<>();
+		
+		urls.add(classesDir.toURI().toURL());
+		
+		for(int i = 2; i < args.length; i++) {
+			
+			urls.add(new File(args[i]).toURI().toURL());
+		}
+		
+		try(URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), KeroProxyPrecompiler.class.getClassLoader())) {
+			
+			new KeroProxyPrecompiler(classesDir, classLoader)
+				.mode(mode)
+				.run();
+		}
+	}
+}
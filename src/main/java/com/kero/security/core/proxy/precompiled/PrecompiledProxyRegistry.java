@@ -0,0 +1,189 @@
+package com.kero.security.core.proxy.precompiled;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.kero.security.core.proxy.ProxyMode;
+
+import net.bytebuddy.description.method.MethodDescription;
+
+public class PrecompiledProxyRegistry {
+
+	public static final String PROXIES_RESOURCE = "META-INF/kero-security/proxies.properties";
+	public static final String SCHEMES_RESOURCE = "META-INF/kero-security/schemes.list";
+	
+	public static final String PROXY_SUFFIX = "$KeroProxy";
+	public static final String FACTORY_SUFFIX = "$KeroProxyFactory";
+	
+	private static final Map<ClassLoader, PrecompiledProxyRegistry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+	
+	private Map<String, Entry> entries;
+	private Set<String> schemes;
+	
+	private PrecompiledProxyRegistry(Map<String, Entry> entries, Set<String> schemes) {
+		
+		this.entries = entries;
+		this.schemes = schemes;
+	}
+	
+	public Entry find(Class<?> targetClass, ProxyMode mode) {
+		
+		Entry entry = this.entries.get(targetClass.getName());
+		
+		if(entry == null || entry.getMode() != mode) return null;
+		
+		return entry;
+	}
+	
+	public Set<String> getSchemeTypeNames() {
+		
+		return Collections.unmodifiableSet(this.schemes);
+	}
+	
+	public boolean isEmpty() {
+		
+		return this.entries.isEmpty() && this.schemes.isEmpty();
+	}
+	
+	public static PrecompiledProxyRegistry get(ClassLoader classLoader) {
+		
+		if(classLoader == null) return new PrecompiledProxyRegistry(Collections.emptyMap(), Collections.emptySet());
+		
+		return REGISTRIES.computeIfAbsent(classLoader, PrecompiledProxyRegistry::load);
+	}
+	
+	private static PrecompiledProxyRegistry load(ClassLoader classLoader) {
+		
+		Map<String, Entry> entries = new HashMap<>();
+		Set<String> schemes = new LinkedHashSet<>();
+		
+		try {
+			
+			Enumeration<URL> proxies = classLoader.getResources(PROXIES_RESOURCE);
+			
+			while(proxies.hasMoreElements()) {
+				
+				Properties properties = new Properties();
+				
+				try(InputStream in = proxies.nextElement().openStream()) {
+					
+					properties.load(in);
+				}
+				
+				for(String targetName : properties.stringPropertyNames()) {
+					
+					entries.put(targetName, Entry.parse(properties.getProperty(targetName)));
+				}
+			}
+			
+			Enumeration<URL> schemeLists = classLoader.getResources(SCHEMES_RESOURCE);
+			
+			while(schemeLists.hasMoreElements()) {
+				
+				try(BufferedReader reader = new BufferedReader(new InputStreamReader(schemeLists.nextElement().openStream(), StandardCharsets.UTF_8))) {
+					
+					String line;
+					
+					while((line = reader.readLine()) != null) {
+						
+						line = line.trim();
+						
+						if(!line.isEmpty() && !line.startsWith("#")) schemes.add(line);
+					}
+				}
+			}
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		return new PrecompiledProxyRegistry(entries, schemes);
+	}
+	
+	public static String fingerprint(Method[] slots) {
+		
+		StringBuilder signatures = new StringBuilder();
+		
+		for(Method slot : slots) {
+			
+			signatures.append(slot.getName()).append(new MethodDescription.ForLoadedMethod(slot).getDescriptor()).append('\n');
+		}
+		
+		return DigestUtils.sha1Hex(signatures.toString());
+	}
+	
+	public static class Entry {
+		
+		private ProxyMode mode;
+		private String proxyClassName;
+		private String factoryClassName;
+		private String slotsFingerprint;
+		
+		public Entry(ProxyMode mode, String proxyClassName, String factoryClassName) {
+			
+			this(mode, proxyClassName, factoryClassName, null);
+		}
+		
+		public Entry(ProxyMode mode, String proxyClassName, String factoryClassName, String slotsFingerprint) {
+			
+			this.mode = mode;
+			this.proxyClassName = proxyClassName;
+			this.factoryClassName = factoryClassName;
+			this.slotsFingerprint = slotsFingerprint;
+		}
+		
+		public ProxyMode getMode() {
+			
+			return this.mode;
+		}
+		
+		public String getProxyClassName() {
+			
+			return this.proxyClassName;
+		}
+		
+		public String getFactoryClassName() {
+			
+			return this.factoryClassName;
+		}
+		
+		public String getSlotsFingerprint() {
+			
+			return this.slotsFingerprint;
+		}
+		
+		@Override
+		public String toString() {
+			
+			String value = this.mode.name()+","+this.proxyClassName+","+this.factoryClassName;
+			
+			return this.slotsFingerprint != null ? value+","+this.slotsFingerprint : value;
+		}
+		
+		public static Entry parse(String value) {
+			
+			String[] parts = value.split(",");
+			
+			if(parts.length != 3 && parts.length != 4) throw new IllegalArgumentException("Invalid precompiled proxy entry: "+value);
+			
+			return new Entry(ProxyMode.valueOf(parts[0].trim()), parts[1].trim(), parts[2].trim(), parts.length == 4 ? parts[3].trim() : null);
+		}
+	}
+}
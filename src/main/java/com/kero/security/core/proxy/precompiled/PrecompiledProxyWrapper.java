@@ -0,0 +1,129 @@
+package com.kero.security.core.proxy.precompiled;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.proxy.ProxyFactory;
+import com.kero.security.core.proxy.ProxyMode;
+import com.kero.security.core.proxy.ProxyWrapper;
+import com.kero.security.core.proxy.ProxyWrapperBase;
+import com.kero.security.core.proxy.exception.CreateProxyClassException;
+import com.kero.security.core.proxy.exception.ProxyWrappingException;
+
+public class PrecompiledProxyWrapper implements ProxyWrapper {
+
+	private static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private Class<?> targetClass;
+	private PrecompiledProxyRegistry.Entry entry;
+	private ClassLoader classLoader;
+	
+	private volatile ProxyFactory proxyFactory;
+	private volatile ProxyWrapper fallback;
+	
+	public PrecompiledProxyWrapper(Class<?> targetClass, PrecompiledProxyRegistry.Entry entry, ClassLoader classLoader) {
+		
+		this.targetClass = targetClass;
+		this.entry = entry;
+		this.classLoader = classLoader;
+	}
+	
+	@Override
+	public Object wrap(Object obj, PreparedAccessConfiguration pac) {
+		
+		ProxyFactory proxyFactory = getProxyFactory();
+		
+		if(proxyFactory == null) return this.fallback.wrap(obj, pac);
+		
+		try {
+			
+			return proxyFactory.newInstance(obj, pac);
+		}
+		catch(Exception e) {
+			
+			throw new ProxyWrappingException(e);
+		}
+	}
+	
+	@Override
+	public void prepare() {
+		
+		if(getProxyFactory() == null) this.fallback.prepare();
+	}
+	
+	public boolean isPrecompiledUsable() {
+		
+		if(this.entry.getMode() != ProxyMode.DIRECT) return true;
+		
+		Method[] slots = ProxyWrapperBase.collectDirectSlots(this.targetClass);
+		
+		return PrecompiledProxyRegistry.fingerprint(slots).equals(this.entry.getSlotsFingerprint());
+	}
+	
+	protected Class<?> loadProxyClass() {
+		
+		try {
+			
+			Class<?> proxyClass = Class.forName(this.entry.getProxyClassName(), true, this.classLoader);
+			
+			if(this.entry.getMode() == ProxyMode.DIRECT) {
+				
+				Field slots = proxyClass.getDeclaredField("slots");
+				slots.setAccessible(true);
+				slots.set(null, ProxyWrapperBase.collectDirectSlots(this.targetClass));
+			}
+			
+			return proxyClass;
+		}
+		catch(Exception e) {
+			
+			throw new CreateProxyClassException(e);
+		}
+	}
+	
+	protected ProxyFactory loadProxyFactory() {
+		
+		loadProxyClass();
+		
+		try {
+			
+			return (ProxyFactory) Class.forName(this.entry.getFactoryClassName(), true, this.classLoader)
+				.getDeclaredConstructor()
+				.newInstance();
+		}
+		catch(Exception e) {
+			
+			throw new CreateProxyClassException(e);
+		}
+	}
+	
+	private ProxyFactory getProxyFactory() {
+		
+		ProxyFactory proxyFactory = this.proxyFactory;
+		
+		if(proxyFactory != null || this.fallback != null) return proxyFactory;
+		
+		synchronized(this) {
+			
+			if(this.proxyFactory == null && this.fallback == null) {
+				
+				if(isPrecompiledUsable()) {
+					
+					this.proxyFactory = loadProxyFactory();
+				}
+				else {
+					
+					LOGGER.warn("Precompiled proxy slots of "+this.targetClass.getName()+" don't match the runtime class, generating proxy instead: "+this.entry.getProxyClassName());
+					
+					this.fallback = ProxyWrapper.createGenerating(this.targetClass, this.entry.getMode());
+				}
+			}
+			
+			return this.proxyFactory;
+		}
+	}
+}
@@ -3,4 +3,9 @@ package com.kero.security.core.role;
 public interface Role {
 
 	public String getName();
+	
+	public default int getId() {
+		
+		return -1;
+	}
 }
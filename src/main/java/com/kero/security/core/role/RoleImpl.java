@@ -5,10 +5,17 @@ import java.util.Objects;
 public class RoleImpl implements Role, Comparable<RoleImpl> {
 
 	private String name;
+	private int id;
 	
 	public RoleImpl(String name) {
 	
+		this(name, -1);
+	}
+	
+	public RoleImpl(String name, int id) {
+	
 		this.name = name;
+		this.id = id;
 	}
 	
 	@Override
@@ -40,6 +47,12 @@ public class RoleImpl implements Role, Comparable<RoleImpl> {
 		return this.name;
 	}
 	
+	@Override
+	public int getId() {
+		
+		return this.id;
+	}
+	
 	@Override
 	public int compareTo(RoleImpl another) {
 		
@@ -0,0 +1,305 @@
+package com.kero.security.core.role;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class RoleSet extends AbstractSet<Role> {
+
+	public static final RoleSet EMPTY = new RoleSet(new Role[0]);
+	
+	private final long[] bits;
+	private final Role[] roles;
+	private final Role[] byId;
+	private final int hash;
+	
+	private RoleSet(Role[] roles) {
+		
+		int maxId = -1;
+		
+		for(Role role : roles) {
+			
+			if(role.getId() < 0) throw new IllegalArgumentException("Role without id can't be added to RoleSet: "+role);
+			
+			maxId = Math.max(maxId, role.getId());
+		}
+		
+		this.bits = new long[(maxId >> 6) + 1];
+		
+		int count = 0;
+		int hash = 0;
+		
+		Role[] byId = new Role[maxId + 1];
+		
+		for(Role role : roles) {
+			
+			int id = role.getId();
+			
+			if(byId[id] != null) continue;
+			
+			byId[id] = role;
+			bits[id >> 6] |= 1L << id;
+			
+			count++;
+			hash += role.hashCode();
+		}
+		
+		this.byId = byId;
+		this.roles = new Role[count];
+		
+		int index = 0;
+		
+		for(Role role : byId) {
+			
+			if(role != null) this.roles[index++] = role;
+		}
+		
+		this.hash = hash;
+	}
+	
+	private RoleSet(long[] bits, Role[] roles) {
+		
+		this.bits = bits;
+		this.roles = roles;
+		this.byId = new Role[roles.length > 0 ? roles[roles.length - 1].getId() + 1 : 0];
+		
+		int hash = 0;
+		
+		for(Role role : roles) {
+			
+			this.byId[role.getId()] = role;
+			hash += role.hashCode();
+		}
+		
+		this.hash = hash;
+	}
+	
+	public static RoleSet of(Collection<Role> roles) {
+		
+		if(roles instanceof RoleSet) return (RoleSet) roles;
+		if(roles.isEmpty()) return EMPTY;
+		
+		return new RoleSet(roles.toArray(new Role[0]));
+	}
+	
+	public boolean contains(Role role) {
+		
+		int id = role.getId();
+		
+		if(id < 0) return super.contains(role);
+		
+		int word = id >> 6;
+		
+		return word < bits.length && (bits[word] & (1L << id)) != 0 && byId[id].equals(role);
+	}
+	
+	@Override
+	public boolean contains(Object obj) {
+		
+		if(!(obj instanceof Role)) return false;
+		
+		return contains((Role) obj);
+	}
+	
+	public boolean intersects(Collection<Role> roles) {
+		
+		if(roles instanceof RoleSet) {
+			
+			RoleSet other = (RoleSet) roles;
+			
+			for(int i = Math.min(bits.length, other.bits.length) - 1; i >= 0; i--) {
+				
+				if(sameRoles(other, i, bits[i] & other.bits[i]) != 0) return true;
+			}
+			
+			return false;
+		}
+		
+		for(Role role : roles) {
+			
+			if(contains(role)) return true;
+		}
+		
+		return false;
+	}
+	
+	public int countCommon(Collection<Role> roles) {
+		
+		if(roles instanceof RoleSet) {
+			
+			RoleSet other = (RoleSet) roles;
+			
+			int count = 0;
+			
+			for(int i = Math.min(bits.length, other.bits.length) - 1; i >= 0; i--) {
+				
+				count += Long.bitCount(sameRoles(other, i, bits[i] & other.bits[i]));
+			}
+			
+			return count;
+		}
+		
+		int count = 0;
+		
+		for(Role role : roles) {
+			
+			if(contains(role)) count++;
+		}
+		
+		return count;
+	}
+	
+	public RoleSet without(Collection<Role> roles) {
+		
+		if(roles.isEmpty() || isEmpty()) return this;
+		
+		long[] result = bits.clone();
+		
+		if(roles instanceof RoleSet) {
+			
+			RoleSet other = (RoleSet) roles;
+			
+			for(int i = Math.min(result.length, other.bits.length) - 1; i >= 0; i--) {
+				
+				result[i] &= ~sameRoles(other, i, result[i] & other.bits[i]);
+			}
+		}
+		else {
+			
+			for(Role role : roles) {
+				
+				int id = role.getId();
+				
+				if(id < 0) {
+					
+					for(Role present : this.roles) {
+						
+						if(present.equals(role)) result[present.getId() >> 6] &= ~(1L << present.getId());
+					}
+				}
+				else if(contains(role)) {
+					
+					result[id >> 6] &= ~(1L << id);
+				}
+			}
+		}
+		
+		if(Arrays.equals(result, bits)) return this;
+		
+		int count = 0;
+		
+		for(long word : result) {
+			
+			count += Long.bitCount(word);
+		}
+		
+		if(count == 0) return EMPTY;
+		
+		Role[] remaining = new Role[count];
+		
+		int index = 0;
+		
+		for(Role role : this.roles) {
+			
+			int id = role.getId();
+			
+			if((result[id >> 6] & (1L << id)) != 0) remaining[index++] = role;
+		}
+		
+		return new RoleSet(result, remaining);
+	}
+	
+	private long sameRoles(RoleSet other, int word, long common) {
+		
+		long same = common;
+		
+		for(long rest = common; rest != 0; rest &= rest - 1) {
+			
+			int id = (word << 6) + Long.numberOfTrailingZeros(rest);
+			
+			if(!byId[id].equals(other.byId[id])) same &= ~(1L << id);
+		}
+		
+		return same;
+	}
+	
+	@Override
+	public Iterator<Role> iterator() {
+		
+		return new Iterator<Role>() {
+			
+			private int index = 0;
+			
+			@Override
+			public boolean hasNext() {
+				
+				return index < roles.length;
+			}
+			
+			@Override
+			public Role next() {
+				
+				if(index >= roles.length) throw new NoSuchElementException();
+				
+				return roles[index++];
+			}
+		};
+	}
+	
+	@Override
+	public int size() {
+		
+		return roles.length;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		
+		return roles.length == 0;
+	}
+	
+	@Override
+	public int hashCode() {
+		
+		return this.hash;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		
+		if(this == obj) return true;
+		
+		if(obj instanceof RoleSet) {
+			
+			RoleSet other = (RoleSet) obj;
+			
+			return hash == other.hash && trimmedEquals(bits, other.bits) && Arrays.equals(roles, other.roles);
+		}
+		
+		return super.equals(obj);
+	}
+	
+	private static boolean trimmedEquals(long[] first, long[] second) {
+		
+		int common = Math.min(first.length, second.length);
+		
+		for(int i = 0; i < common; i++) {
+			
+			if(first[i] != second[i]) return false;
+		}
+		
+		for(int i = common; i < first.length; i++) {
+			
+			if(first[i] != 0) return false;
+		}
+		
+		for(int i = common; i < second.length; i++) {
+			
+			if(second[i] != 0) return false;
+		}
+		
+		return true;
+	}
+}
@@ -1,38 +1,41 @@
 package com.kero.security.core.role.storage;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleSet;
 
 public interface RoleStorage extends Map<String, Role> {
 	
 	public Role create(String name);
 	public boolean has(String name);
 	
+	public RoleSet toRoleSet(Collection<Role> roles);
+	
 	public default Role getOrCreate(String name) {
 		
 		return has(name) ? get(name) : create(name);
 	}
 	
-	public default Set<Role> getOrCreate(String[] names) {
+	public default RoleSet getOrCreate(String[] names) {
 		
 		return getOrCreate(Arrays.asList(names));
 	}
 
-	public default Set<Role> getOrCreate(Collection<String> names) {
+	public default RoleSet getOrCreate(Collection<String> names) {
 		
-		Set<Role> result = new HashSet<>();
+		List<Role> result = new ArrayList<>(names.size());
 		
 		for(String name : names) {
 			
 			result.add(getOrCreate(name));
 		}
 		
-		return result;
+		return toRoleSet(result);
 	}
 	
 	public static RoleStorage create() {
@@ -1,20 +1,55 @@
 package com.kero.security.core.role.storage;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.kero.security.core.role.Role;
 import com.kero.security.core.role.RoleImpl;
+import com.kero.security.core.role.RoleSet;
+import com.kero.security.core.utils.WeakInterner;
 
-public class RoleStorageImpl extends HashMap<String, Role> implements RoleStorage {
+public class RoleStorageImpl extends ConcurrentHashMap<String, Role> implements RoleStorage {
+
+	private static final long serialVersionUID = 1L;
+
+	private AtomicInteger nextId = new AtomicInteger();
+	
+	private WeakInterner<RoleSet> roleSets = new WeakInterner<>();
 
 	@Override
 	public Role create(String name) {
 		
-		Role role = new RoleImpl(name);
+		return this.compute(name, (key, present)-> new RoleImpl(key, present != null ? present.getId() : nextId.getAndIncrement()));
+	}
+	
+	@Override
+	public Role getOrCreate(String name) {
+		
+		Role role = this.get(name);
+		
+		if(role != null) return role;
+		
+		return this.computeIfAbsent(name, (key)-> new RoleImpl(key, nextId.getAndIncrement()));
+	}
+	
+	@Override
+	public RoleSet toRoleSet(Collection<Role> roles) {
+		
+		if(roles instanceof RoleSet && roleSets.isInterned((RoleSet) roles)) return (RoleSet) roles;
+		
+		List<Role> canonical = new ArrayList<>(roles.size());
 		
-		this.put(name, role);
+		for(Role role : roles) {
+			
+			Role stored = this.get(role.getName());
+			
+			canonical.add(stored != null && stored.getId() == role.getId() ? stored : getOrCreate(role.getName()));
+		}
 		
-		return role;
+		return roleSets.intern(RoleSet.of(canonical));
 	}
 	
 	public boolean has(String name) {
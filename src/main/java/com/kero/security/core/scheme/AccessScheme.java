@@ -3,11 +3,13 @@ package com.kero.security.core.scheme;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.kero.security.core.DefaultAccessOwner;
 import com.kero.security.core.access.Access;
 import com.kero.security.core.agent.KeroAccessAgent;
 import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
 import com.kero.security.core.property.Property;
 import com.kero.security.core.role.Role;
 
@@ -68,6 +70,13 @@ public interface AccessScheme extends DefaultAccessOwner {
 	
 	public Access determineDefaultAccess();
 	
+	public default void configurationChanged() {
+		
+		KeroAccessAgent agent = getAgent();
+		
+		if(agent != null) agent.incrementConfigurationVersion();
+	}
+	
 	public static AccessScheme addCacheWrap(AccessScheme scheme) {
 		
 		if(scheme instanceof AccessSchemeCacheWrap) return scheme;
@@ -75,6 +84,20 @@ public interface AccessScheme extends DefaultAccessOwner {
 		return new AccessSchemeCacheWrap(scheme);
 	}
 	
+	public static AccessScheme addCacheWrap(AccessScheme scheme, PreparedAccessConfigurationCache configsCache) {
+		
+		if(scheme instanceof AccessSchemeCacheWrap) return scheme;
+		
+		return new AccessSchemeCacheWrap(scheme, configsCache);
+	}
+	
+	public static AccessScheme addCacheWrap(AccessScheme scheme, Supplier<PreparedAccessConfigurationCache> configsCacheFactory) {
+		
+		if(scheme instanceof AccessSchemeCacheWrap) return scheme;
+		
+		return new AccessSchemeCacheWrap(scheme, configsCacheFactory);
+	}
+	
 	public static class Empty implements AccessScheme {
 
 		private Empty() {}
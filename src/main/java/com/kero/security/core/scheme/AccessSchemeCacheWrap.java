@@ -1,35 +1,123 @@
 package com.kero.security.core.scheme;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.kero.security.core.access.Access;
 import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.audit.AuditLog;
 import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
+import com.kero.security.core.metrics.KeroMetrics;
+import com.kero.security.core.metrics.MeteredPreparedAccessConfiguration;
 import com.kero.security.core.property.Property;
 import com.kero.security.core.role.Role;
 
 public class AccessSchemeCacheWrap implements AccessScheme {
 
+	private static final long UNBOUND_VERSION = Long.MIN_VALUE;
+	
 	protected AccessScheme original;
 	
-	protected Map<Collection<Role>, PreparedAccessConfiguration> configsCache = new HashMap<>();
+	protected Supplier<PreparedAccessConfigurationCache> configsCacheFactory;
+	
+	private volatile VersionedCache configsCache;
 	
 	public AccessSchemeCacheWrap(AccessScheme original) {
 		
+		this(original, PreparedAccessConfigurationCache.create());
+	}
+	
+	public AccessSchemeCacheWrap(AccessScheme original, PreparedAccessConfigurationCache configsCache) {
+		
+		this(original, configsCache, PreparedAccessConfigurationCache::create);
+	}
+	
+	public AccessSchemeCacheWrap(AccessScheme original, Supplier<PreparedAccessConfigurationCache> configsCacheFactory) {
+		
+		this(original, configsCacheFactory.get(), configsCacheFactory);
+	}
+	
+	public AccessSchemeCacheWrap(AccessScheme original, PreparedAccessConfigurationCache configsCache, Supplier<PreparedAccessConfigurationCache> configsCacheFactory) {
+		
 		this.original = original;
+		this.configsCacheFactory = configsCacheFactory;
+		this.configsCache = new VersionedCache(UNBOUND_VERSION, configsCache);
 	}
 
 	@Override
 	public PreparedAccessConfiguration prepareAccessConfiguration(Collection<Role> roles) {
 		
-		Set<Role> key = Collections.unmodifiableSet(new HashSet<>(roles));
+		KeroAccessAgent agent = original.getAgent();
+		
+		long version = agent != null ? agent.getConfigurationVersion() : 0;
+		
+		VersionedCache configsCache = this.configsCache;
+		
+		if(configsCache.version != version) {
+			
+			configsCache = switchVersion(version);
+		}
+		
+		KeroMetrics metrics = agent != null ? agent.getMetrics() : KeroMetrics.EMPTY;
+		
+		if(!metrics.isEnabled()) return configsCache.cache.get(roles, this::prepare);
+		
+		metrics.configurationRequested(original);
+		
+		PreparedAccessConfiguration config = configsCache.cache.get(roles, (key)-> prepareMeasured(key, metrics));
+		
+		return metrics.sample() ? new MeteredPreparedAccessConfiguration(config, original, metrics) : config;
+	}
+	
+	private PreparedAccessConfiguration prepare(Collection<Role> roles) {
+		
+		PreparedAccessConfiguration config = original.prepareAccessConfiguration(roles);
+		
+		KeroAccessAgent agent = original.getAgent();
+		AuditLog auditLog = agent != null ? agent.getAuditLog() : null;
+		
+		return auditLog != null ? auditLog.wrap(config, original, roles) : config;
+	}
+	
+	private PreparedAccessConfiguration prepareMeasured(Collection<Role> roles, KeroMetrics metrics) {
+		
+		long start = System.nanoTime();
+		
+		PreparedAccessConfiguration config = prepare(roles);
+		
+		metrics.configurationPrepared(original, System.nanoTime() - start);
+		
+		return config;
+	}
+	
+	private synchronized VersionedCache switchVersion(long version) {
+		
+		VersionedCache current = this.configsCache;
+		
+		if(current.version == UNBOUND_VERSION) {
+			
+			current = new VersionedCache(version, current.cache);
+		}
+		else if(current.version < version) {
+			
+			current = new VersionedCache(version, configsCacheFactory.get());
+		}
+		
+		this.configsCache = current;
+		
+		return current;
+	}
 
-		return configsCache.computeIfAbsent(key, original::prepareAccessConfiguration);
+	public PreparedAccessConfigurationCache getConfigsCache() {
+		
+		return this.configsCache.cache;
+	}
+	
+	public void clearConfigsCache() {
+		
+		this.configsCache.cache.clear();
 	}
 	
 	@Override
@@ -133,4 +221,22 @@ public class AccessSchemeCacheWrap implements AccessScheme {
 		
 		return original.determineDefaultAccess();
 	}
+	
+	@Override
+	public void configurationChanged() {
+		
+		original.configurationChanged();
+	}
+	
+	private static class VersionedCache {
+		
+		private final long version;
+		private final PreparedAccessConfigurationCache cache;
+		
+		private VersionedCache(long version, PreparedAccessConfigurationCache cache) {
+			
+			this.version = version;
+			this.cache = cache;
+		}
+	}
 }
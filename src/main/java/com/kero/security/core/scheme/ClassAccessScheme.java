@@ -5,6 +5,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,14 +14,9 @@ import org.slf4j.LoggerFactory;
 import com.kero.security.core.access.Access;
 import com.kero.security.core.agent.KeroAccessAgent;
 import com.kero.security.core.config.PreparedAccessConfiguration;
-import com.kero.security.core.config.PreparedAccessConfigurationImpl;
-import com.kero.security.core.config.action.Action;
-import com.kero.security.core.config.action.ActionDeny;
-import com.kero.security.core.config.action.ActionGrant;
 import com.kero.security.core.property.BaseProperty;
 import com.kero.security.core.property.Property;
 import com.kero.security.core.role.Role;
-import com.kero.security.core.scheme.exception.AccessSchemePrepareException;
 
 public class ClassAccessScheme implements AccessScheme {
 
@@ -36,6 +33,11 @@ public class ClassAccessScheme implements AccessScheme {
 	
 	protected boolean inherit = true;
 	
+	private volatile CompiledScheme compiled;
+	private volatile CompiledScheme staged;
+	
+	private volatile boolean trackChanges = true;
+	
 	public ClassAccessScheme() {
 	
 	}
@@ -49,38 +51,62 @@ public class ClassAccessScheme implements AccessScheme {
 
 	public PreparedAccessConfiguration prepareAccessConfiguration(Collection<Role> rolesArg) {
 		
-		Set<Role> roles = new HashSet<>(rolesArg);
+		LOGGER.debug("Prepare access configuration for \""+this.name+"\" roles: "+rolesArg);
 	
-		LOGGER.debug("Prepare access configuration for \""+this.name+"\" roles: "+roles);
+		return compile().prepare(rolesArg);
+	}
+	
+	public CompiledScheme compile() {
 		
-		Map<String, Action> preparedActions = new HashMap<>();
-
-		Set<Property> properties = collectProperties();
+		long version = agent != null ? agent.getConfigurationVersion() : 0;
 		
-			properties.forEach((property)-> {
-	
-				preparedActions.put(property.getName(), property.prepare(roles));
-			});
-
-		Action defaultAction = determineDefaultAction(roles);
+		CompiledScheme compiled = this.compiled;
 		
-		return new PreparedAccessConfigurationImpl(this, preparedActions, defaultAction);
-	}
-	
-	protected Action determineDefaultAction(Collection<Role> roles) {
+		if(compiled != null && compiled.getVersion() == version) return compiled;
 		
-		Access defaultAccess = determineDefaultAccess();
-	
-		if(defaultAccess == Access.GRANT) {
+		CompiledScheme staged = this.staged;
+		
+		if(staged != null && staged.getVersion() == version) {
+			
+			this.compiled = staged;
+			this.staged = null;
+			
+			return staged;
+		}
+		
+		ReadWriteLock configurationLock = agent != null ? agent.getConfigurationLock() : null;
+		Lock lock = configurationLock != null ? configurationLock.readLock() : null;
+		
+		if(lock != null) lock.lock();
+		
+		try {
 			
-			return new ActionGrant(this, roles);
+			version = agent != null ? agent.getConfigurationVersion() : 0;
+			
+			LOGGER.debug("Compiling access scheme \""+this.name+"\" version: "+version);
+			
+			compiled = new CompiledScheme(this, version);
+			
+			this.compiled = compiled;
+			
+			return compiled;
 		}
-		else if(defaultAccess == Access.DENY) {
+		finally {
 			
-			return new ActionDeny(this);
+			if(lock != null) lock.unlock();
 		}
+	}
+	
+	public void stage(long version) {
+		
+		LOGGER.debug("Staging access scheme \""+this.name+"\" version: "+version);
 		
-		throw new AccessSchemePrepareException("Can't prepare default access for: \""+this.name+"\". Your Kero-Security configuration is bad, if you see this exception.");
+		this.staged = new CompiledScheme(this, version);
+	}
+	
+	public void setTrackChanges(boolean trackChanges) {
+		
+		this.trackChanges = trackChanges;
 	}
 	
 	public Set<Property> collectProperties() {
@@ -132,6 +158,8 @@ public class ClassAccessScheme implements AccessScheme {
 		
 		localProperties.put(name, prop);
 		
+		configurationChanged();
+		
 		return prop;
 	}
 
@@ -157,6 +185,8 @@ public class ClassAccessScheme implements AccessScheme {
 	public void setDefaultAccess(Access access) {
 	
 		this.defaultAccess = access;
+		
+		configurationChanged();
 	}
 
 	@Override
@@ -193,6 +223,14 @@ public class ClassAccessScheme implements AccessScheme {
 	public void setInherit(boolean i) {
 		
 		this.inherit = i;
+		
+		configurationChanged();
+	}
+	
+	@Override
+	public void configurationChanged() {
+		
+		if(agent != null && this.trackChanges) agent.incrementConfigurationVersion();
 	}
 	
 	@Override
@@ -0,0 +1,128 @@
+package com.kero.security.core.scheme;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.config.ActionTable;
+import com.kero.security.core.config.CompactPreparedAccessConfiguration;
+import com.kero.security.core.config.ConfigurationLayout;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionDeny;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.jfr.KeroFlightRecorder;
+import com.kero.security.core.property.CompiledProperty;
+import com.kero.security.core.property.Property;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleSet;
+import com.kero.security.core.scheme.exception.AccessSchemePrepareException;
+
+public class CompiledScheme {
+
+	private final AccessScheme scheme;
+	private final long version;
+	
+	private final CompiledProperty[] properties;
+	private final Access defaultAccess;
+	
+	private final ConfigurationLayout layout;
+	private final ActionTable actionTable;
+	
+	public CompiledScheme(AccessScheme scheme, long version) {
+		
+		this.scheme = scheme;
+		this.version = version;
+		
+		Set<Property> properties = scheme.collectProperties();
+		
+		this.properties = new CompiledProperty[properties.size()];
+		
+		int index = 0;
+		
+		for(Property property : properties) {
+			
+			this.properties[index++] = property.compile();
+		}
+		
+		this.defaultAccess = scheme.determineDefaultAccess();
+		
+		List<String> propertyNames = new ArrayList<>(this.properties.length);
+		
+		for(CompiledProperty property : this.properties) {
+			
+			propertyNames.add(property.getName());
+		}
+		
+		KeroAccessAgent agent = scheme.getAgent();
+		
+		this.layout = new ConfigurationLayout(scheme.getTypeClass(), propertyNames, agent != null ? agent::extractPropertyName : Function.identity());
+		this.actionTable = new ActionTable(scheme);
+	}
+	
+	public PreparedAccessConfiguration prepare(Collection<Role> rolesArg) {
+		
+		Object event = KeroFlightRecorder.beginConfigurationPreparation();
+		
+		Collection<Role> roles = rolesArg instanceof RoleSet ? rolesArg : new HashSet<>(rolesArg);
+		
+		Action[] preparedActions = new Action[properties.length + 1];
+		
+		for(int i = 0; i < properties.length; i++) {
+			
+			preparedActions[i] = properties[i].prepare(roles);
+		}
+		
+		preparedActions[properties.length] = prepareDefaultAction(roles);
+		
+		PreparedAccessConfiguration config = new CompactPreparedAccessConfiguration(this.layout, this.actionTable, preparedActions);
+		
+		KeroFlightRecorder.commitConfigurationPreparation(event, this.scheme.getName(), roles.size(), this.properties.length);
+		
+		return config;
+	}
+	
+	protected Action prepareDefaultAction(Collection<Role> roles) {
+		
+		if(this.defaultAccess == Access.GRANT) {
+			
+			return new ActionGrant(this.scheme, roles);
+		}
+		else if(this.defaultAccess == Access.DENY) {
+			
+			return new ActionDeny(this.scheme);
+		}
+		
+		throw new AccessSchemePrepareException("Can't prepare default access for: \""+this.scheme.getName()+"\". Your Kero-Security configuration is bad, if you see this exception.");
+	}
+	
+	public CompiledProperty[] getProperties() {
+		
+		return this.properties.clone();
+	}
+	
+	public Access getDefaultAccess() {
+		
+		return this.defaultAccess;
+	}
+	
+	public ConfigurationLayout getLayout() {
+		
+		return this.layout;
+	}
+	
+	public ActionTable getActionTable() {
+		
+		return this.actionTable;
+	}
+	
+	public long getVersion() {
+		
+		return this.version;
+	}
+}
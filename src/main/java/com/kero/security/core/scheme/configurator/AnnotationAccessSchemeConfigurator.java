@@ -3,9 +3,8 @@ package com.kero.security.core.scheme.configurator;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -36,7 +35,7 @@ import com.kero.security.core.role.annotations.PropagateRolesInterpreter;
 import com.kero.security.core.scheme.AccessScheme;
 
 public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfiguratorBase {
-	
+
 	private Map<Class, SchemeAnnotationInterpreter> schemeInterpreters = new HashMap<>();
 	private Map<Class, PropertyAnnotationInterpreter> propertyInterpreters = new HashMap<>();
 	
@@ -44,7 +43,7 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 		
 		schemeInterpreters.put(DisableInherit.class, new DisableInheritInterpreter(agent));
 		schemeInterpreters.put(EnableInherit.class, new EnableInheritInterpreter(agent));
-	
+		
 		propertyInterpreters.put(AddDenyInterceptor.class, new AddDenyInterceptorInterpreter(agent));
 		propertyInterpreters.put(DenyWithInterceptor.class, new DenyWithInterceptorInterpreter(agent));
 		propertyInterpreters.put(PropagateRole.class, new PropagateRoleInterpreter(agent));
@@ -65,7 +64,7 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 	
 	@Override
 	public void configure(AccessScheme scheme) {
-
+		
 		KeroAccessAgent agent = scheme.getAgent();
 		
 		Class<?> type = scheme.getTypeClass();
@@ -73,7 +72,7 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 		CodeAccessSchemeConfigurator schemeConfigurator = new CodeAccessSchemeConfigurator(agent, scheme);
 		
 		for(Annotation annotation : type.getDeclaredAnnotations()) {
-		
+			
 			if(schemeInterpreters.containsKey(annotation.annotationType())) {
 				
 				schemeInterpreters.get(annotation.annotationType()).interpret(schemeConfigurator, annotation);
@@ -87,16 +86,7 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 		
 		for(Field field : fields) {
 			
-			String name = agent.extractPropertyName(field.getName());
-			
-			Annotation[] annotations = field.getDeclaredAnnotations();
-		
-			if(!propertyAnnotations.containsKey(name)) {
-				
-				propertyAnnotations.put(name, new LinkedList<>());
-			}
-			
-			propertyAnnotations.get(name).addAll(Arrays.asList(annotations));
+			collectPropertyAnnotations(propertyAnnotations, agent.extractPropertyName(field.getName()), field.getDeclaredAnnotations());
 		}
 		
 		//Scan methods
@@ -104,16 +94,7 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 		
 		for(Method method : methods) {
 			
-			String name = agent.extractPropertyName(method.getName());
-			
-			Annotation[] annotations = method.getDeclaredAnnotations();
-			
-			if(!propertyAnnotations.containsKey(name)) {
-				
-				propertyAnnotations.put(name, new LinkedList<>());
-			}
-			
-			propertyAnnotations.get(name).addAll(Arrays.asList(annotations));
+			collectPropertyAnnotations(propertyAnnotations, agent.extractPropertyName(method.getName()), method.getDeclaredAnnotations());
 		}
 		
 		propertyAnnotations.forEach((name, annotations)-> {
@@ -121,12 +102,22 @@ public class AnnotationAccessSchemeConfigurator extends AccessSchemeConfigurator
 			SinglePropertyConfigurator propertyConfigurator = schemeConfigurator.property(name);
 			
 			annotations.forEach((annotation)-> {
-
-				if(propertyInterpreters.containsKey(annotation.annotationType())) {
-
-					propertyInterpreters.get(annotation.annotationType()).interpret(propertyConfigurator, annotation);
-				}
+				
+				propertyInterpreters.get(annotation.annotationType()).interpret(propertyConfigurator, annotation);
 			});
 		});
 	}
+	
+	private void collectPropertyAnnotations(Map<String, List<Annotation>> propertyAnnotations, String name, Annotation[] annotations) {
+		
+		List<Annotation> interpretable = propertyAnnotations.computeIfAbsent(name, (key)-> new ArrayList<>());
+		
+		for(Annotation annotation : annotations) {
+			
+			if(propertyInterpreters.containsKey(annotation.annotationType())) {
+				
+				interpretable.add(annotation);
+			}
+		}
+	}
 }
@@ -7,10 +7,12 @@ import com.kero.security.core.scheme.AccessScheme;
 public interface AccessSchemeStorage extends Map<Class<?>, AccessScheme> {
 
 	public void add(AccessScheme scheme);
+	public AccessScheme addIfAbsent(AccessScheme scheme);
 	
 	public boolean has(Class<?> rawType);
 	
 	public AccessScheme getByName(String name);
+	public boolean isAmbiguous(String name);
 	
 	public static AccessSchemeStorage create() {
 		
@@ -1,19 +1,43 @@
 package com.kero.security.core.scheme.storage;
 
-import java.util.HashMap;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.kero.security.core.scheme.AccessScheme;
+import com.kero.security.core.utils.WeakClassMap;
 
-public class AccessSchemeStorageImpl extends HashMap<Class<?>, AccessScheme> implements AccessSchemeStorage {
-	
-	private static final long serialVersionUID = 1L;
+public class AccessSchemeStorageImpl extends AbstractMap<Class<?>, AccessScheme> implements AccessSchemeStorage {
 
+	private static Logger LOGGER = LoggerFactory.getLogger("Kero-Security");
+	
+	private final WeakClassMap<AccessScheme> schemes = new WeakClassMap<>();
+	private final Map<String, List<WeakReference<AccessScheme>>> names = new ConcurrentHashMap<>();
+	
 	@Override
 	public void add(AccessScheme scheme) {
-	
+		
 		this.put(scheme.getTypeClass(), scheme);
 	}
 	
+	@Override
+	public AccessScheme addIfAbsent(AccessScheme scheme) {
+		
+		AccessScheme present = this.putIfAbsent(scheme.getTypeClass(), scheme);
+		
+		return present != null ? present : scheme;
+	}
+	
 	@Override
 	public boolean has(Class<?> rawType) {
 		
@@ -23,14 +47,232 @@ public class AccessSchemeStorageImpl extends HashMap<Class<?>, AccessScheme> imp
 	@Override
 	public AccessScheme getByName(String name) {
 		
-		for(AccessScheme scheme : this.values()) {
+		if(name == null) return AccessScheme.EMPTY;
+		
+		AccessScheme[] schemes = lookup(name);
+		
+		return schemes.length > 0 ? schemes[0] : AccessScheme.EMPTY;
+	}
+	
+	@Override
+	public boolean isAmbiguous(String name) {
+		
+		return lookup(name).length > 1;
+	}
+	
+	@Override
+	public AccessScheme get(Object rawType) {
+		
+		return rawType instanceof Class ? this.schemes.get((Class<?>) rawType) : null;
+	}
+	
+	@Override
+	public boolean containsKey(Object rawType) {
+		
+		return get(rawType) != null;
+	}
+	
+	@Override
+	public int size() {
+		
+		return this.schemes.size();
+	}
+	
+	@Override
+	public AccessScheme put(Class<?> rawType, AccessScheme scheme) {
+		
+		synchronized(names) {
+			
+			AccessScheme previous = this.schemes.put(rawType, scheme);
+			
+			if(previous != null) unindex(previous);
+			
+			index(scheme);
+			
+			return previous;
+		}
+	}
+	
+	@Override
+	public AccessScheme putIfAbsent(Class<?> rawType, AccessScheme scheme) {
+		
+		AccessScheme present = this.schemes.get(rawType);
+		
+		if(present != null) return present;
+		
+		synchronized(names) {
+			
+			present = this.schemes.putIfAbsent(rawType, scheme);
+			
+			if(present == null) index(scheme);
+			
+			return present;
+		}
+	}
+	
+	@Override
+	public AccessScheme remove(Object rawType) {
+		
+		synchronized(names) {
+			
+			AccessScheme previous = rawType instanceof Class ? this.schemes.remove((Class<?>) rawType) : null;
+			
+			if(previous != null) unindex(previous);
+			
+			return previous;
+		}
+	}
+	
+	@Override
+	public boolean remove(Object rawType, Object scheme) {
+		
+		synchronized(names) {
+			
+			if(!(rawType instanceof Class) || !this.schemes.remove((Class<?>) rawType, (AccessScheme) scheme)) return false;
+			
+			unindex((AccessScheme) scheme);
+			
+			return true;
+		}
+	}
+	
+	@Override
+	public void clear() {
+		
+		synchronized(names) {
 			
-			if(scheme.getName().equals(name)) {
+			this.schemes.clear();
+			this.names.clear();
+		}
+	}
+	
+	@Override
+	public Set<Entry<Class<?>, AccessScheme>> entrySet() {
+		
+		return new AbstractSet<Entry<Class<?>, AccessScheme>>() {
+			
+			@Override
+			public Iterator<Entry<Class<?>, AccessScheme>> iterator() {
 				
-				return scheme;
+				return new EntryIterator(schemes.snapshot().entrySet().iterator());
 			}
+			
+			@Override
+			public int size() {
+				
+				return schemes.size();
+			}
+		};
+	}
+	
+	private AccessScheme[] lookup(String name) {
+		
+		List<WeakReference<AccessScheme>> references = names.get(name);
+		
+		if(references == null) return new AccessScheme[0];
+		
+		return references.stream()
+				.map(WeakReference::get)
+				.filter(Objects::nonNull)
+				.toArray(AccessScheme[]::new);
+	}
+	
+	private void index(AccessScheme scheme) {
+		
+		String name = scheme.getName();
+		
+		if(name == null) return;
+		
+		List<WeakReference<AccessScheme>> updated = new ArrayList<>();
+		
+		for(AccessScheme present : lookup(name)) {
+			
+			updated.add(new WeakReference<>(present));
 		}
 		
-		return AccessScheme.EMPTY;
+		updated.add(new WeakReference<>(scheme));
+		
+		names.put(name, updated);
+		
+		AccessScheme[] registered = lookup(name);
+		
+		if(registered.length > 1) {
+			
+			LOGGER.warn("Scheme name \""+name+"\" is already used by "+registered[0].getTypeClass().getName()+", lookups by this name keep resolving to it: "+describe(registered));
+		}
+	}
+	
+	private void unindex(AccessScheme scheme) {
+		
+		String name = scheme.getName();
+		
+		if(name == null) return;
+		
+		List<WeakReference<AccessScheme>> updated = new ArrayList<>();
+		
+		for(AccessScheme present : lookup(name)) {
+			
+			if(present != scheme) updated.add(new WeakReference<>(present));
+		}
+		
+		if(updated.isEmpty()) {
+			
+			names.remove(name);
+		}
+		else {
+			
+			names.put(name, updated);
+		}
+	}
+	
+	private static String describe(AccessScheme[] schemes) {
+		
+		StringBuilder builder = new StringBuilder();
+		
+		for(AccessScheme scheme : schemes) {
+			
+			if(builder.length() > 0) builder.append(", ");
+			
+			builder.append(scheme.getTypeClass().getName());
+		}
+		
+		return builder.toString();
+	}
+	
+	private class EntryIterator implements Iterator<Entry<Class<?>, AccessScheme>> {
+		
+		private Iterator<Entry<Class<?>, AccessScheme>> iterator;
+		private Entry<Class<?>, AccessScheme> current;
+		
+		private EntryIterator(Iterator<Entry<Class<?>, AccessScheme>> iterator) {
+			
+			this.iterator = iterator;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			
+			return this.iterator.hasNext();
+		}
+		
+		@Override
+		public Entry<Class<?>, AccessScheme> next() {
+			
+			Entry<Class<?>, AccessScheme> entry = this.iterator.next();
+			
+			this.current = entry;
+			
+			return new SimpleImmutableEntry<>(entry);
+		}
+		
+		@Override
+		public void remove() {
+			
+			if(this.current == null) throw new IllegalStateException();
+			
+			AccessSchemeStorageImpl.this.remove(this.current.getKey(), this.current.getValue());
+			
+			this.current = null;
+		}
 	}
 }
@@ -0,0 +1,111 @@
+package com.kero.security.core.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+public class ClassPathUtils {
+
+	public static Set<Class<?>> findClasses(String packageName, ClassLoader classLoader) {
+		
+		Set<String> classNames = findClassNames(packageName, classLoader);
+		Set<Class<?>> classes = new LinkedHashSet<>();
+		
+		for(String className : classNames) {
+			
+			Class<?> type = loadClass(className, classLoader);
+			
+			if(type != null) classes.add(type);
+		}
+		
+		return classes;
+	}
+	
+	public static Set<String> findClassNames(String packageName, ClassLoader classLoader) {
+		
+		String path = packageName.replace('.', '/');
+		
+		Set<String> classNames = new LinkedHashSet<>();
+		
+		try {
+			
+			Enumeration<URL> resources = classLoader.getResources(path);
+			
+			while(resources.hasMoreElements()) {
+				
+				URL resource = resources.nextElement();
+				
+				if(resource.getProtocol().equals("file")) {
+					
+					collectFromDirectory(new File(URLDecoder.decode(resource.getFile(), "UTF-8")), packageName, classNames);
+				}
+				else if(resource.getProtocol().equals("jar")) {
+					
+					collectFromJar(((JarURLConnection) resource.openConnection()).getJarFile(), path, classNames);
+				}
+			}
+		}
+		catch(IOException e) {
+			
+			throw new UncheckedIOException(e);
+		}
+		
+		return classNames;
+	}
+	
+	public static Class<?> loadClass(String className, ClassLoader classLoader) {
+		
+		try {
+			
+			return Class.forName(className, false, classLoader);
+		}
+		catch(ClassNotFoundException | LinkageError e) {
+			
+			return null;
+		}
+	}
+	
+	private static void collectFromDirectory(File directory, String packageName, Set<String> classNames) {
+		
+		File[] files = directory.listFiles();
+		
+		if(files == null) return;
+		
+		for(File file : files) {
+			
+			String name = file.getName();
+			
+			if(file.isDirectory()) {
+				
+				collectFromDirectory(file, packageName+"."+name, classNames);
+			}
+			else if(name.endsWith(".class")) {
+				
+				classNames.add(packageName+"."+name.substring(0, name.length() - ".class".length()));
+			}
+		}
+	}
+	
+	private static void collectFromJar(JarFile jar, String path, Set<String> classNames) {
+		
+		Enumeration<JarEntry> entries = jar.entries();
+		
+		while(entries.hasMoreElements()) {
+			
+			String name = entries.nextElement().getName();
+			
+			if(name.startsWith(path+"/") && name.endsWith(".class")) {
+				
+				classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+			}
+		}
+	}
+}
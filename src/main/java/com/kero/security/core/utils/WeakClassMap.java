@@ -0,0 +1,162 @@
+package com.kero.security.core.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Values of classes from Kero's own loader or its parents are held in a plain map.
+ * Values of other classes are attached to the class itself through a ClassValue and indexed weakly,
+ * so a value that references its class does not keep that class loader alive.
+ */
+public class WeakClassMap<V> {
+
+	private static final ClassValue<Boolean> RETAINED = new ClassValue<Boolean>() {
+		
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			
+			return isRetained(type.getClassLoader());
+		}
+	};
+	
+	private final Map<Class<?>, V> retained = new ConcurrentHashMap<>();
+	
+	private final Map<Class<?>, Boolean> attachedKeys = Collections.synchronizedMap(new WeakHashMap<>());
+	
+	private final ClassValue<AtomicReference<V>> attached = new ClassValue<AtomicReference<V>>() {
+		
+		@Override
+		protected AtomicReference<V> computeValue(Class<?> type) {
+			
+			return new AtomicReference<>();
+		}
+	};
+	
+	public V get(Class<?> type) {
+		
+		if(type == null) return null;
+		
+		if(RETAINED.get(type)) return this.retained.get(type);
+		
+		return this.attached.get(type).get();
+	}
+	
+	public V put(Class<?> type, V value) {
+		
+		if(RETAINED.get(type)) return this.retained.put(type, value);
+		
+		synchronized(this.attachedKeys) {
+			
+			this.attachedKeys.put(type, Boolean.TRUE);
+			
+			return this.attached.get(type).getAndSet(value);
+		}
+	}
+	
+	public V putIfAbsent(Class<?> type, V value) {
+		
+		if(RETAINED.get(type)) return this.retained.putIfAbsent(type, value);
+		
+		synchronized(this.attachedKeys) {
+			
+			AtomicReference<V> reference = this.attached.get(type);
+			
+			V present = reference.get();
+			
+			if(present != null) return present;
+			
+			this.attachedKeys.put(type, Boolean.TRUE);
+			
+			reference.set(value);
+			
+			return null;
+		}
+	}
+	
+	public V remove(Class<?> type) {
+		
+		if(type == null) return null;
+		
+		if(RETAINED.get(type)) return this.retained.remove(type);
+		
+		synchronized(this.attachedKeys) {
+			
+			this.attachedKeys.remove(type);
+			
+			return this.attached.get(type).getAndSet(null);
+		}
+	}
+	
+	public boolean remove(Class<?> type, V value) {
+		
+		if(type == null) return false;
+		
+		if(RETAINED.get(type)) return this.retained.remove(type, value);
+		
+		synchronized(this.attachedKeys) {
+			
+			AtomicReference<V> reference = this.attached.get(type);
+			
+			if(reference.get() != value) return false;
+			
+			reference.set(null);
+			
+			this.attachedKeys.remove(type);
+			
+			return true;
+		}
+	}
+	
+	public void clear() {
+		
+		this.retained.clear();
+		
+		synchronized(this.attachedKeys) {
+			
+			for(Class<?> type : this.attachedKeys.keySet()) {
+				
+				this.attached.get(type).set(null);
+			}
+			
+			this.attachedKeys.clear();
+		}
+	}
+	
+	public int size() {
+		
+		return this.retained.size() + this.attachedKeys.size();
+	}
+	
+	public Map<Class<?>, V> snapshot() {
+		
+		Map<Class<?>, V> snapshot = new HashMap<>(this.retained);
+		
+		synchronized(this.attachedKeys) {
+			
+			for(Class<?> type : this.attachedKeys.keySet()) {
+				
+				V value = this.attached.get(type).get();
+				
+				if(value != null) snapshot.put(type, value);
+			}
+		}
+		
+		return snapshot;
+	}
+	
+	private static boolean isRetained(ClassLoader loader) {
+		
+		if(loader == null) return true;
+		
+		for(ClassLoader current = WeakClassMap.class.getClassLoader(); current != null; current = current.getParent()) {
+			
+			if(current == loader) return true;
+		}
+		
+		return false;
+	}
+}
@@ -0,0 +1,85 @@
+package com.kero.security.core.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class WeakInterner<T> {
+
+	private final Map<Key<T>, Key<T>> values = new ConcurrentHashMap<>();
+	private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+	
+	public T intern(T value) {
+		
+		expunge();
+		
+		Key<T> key = new Key<>(value, this.queue);
+		
+		while(true) {
+			
+			Key<T> present = this.values.putIfAbsent(key, key);
+			
+			if(present == null) return value;
+			
+			T interned = present.get();
+			
+			if(interned != null) return interned;
+			
+			this.values.remove(present, present);
+		}
+	}
+	
+	public boolean isInterned(T value) {
+		
+		Key<T> present = this.values.get(new Key<>(value, null));
+		
+		return present != null && present.get() == value;
+	}
+	
+	public int size() {
+		
+		expunge();
+		
+		return this.values.size();
+	}
+	
+	private void expunge() {
+		
+		Reference<? extends T> reference;
+		
+		while((reference = this.queue.poll()) != null) {
+			
+			this.values.remove(reference);
+		}
+	}
+	
+	private static class Key<T> extends WeakReference<T> {
+		
+		private final int hash;
+		
+		private Key(T value, ReferenceQueue<T> queue) {
+			super(value, queue);
+			
+			this.hash = value.hashCode();
+		}
+		
+		@Override
+		public int hashCode() {
+			
+			return this.hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			if(this == obj) return true;
+			if(!(obj instanceof Key)) return false;
+			
+			Object value = get();
+			
+			return value != null && value.equals(((Key<?>) obj).get());
+		}
+	}
+}
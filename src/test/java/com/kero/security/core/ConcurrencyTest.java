@@ -0,0 +1,148 @@
+package com.kero.security.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class ConcurrencyTest {
+
+	private static final int THREADS = 128;
+	private static final int ITERATIONS = 500;
+	
+	@Test
+	public void protect_SharedAgent() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		List<AccessScheme> schemes = new CopyOnWriteArrayList<>();
+		List<Role> roles = new CopyOnWriteArrayList<>();
+		
+		runConcurrently((index)-> {
+			
+			for(int i = 0; i < ITERATIONS; i++) {
+				
+				try {
+					
+					TestObject2 owned = agent.protect(new TestObject2("text"), "OWNER");
+					
+					assertEquals(owned.getText(), "text");
+					
+					TestObject2 foreign = agent.protect(new TestObject2("text"), "GUEST"+(i % 8));
+					
+					try {
+						
+						foreign.getText();
+						failures.add(new AssertionError("Expected AccessException"));
+					}
+					catch(AccessException e) {}
+				}
+				catch(Throwable e) {
+					
+					failures.add(e);
+				}
+			}
+			
+			schemes.add(agent.getScheme(TestObject2.class));
+			roles.add(agent.getOrCreateRole("GUEST0"));
+		}, failures);
+		
+		assertTrue(failures.isEmpty(), ()-> "Failures: "+failures.size()+", first: "+failures.peek());
+		
+		assertEquals(identityCount(schemes), 1);
+		assertEquals(identityCount(roles), 1);
+		assertEquals(agent.getRoleStorage().size(), 9);
+	}
+	
+	@Test
+	public void getOrCreateScheme_SingleInstance() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		List<AccessScheme> schemes = new CopyOnWriteArrayList<>();
+		List<AccessScheme> parents = new CopyOnWriteArrayList<>();
+		
+		runConcurrently((index)-> {
+			
+			AccessScheme scheme = agent.getOrCreateScheme(TestObject2.class);
+			
+			schemes.add(scheme);
+			parents.add(scheme.getParent());
+		}, failures);
+		
+		assertTrue(failures.isEmpty(), ()-> "Failures: "+failures.size()+", first: "+failures.peek());
+		
+		assertEquals(identityCount(schemes), 1);
+		assertEquals(identityCount(parents), 1);
+		assertEquals(parents.get(0), agent.getScheme(TestObject.class));
+	}
+	
+	private void runConcurrently(Task task, Queue<Throwable> failures) throws InterruptedException {
+		
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		
+		for(int i = 0; i < THREADS; i++) {
+			
+			int index = i;
+			
+			executor.execute(()-> {
+				
+				try {
+					
+					start.await();
+					task.run(index);
+				}
+				catch(Throwable e) {
+					
+					failures.add(e);
+				}
+			});
+		}
+		
+		start.countDown();
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+	}
+	
+	private int identityCount(List<?> objects) {
+		
+		Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		set.addAll(objects);
+		
+		return set.size();
+	}
+	
+	private interface Task {
+		
+		public void run(int index) throws Exception;
+	}
+}
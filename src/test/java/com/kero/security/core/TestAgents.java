@@ -0,0 +1,21 @@
+package com.kero.security.core;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+
+public class TestAgents {
+
+	public static KeroAccessAgent ownerGrantGuestIntercept() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER")
+					.addDenyInterceptor((obj, args)-> "forbidden", "GUEST");
+		
+		return agent;
+	}
+}
@@ -0,0 +1,236 @@
+package com.kero.security.core.agent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.TestObject2;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.lang.KsAccessSchemeConfigurator;
+import com.kero.security.core.lang.KsPolicy;
+import com.kero.security.core.property.exceptions.RoleCollisionException;
+
+public class PolicyUpdateTest {
+
+	@Test
+	public void configurationChange_AfterProtect() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER");
+		
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.property("text")
+					.grantFor("FRIEND");
+		
+		assertEquals(agent.protect(new TestObject("text"), "FRIEND").getText(), "text");
+	}
+	
+	@Test
+	public void updatePolicy() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER");
+		
+		TestObject before = agent.protect(new TestObject("text"), "FRIEND");
+		
+		assertThrows(AccessException.class, ()-> before.getText());
+		
+		long version = agent.getConfigurationVersion();
+		
+		agent.updatePolicy((conf)-> {
+			
+			conf.scheme(TestObject.class)
+				.property("text")
+					.grantFor("FRIEND")
+					.grantFor("GUEST");
+		});
+		
+		assertEquals(agent.getConfigurationVersion(), version + 1);
+		
+		assertThrows(AccessException.class, ()-> before.getText());
+		assertEquals(agent.protect(new TestObject("text"), "FRIEND").getText(), "text");
+		assertEquals(agent.protect(new TestObject("text"), "GUEST").getText(), "text");
+	}
+	
+	@Test
+	public void updatePolicy_ReadersNotBlocked() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER");
+		
+		agent.protect(new TestObject("text"), "FRIEND");
+		
+		AtomicReference<Throwable> readerResult = new AtomicReference<>();
+		
+		agent.updatePolicy((conf)-> {
+			
+			conf.scheme(TestObject.class)
+				.property("text")
+					.grantFor("FRIEND");
+			
+			Thread reader = new Thread(()-> {
+				
+				try {
+					
+					agent.protect(new TestObject("text"), "FRIEND").getText();
+				}
+				catch(Throwable e) {
+					
+					readerResult.set(e);
+				}
+			});
+			
+			reader.start();
+			
+			try {
+				
+				reader.join(10000);
+			}
+			catch(InterruptedException e) {
+				
+				throw new RuntimeException(e);
+			}
+			
+			assertEquals(reader.isAlive(), false);
+		});
+		
+		assertEquals(readerResult.get().getClass(), AccessException.class);
+		assertEquals(agent.protect(new TestObject("text"), "FRIEND").getText(), "text");
+	}
+	
+	@Test
+	public void reload() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		KsAccessSchemeConfigurator first = KsPolicy.parse(new StringReader("scheme TestObject(D) { text: +OWNER }"), "v1.k-s").apply(agent);
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+		
+		KsPolicy.parse(new StringReader("scheme TestObject(D) { text: +FRIEND }"), "v2.k-s").reload(agent, first);
+		
+		assertEquals(agent.protect(new TestObject("text"), "FRIEND").getText(), "text");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "OWNER").getText());
+	}
+	
+	@Test
+	public void reload_FailureKeepsPreviousPolicy() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.property("text")
+					.denyFor("FRIEND");
+		
+		KsAccessSchemeConfigurator first = KsPolicy.parse(new StringReader("scheme TestObject(D) { text: +OWNER }"), "v1.k-s").apply(agent);
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		
+		long version = agent.getConfigurationVersion();
+		
+		KsPolicy failing = KsPolicy.parse(new StringReader("scheme TestObject(G) { text: +FRIEND }"), "v2.k-s");
+		
+		assertThrows(RoleCollisionException.class, ()-> failing.reload(agent, first));
+		assertEquals(agent.getConfigurationVersion(), version);
+		
+		agent.updatePolicy((conf)-> conf.scheme(TestObject2.class).defaultDeny());
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "GUEST").getText());
+	}
+	
+	@Test
+	public void reload_KeepsOtherConfigurators() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("ADMIN");
+		
+		KsAccessSchemeConfigurator first = KsPolicy.parse(new StringReader("scheme TestObject(D) { text: +ADMIN +OWNER }"), "v1.k-s").apply(agent);
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		
+		KsPolicy.parse(new StringReader("scheme TestObject { text: +FRIEND }"), "v2.k-s").reload(agent, first);
+		
+		assertEquals(agent.protect(new TestObject("text"), "ADMIN").getText(), "text");
+		assertEquals(agent.protect(new TestObject("text"), "FRIEND").getText(), "text");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "OWNER").getText());
+	}
+	
+	@Test
+	public void reload_NewSchemeWaitsForPublication() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		KsAccessSchemeConfigurator first = KsPolicy.parse(new StringReader("scheme TestObject2(D) { text: +OWNER }"), "v1.k-s").apply(agent);
+		
+		AtomicReference<Object> readerResult = new AtomicReference<>();
+		AtomicBoolean blocked = new AtomicBoolean();
+		
+		Thread reader = new Thread(()-> {
+			
+			try {
+				
+				readerResult.set(agent.protect(new TestObject2("text"), "FRIEND").getText());
+			}
+			catch(Throwable e) {
+				
+				readerResult.set(e);
+			}
+		});
+		
+		agent.updatePolicy((conf)-> {
+			
+			reader.start();
+			
+			try {
+				
+				reader.join(200);
+			}
+			catch(InterruptedException e) {
+				
+				throw new RuntimeException(e);
+			}
+			
+			blocked.set(reader.isAlive());
+			
+			KsPolicy.parse(new StringReader("scheme TestObject2(D) { text: +FRIEND }"), "v2.k-s").reload(agent, first);
+		});
+		
+		reader.join(10000);
+		
+		assertEquals(blocked.get(), true);
+		assertEquals(readerResult.get(), "text");
+	}
+}
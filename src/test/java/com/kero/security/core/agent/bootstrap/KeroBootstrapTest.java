@@ -0,0 +1,64 @@
+package com.kero.security.core.agent.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.agent.bootstrap.scan.AnnotatedTarget;
+import com.kero.security.core.agent.bootstrap.scan.DefaultDenyTarget;
+import com.kero.security.core.agent.bootstrap.scan.PlainTarget;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.scheme.configurator.AnnotationAccessSchemeConfigurator;
+
+public class KeroBootstrapTest {
+
+	private static final String SCAN_PACKAGE = AnnotatedTarget.class.getPackage().getName();
+	
+	@Test
+	public void scan() {
+		
+		Set<String> classNames = new AnnotatedTypeScanner(getClass().getClassLoader(), ForkJoinPool.commonPool())
+			.scan(Collections.singleton(SCAN_PACKAGE));
+		
+		assertEquals(classNames.size(), 2);
+		assertTrue(classNames.contains(AnnotatedTarget.class.getName()));
+		assertTrue(classNames.contains(DefaultDenyTarget.class.getName()));
+	}
+	
+	@Test
+	public void run() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+			agent.addConfigurator(new AnnotationAccessSchemeConfigurator(agent));
+		
+		ForkJoinPool pool = new ForkJoinPool(4);
+		
+		BootstrapReport report = agent.bootstrap()
+			.packages(SCAN_PACKAGE)
+			.classLoader(getClass().getClassLoader())
+			.pool(pool)
+			.protectors()
+			.run();
+		
+		pool.shutdown();
+		
+		assertTrue(report.isSuccessful());
+		assertEquals(report.getScannedCount(), 2);
+		assertEquals(report.getTypes().size(), 2);
+		assertTrue(agent.hasScheme(AnnotatedTarget.class));
+		assertTrue(agent.hasScheme(DefaultDenyTarget.class));
+		assertFalse(agent.hasScheme(PlainTarget.class));
+		
+		assertThrows(AccessException.class, ()-> agent.protect(new AnnotatedTarget(), "GUEST").getText());
+		assertThrows(AccessException.class, ()-> agent.protect(new DefaultDenyTarget(), "GUEST").getText());
+	}
+}
@@ -0,0 +1,14 @@
+package com.kero.security.core.agent.bootstrap.scan;
+
+import com.kero.security.core.access.annotations.DenyFor;
+
+public class AnnotatedTarget {
+
+	@DenyFor("GUEST")
+	private String text = "text";
+	
+	public String getText() {
+		
+		return text;
+	}
+}
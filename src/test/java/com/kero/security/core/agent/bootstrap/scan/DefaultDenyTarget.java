@@ -0,0 +1,12 @@
+package com.kero.security.core.agent.bootstrap.scan;
+
+import com.kero.security.core.access.annotations.DefaultDeny;
+
+@DefaultDeny
+public class DefaultDenyTarget {
+
+	public String getText() {
+		
+		return "text";
+	}
+}
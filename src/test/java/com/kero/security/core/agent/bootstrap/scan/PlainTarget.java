@@ -0,0 +1,9 @@
+package com.kero.security.core.agent.bootstrap.scan;
+
+public class PlainTarget {
+
+	public String getText() {
+		
+		return "text";
+	}
+}
@@ -0,0 +1,81 @@
+package com.kero.security.core.agent.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.TestObject2;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.agent.warmup.scan.ScanTarget;
+import com.kero.security.core.config.cache.PreparedAccessConfigurationCache;
+
+public class KeroWarmUpTest {
+
+	@Test
+	public void run() {
+		
+		List<PreparedAccessConfigurationCache> caches = new CopyOnWriteArrayList<>();
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+			agent.setConfigsCacheFactory(()-> {
+				
+				PreparedAccessConfigurationCache cache = PreparedAccessConfigurationCache.create();
+				
+				caches.add(cache);
+				
+				return cache;
+			});
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		WarmUpReport report = agent.warmUp()
+			.types(TestObject.class, TestObject2.class)
+			.roles("OWNER")
+			.roles("OWNER", "FRIEND")
+			.executor(executor)
+			.run();
+		
+		executor.shutdown();
+		
+		assertTrue(report.isSuccessful());
+		assertEquals(report.getTypesCount(), 2);
+		assertEquals(report.getConfigurationsCount(), 4);
+		assertEquals(caches.size(), 2);
+		
+		agent.protect(new TestObject2("text"), "OWNER").getText();
+		
+		long misses = caches.stream().mapToLong((cache)-> cache.getStats().getMissCount()).sum();
+		long hits = caches.stream().mapToLong((cache)-> cache.getStats().getHitCount()).sum();
+		
+		assertEquals(misses, 4);
+		assertEquals(hits, 1);
+	}
+	
+	@Test
+	public void run_Packages() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		WarmUpReport report = agent.warmUp()
+			.packages(ScanTarget.class.getPackage().getName())
+			.run();
+		
+		assertTrue(report.isSuccessful());
+		assertEquals(report.getTypesCount(), 1);
+		assertTrue(agent.hasScheme(ScanTarget.class));
+	}
+}
@@ -0,0 +1,9 @@
+package com.kero.security.core.agent.warmup.scan;
+
+public class ScanTarget {
+
+	public String getText() {
+		
+		return "text";
+	}
+}
@@ -0,0 +1,236 @@
+package com.kero.security.core.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestAgents;
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.audit.exceptions.AuditLogFormatException;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.metrics.Decision;
+
+public class AuditLogTest {
+
+	private Path directory;
+	
+	@BeforeEach
+	public void createDirectory() throws IOException {
+		
+		this.directory = Files.createTempDirectory("kero-audit");
+	}
+	
+	@AfterEach
+	public void deleteDirectory() throws IOException {
+		
+		try(Stream<Path> paths = Files.walk(this.directory)) {
+			
+			for(Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+				
+				Files.delete(path);
+			}
+		}
+	}
+	
+	@Test
+	public void deniesAndIntercepts() throws Exception {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		AuditLog log = new AuditLog(directory).start();
+		
+		agent.setAuditLog(log);
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		assertEquals(agent.protect(new TestObject("text"), "GUEST").getText(), "forbidden");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND", "ANONYMOUS").getText());
+		
+		log.close();
+		
+		List<AuditEntry> entries = AuditLogReader.read(directory);
+		
+		assertEquals(entries.size(), 2);
+		
+		assertEquals(entries.get(0).getDecision(), Decision.INTERCEPT);
+		assertEquals(entries.get(0).getScheme(), "TestObject");
+		assertEquals(entries.get(0).getProperty(), "text");
+		assertEquals(entries.get(0).getRoles(), Arrays.asList("GUEST"));
+		
+		assertEquals(entries.get(1).getDecision(), Decision.DENY);
+		assertEquals(entries.get(1).getRoles(), Arrays.asList("ANONYMOUS", "FRIEND"));
+		assertEquals(entries.get(1).getThread(), Thread.currentThread().getId());
+	}
+	
+	@Test
+	public void grants() throws Exception {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		AuditLog log = new AuditLog(directory).auditGrants(true).start();
+		
+		agent.setAuditLog(log);
+		
+		TestObject owner = agent.protect(new TestObject("text"), "OWNER");
+		
+		owner.getText();
+		owner.getText();
+		
+		log.flush();
+		
+		assertEquals(log.getWrittenCount(), 2);
+		
+		log.close();
+		
+		List<AuditEntry> entries = AuditLogReader.read(directory);
+		
+		assertEquals(entries.size(), 2);
+		assertTrue(entries.stream().allMatch((entry)-> entry.getDecision() == Decision.GRANT));
+	}
+	
+	@Test
+	public void rotation() throws Exception {
+		
+		AuditLog log = new AuditLog(directory).segmentSize(4096).start();
+		
+		int total = 1000;
+		
+		for(int i = 0; i < total; i++) {
+			
+			record(log, Decision.DENY, "Scheme", "property"+(i % 10), "ROLE");
+		}
+		
+		log.close();
+		
+		assertTrue(AuditLogReader.listSegments(directory).size() > 1);
+		
+		List<AuditEntry> entries = AuditLogReader.read(directory);
+		
+		assertEquals(entries.size(), total);
+		
+		for(int i = 0; i < total; i++) {
+			
+			assertEquals(entries.get(i).getProperty(), "property"+(i % 10));
+		}
+		
+		AuditLog next = new AuditLog(directory).segmentSize(4096).maxSegments(2).start();
+		
+		for(int i = 0; i < total; i++) {
+			
+			record(next, Decision.DENY, "Scheme", "property", "ROLE");
+		}
+		
+		next.close();
+		
+		assertEquals(AuditLogReader.listSegments(directory).size(), 2);
+	}
+	
+	@Test
+	public void concurrentProducers_Block() throws Exception {
+		
+		AuditLog log = new AuditLog(directory).bufferCapacity(16).overflowPolicy(AuditOverflowPolicy.BLOCK).start();
+		
+		runProducers(log, 4, 5000);
+		
+		log.close();
+		
+		assertEquals(log.getDroppedCount(), 0);
+		assertEquals(AuditLogReader.read(directory).size(), 4 * 5000);
+	}
+	
+	@Test
+	public void concurrentProducers_Drop() throws Exception {
+		
+		AuditLog log = new AuditLog(directory).bufferCapacity(2).overflowPolicy(AuditOverflowPolicy.DROP).start();
+		
+		runProducers(log, 4, 5000);
+		
+		log.close();
+		
+		long written = AuditLogReader.read(directory).size();
+		
+		assertEquals(written + log.getDroppedCount(), 4 * 5000);
+		assertEquals(log.getWrittenCount(), written);
+	}
+	
+	@Test
+	public void ringBuffer_Full() throws Exception {
+		
+		AuditRingBuffer buffer = new AuditRingBuffer(4);
+		
+		assertEquals(buffer.getCapacity(), 4);
+		
+		for(int i = 0; i < 4; i++) {
+			
+			assertTrue(buffer.offer(i, 0, 0, 0));
+		}
+		
+		assertFalse(buffer.offer(4, 0, 0, 0));
+	}
+	
+	@Test
+	public void notStarted() {
+		
+		AuditLog log = new AuditLog(null);
+		
+		record(log, Decision.DENY, "Scheme", "property", "ROLE");
+		
+		assertEquals(log.getDroppedCount(), 1);
+	}
+	
+	@Test
+	public void read_Corrupted() throws Exception {
+		
+		Path file = Files.createTempFile(directory, AuditLogReader.SEGMENT_PREFIX, AuditLogReader.SEGMENT_SUFFIX);
+		
+		Files.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+		
+		assertThrows(AuditLogFormatException.class, ()-> AuditLogReader.read(file));
+	}
+	
+	private void runProducers(AuditLog log, int threads, int records) throws InterruptedException {
+		
+		List<Thread> producers = new ArrayList<>();
+		
+		for(int t = 0; t < threads; t++) {
+			
+			int producer = t;
+			
+			producers.add(new Thread(()-> {
+				
+				for(int i = 0; i < records; i++) {
+					
+					record(log, Decision.DENY, "Scheme", "property"+producer, "ROLE");
+				}
+			}));
+		}
+		
+		producers.forEach(Thread::start);
+		
+		for(Thread producer : producers) {
+			
+			producer.join();
+		}
+	}
+	
+	private void record(AuditLog log, Decision decision, String scheme, String property, String roles) {
+		
+		long ids = ((long) log.id(scheme) << 32) | log.id(property);
+		
+		log.record(decision, ids, ((long) log.id(roles) << 32) | decision.ordinal());
+	}
+}
@@ -0,0 +1,93 @@
+package com.kero.security.core.bases.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectAllTest {
+
+	private KeroAccessAgent manager = new KeroAccessAgentFactoryImpl().create();
+	
+	@BeforeEach
+	public void init() {
+		
+		manager.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultGrant()
+				.property("text")
+					.defaultDeny()
+					.addDenyInterceptor((obj, args)-> "forbidden", "FRIEND")
+					.grantFor("OWNER");
+	}
+	
+	@Test
+	public void protectAll() {
+		
+		List<Object> list = Arrays.asList(new TestObject("test text"), null, "plain");
+		
+		List<Object> owner = manager.protectAll(list, "OWNER");
+		
+		assertEquals(owner.size(), 3);
+		assertTrue(owner.get(0) instanceof AccessProxy);
+		assertEquals(((TestObject) owner.get(0)).getText(), "test text");
+		assertNull(owner.get(1));
+		assertSame(owner.get(2), list.get(2));
+		
+		assertThrows(UnsupportedOperationException.class, ()-> owner.add(new TestObject()));
+		
+		List<Object> none = manager.protectAll(list, "NONE");
+		assertThrows(AccessException.class, ()-> ((TestObject) none.get(0)).getText());
+		
+		List<Object> friend = manager.protectAll(list, "FRIEND");
+		assertEquals(((TestObject) friend.get(0)).getText(), "forbidden");
+	}
+	
+	@Test
+	public void protectAll_Parallel() {
+		
+		List<TestObject> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10000; i++) {
+			
+			list.add(new TestObject("text"+i));
+		}
+		
+		List<TestObject> owner = manager.protectAll(list, manager.getOrCreateRole(new String[] {"OWNER"}), true);
+		
+		assertEquals(owner.size(), list.size());
+		
+		for(int i = 0; i < owner.size(); i++) {
+			
+			assertSame(((AccessProxy) owner.get(i)).getOriginal(), list.get(i));
+			assertEquals(owner.get(i).getText(), "text"+i);
+		}
+	}
+	
+	@Test
+	public void protectStream() {
+		
+		List<TestObject> list = Arrays.asList(new TestObject("a"), new TestObject("b"));
+		
+		List<String> texts = manager.protectStream(list.stream(), "FRIEND")
+			.map(TestObject::getText)
+			.collect(Collectors.toList());
+		
+		assertEquals(texts, Arrays.asList("forbidden", "forbidden"));
+	}
+}
@@ -0,0 +1,127 @@
+package com.kero.security.core.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.config.action.ActionDeny;
+import com.kero.security.core.config.action.ActionGrantPassThrough;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.scheme.ClassAccessScheme;
+import com.kero.security.core.scheme.CompiledScheme;
+
+public class CompactPreparedAccessConfigurationTest {
+
+	@Test
+	public void prepare_SharedActions() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER")
+					.addDenyInterceptor((obj, args)-> "forbidden", "FRIEND");
+		
+		ClassAccessScheme scheme = (ClassAccessScheme) agent.getOrCreateScheme(TestObject.class);
+		CompiledScheme compiled = scheme.compile();
+		
+		Method getText = TestObject.class.getMethod("getText");
+		Method hashCode = TestObject.class.getMethod("hashCode");
+		
+		PreparedAccessConfiguration owner = compiled.prepare(agent.getOrCreateRole(new String[] {"OWNER"}));
+		PreparedAccessConfiguration ownerAndGuest = compiled.prepare(agent.getOrCreateRole(new String[] {"OWNER", "GUEST"}));
+		PreparedAccessConfiguration guest = compiled.prepare(agent.getOrCreateRole(new String[] {"GUEST"}));
+		PreparedAccessConfiguration none = compiled.prepare(agent.getOrCreateRole(new String[] {"NONE"}));
+		PreparedAccessConfiguration friend = compiled.prepare(agent.getOrCreateRole(new String[] {"FRIEND"}));
+		
+		assertNotSame(owner, ownerAndGuest);
+		assertTrue(owner.getAction(getText) instanceof ActionGrantPassThrough);
+		assertSame(owner.getAction(getText), ownerAndGuest.getAction(getText));
+		
+		assertTrue(guest.getAction(getText) instanceof ActionDeny);
+		assertSame(guest.getAction(getText), none.getAction(getText));
+		assertSame(guest.getAction(getText), owner.getAction(hashCode));
+		
+		assertSame(friend.getAction(getText), compiled.prepare(agent.getOrCreateRole(new String[] {"FRIEND", "GUEST"})).getAction(getText));
+		
+		int tableSize = compiled.getActionTable().size();
+		
+		for(int i = 0; i < 100; i++) {
+			
+			compiled.prepare(agent.getOrCreateRole(new String[] {"GUEST"+i}));
+		}
+		
+		assertEquals(compiled.getActionTable().size(), tableSize);
+	}
+	
+	@Test
+	public void protect_CompactConfiguration() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER")
+					.addDenyInterceptor((obj, args)-> "forbidden", "FRIEND");
+		
+		TestObject original = new TestObject("text");
+		
+		assertEquals(agent.protect(original, "OWNER").getText(), "text");
+		assertEquals(agent.protect(original, "FRIEND").getText(), "forbidden");
+		assertThrows(AccessException.class, ()-> agent.protect(original, "GUEST").getText());
+	}
+	
+	@Test
+	public void getAction_OverriddenMethod() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestChild.class)
+				.defaultDeny()
+				.property("value")
+					.grantFor("OWNER");
+		
+		CompiledScheme compiled = ((ClassAccessScheme) agent.getOrCreateScheme(TestChild.class)).compile();
+		
+		Method parentMethod = TestParent.class.getMethod("getValue");
+		Method childMethod = TestChild.class.getMethod("getValue");
+		
+		assertEquals(compiled.getLayout().slotOf(parentMethod), compiled.getLayout().slotOf(childMethod));
+		
+		PreparedAccessConfiguration owner = compiled.prepare(agent.getOrCreateRole(new String[] {"OWNER"}));
+		
+		assertTrue(owner.getAction(childMethod) instanceof ActionGrantPassThrough);
+		assertSame(owner.getAction(parentMethod), owner.getAction(childMethod));
+	}
+	
+	public static class TestParent {
+		
+		public Object getValue() {
+			
+			return null;
+		}
+	}
+	
+	public static class TestChild extends TestParent {
+		
+		@Override
+		public String getValue() {
+			
+			return "value";
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.kero.security.core.config;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.scheme.AccessProxy;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class PreparedAccessConfigurationImplTest {
+
+	@Test
+	public void invoke_NoNameResolvingOnHotPath() throws Exception {
+		
+		KeroAccessAgent agent = Mockito.mock(KeroAccessAgent.class);
+		Mockito.when(agent.extractPropertyName(Mockito.anyString())).thenReturn("other");
+		Mockito.when(agent.extractPropertyName("getText")).thenReturn("text");
+		
+		AccessScheme scheme = Mockito.mock(AccessScheme.class);
+		Mockito.doReturn(TestClass.class).when(scheme).getTypeClass();
+		Mockito.when(scheme.getAgent()).thenReturn(agent);
+		
+		Action textAction = Mockito.mock(Action.class);
+		Action defaultAction = Mockito.mock(Action.class);
+		
+		Map<String, Action> actions = new HashMap<>();
+			actions.put("text", textAction);
+		
+		PreparedAccessConfigurationImpl config = new PreparedAccessConfigurationImpl(scheme, actions, defaultAction);
+		
+		Mockito.reset(agent);
+		
+		TestClass original = new TestClass();
+		
+		AccessProxy proxy = Mockito.mock(AccessProxy.class);
+		Mockito.when(proxy.getOriginal()).thenReturn(original);
+		
+		Method getText = TestClass.class.getMethod("getText");
+		Method hashCode = TestClass.class.getMethod("hashCode");
+		
+		config.invoke(proxy, getText, null);
+		config.invoke(proxy, getText, null);
+		config.invoke(proxy, hashCode, null);
+		
+		Mockito.verify(textAction, Mockito.times(2)).process(getText, original, null);
+		Mockito.verify(defaultAction, Mockito.times(1)).process(hashCode, original, null);
+		Mockito.verifyZeroInteractions(agent);
+	}
+	
+	public static class TestClass {
+		
+		public String getText() {
+			
+			return "text";
+		}
+	}
+}
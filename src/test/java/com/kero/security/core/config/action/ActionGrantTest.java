@@ -0,0 +1,132 @@
+package com.kero.security.core.config.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.metrics.InMemoryKeroMetrics;
+import com.kero.security.core.metrics.KeroMetrics;
+import com.kero.security.core.protector.KeroProtector;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.scheme.AccessProxy;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class ActionGrantTest {
+
+	@Test
+	public void forReturnType() {
+		
+		KeroAccessAgent agent = Mockito.mock(KeroAccessAgent.class);
+		Mockito.when(agent.isIgnoredType(String.class)).thenReturn(true);
+		Mockito.when(agent.isIgnoredType(Level.class)).thenReturn(true);
+		
+		AccessScheme scheme = Mockito.mock(AccessScheme.class);
+		Mockito.when(scheme.getAgent()).thenReturn(agent);
+		
+		ActionGrant grant = new ActionGrant(scheme, Collections.emptySet());
+		
+		assertTrue(grant.forReturnType(int.class) instanceof ActionGrantPassThrough);
+		assertTrue(grant.forReturnType(void.class) instanceof ActionGrantPassThrough);
+		assertTrue(grant.forReturnType(String.class) instanceof ActionGrantPassThrough);
+		assertTrue(grant.forReturnType(Level.class) instanceof ActionGrantPassThrough);
+		assertTrue(grant.forReturnType(FinalChild.class) instanceof ActionGrantExactType);
+		
+		assertSame(grant.forReturnType(Object.class), grant);
+		assertSame(grant.forReturnType(CharSequence.class), grant);
+		assertSame(grant.forReturnType(String[].class), grant);
+		assertSame(grant.forReturnType(String.class), grant.forReturnType(String.class));
+		
+		assertEquals(grant.forReturnType(String.class).protect("text"), "text");
+		
+		Mockito.verify(agent, Mockito.never()).protect(Mockito.any(), Mockito.any(Collection.class));
+	}
+	
+	@Test
+	public void exactType_ResolvesProtectorOnce() {
+		
+		Collection<Role> roles = Collections.emptySet();
+		FinalChild child = new FinalChild();
+		
+		KeroProtector protector = Mockito.mock(KeroProtector.class);
+		
+		KeroAccessAgent agent = Mockito.mock(KeroAccessAgent.class);
+		Mockito.when(agent.getOrCreateProtector(FinalChild.class)).thenReturn(protector);
+		Mockito.when(agent.protect(child, roles, protector)).thenReturn(child);
+		
+		AccessScheme scheme = Mockito.mock(AccessScheme.class);
+		Mockito.when(scheme.getAgent()).thenReturn(agent);
+		
+		ActionGrant grant = new ActionGrant(scheme, roles).forReturnType(FinalChild.class);
+		
+		assertSame(grant.protect(child), child);
+		assertSame(grant.protect(child), child);
+		assertNull(grant.protect(null));
+		
+		Mockito.verify(agent, Mockito.times(1)).getOrCreateProtector(FinalChild.class);
+		Mockito.verify(agent, Mockito.times(2)).protect(child, roles, protector);
+	}
+	
+	@Test
+	public void exactType_ThroughAgentPipeline() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		InMemoryKeroMetrics metrics = KeroMetrics.create(1);
+		
+		agent.setMetrics(metrics);
+		
+		ActionGrant grant = new ActionGrant(agent.getOrCreateScheme(FinalChild.class), Collections.emptySet()).forReturnType(FinalChild.class);
+		
+		assertTrue(grant instanceof ActionGrantExactType);
+		assertTrue(grant.protect(new FinalChild()) instanceof AccessProxy);
+		assertEquals(metrics.snapshot().getProtectCount(FinalChild.class), 1);
+	}
+	
+	@Test
+	public void ignoreType_ReclassifiesReturnType() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(Parent.class)
+				.defaultGrant();
+		
+		agent.protect(new Parent(), "OWNER");
+		agent.ignoreType(FinalChild.class);
+		
+		Parent parent = agent.protect(new Parent(), "OWNER");
+		
+		assertFalse((Object) parent.getChild() instanceof AccessProxy);
+		assertFalse(agent.getSchemeStorage().has(FinalChild.class));
+	}
+	
+	public static class Parent {
+		
+		public FinalChild getChild() {
+			
+			return new FinalChild();
+		}
+	}
+	
+	public static enum Level {
+		
+		LOW {
+		
+		},
+		HIGH;
+	}
+	
+	public static final class FinalChild {
+	
+	}
+}
@@ -0,0 +1,181 @@
+package com.kero.security.core.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.PreparedAccessConfigurationImpl;
+import com.kero.security.core.role.Role;
+import com.kero.security.core.role.RoleImpl;
+
+public class LruPreparedAccessConfigurationCacheTest {
+
+	private AtomicInteger loads = new AtomicInteger();
+	
+	private Function<Set<Role>, PreparedAccessConfiguration> loader = (roles)-> {
+		
+		loads.incrementAndGet();
+		
+		return new PreparedAccessConfigurationImpl();
+	};
+	
+	@Test
+	public void get_HitsAndMisses() {
+		
+		LruPreparedAccessConfigurationCache cache = new LruPreparedAccessConfigurationCache(16);
+		
+		Set<Role> roles = new HashSet<>(Arrays.asList(new RoleImpl("OWNER"), new RoleImpl("FRIEND")));
+		
+		PreparedAccessConfiguration first = cache.get(roles, loader);
+		PreparedAccessConfiguration second = cache.get(Arrays.asList(new RoleImpl("FRIEND"), new RoleImpl("OWNER")), loader);
+		
+		assertSame(first, second);
+		assertEquals(loads.get(), 1);
+		assertEquals(cache.getStats().getHitCount(), 1);
+		assertEquals(cache.getStats().getMissCount(), 1);
+	}
+	
+	@Test
+	public void get_KeyIsDefensiveCopy() {
+		
+		LruPreparedAccessConfigurationCache cache = new LruPreparedAccessConfigurationCache(16);
+		
+		Set<Role> roles = new HashSet<>(Collections.singleton(new RoleImpl("OWNER")));
+		
+		PreparedAccessConfiguration owner = cache.get(roles, loader);
+		
+		roles.add(new RoleImpl("FRIEND"));
+		
+		assertNotSame(cache.get(roles, loader), owner);
+		assertSame(cache.get(Collections.singleton(new RoleImpl("OWNER")), loader), owner);
+	}
+	
+	@Test
+	public void get_EvictsLeastRecentlyUsed() {
+		
+		TestClockCache cache = new TestClockCache(2, 0);
+		
+		PreparedAccessConfiguration first = cache.get(roles("A"), loader);
+		cache.tick();
+		cache.get(roles("B"), loader);
+		cache.tick();
+		cache.get(roles("A"), loader);
+		cache.tick();
+		cache.get(roles("C"), loader);
+		
+		assertEquals(cache.size(), 2);
+		assertEquals(cache.getStats().getEvictionCount(), 1);
+		assertSame(cache.get(roles("A"), loader), first);
+		
+		int loadsBefore = loads.get();
+		
+		cache.get(roles("B"), loader);
+		
+		assertEquals(loads.get(), loadsBefore + 1);
+	}
+	
+	@Test
+	public void get_EvictionKeepsRecentlyUsed() {
+		
+		LruPreparedAccessConfigurationCache cache = new LruPreparedAccessConfigurationCache(100);
+		
+		for(int i = 0; i < 100; i++) {
+			
+			cache.get(roles("R"+i), loader);
+		}
+		
+		for(int i = 0; i < 50; i++) {
+			
+			cache.get(roles("R"+i), loader);
+		}
+		
+		for(int i = 100; i < 120; i++) {
+			
+			cache.get(roles("R"+i), loader);
+		}
+		
+		assertTrue(cache.size() <= 100);
+		
+		int loadsBefore = loads.get();
+		
+		for(int i = 0; i < 50; i++) {
+			
+			cache.get(roles("R"+i), loader);
+		}
+		
+		assertEquals(loads.get(), loadsBefore);
+	}
+	
+	@Test
+	public void get_ExpiresAfterWrite() {
+		
+		TestClockCache cache = new TestClockCache(16, 10);
+		
+		PreparedAccessConfiguration first = cache.get(roles("A"), loader);
+		
+		cache.tick();
+		
+		assertSame(cache.get(roles("A"), loader), first);
+		
+		cache.tick(10);
+		
+		assertNotSame(cache.get(roles("A"), loader), first);
+		assertEquals(cache.getStats().getEvictionCount(), 1);
+		assertEquals(loads.get(), 2);
+	}
+	
+	@Test
+	public void clear() {
+		
+		LruPreparedAccessConfigurationCache cache = new LruPreparedAccessConfigurationCache(16);
+		
+		cache.get(roles("A"), loader);
+		cache.clear();
+		cache.get(roles("A"), loader);
+		
+		assertEquals(loads.get(), 2);
+	}
+	
+	private Set<Role> roles(String name) {
+		
+		return Collections.singleton(new RoleImpl(name));
+	}
+	
+	private static class TestClockCache extends LruPreparedAccessConfigurationCache {
+		
+		private long time = 0;
+		
+		public TestClockCache(int maximumSize, long expireAfterWrite) {
+			super(maximumSize, expireAfterWrite, TimeUnit.NANOSECONDS);
+		
+		}
+		
+		public void tick() {
+			
+			tick(1);
+		}
+		
+		public void tick(long nanos) {
+			
+			this.time += nanos;
+		}
+		
+		@Override
+		protected long now() {
+			
+			return this.time;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.kero.security.core.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestAgents;
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.exception.AccessException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class KeroFlightRecorderTest {
+
+	private Path file;
+	
+	@AfterEach
+	public void deleteRecording() throws IOException {
+		
+		if(this.file != null) Files.deleteIfExists(this.file);
+	}
+	
+	@Test
+	public void events() throws Exception {
+		
+		assumeTrue(KeroFlightRecorder.isAvailable());
+		
+		this.file = Files.createTempFile("kero", ".jfr");
+		
+		try(Recording recording = new Recording()) {
+			
+			recording.enable("kero.SchemeCreation");
+			recording.enable("kero.ConfigurationPreparation");
+			recording.enable("kero.ProxyGeneration");
+			recording.enable("kero.AccessDenied");
+			recording.start();
+			
+			KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+			
+			agent.protect(new TestObject("text"), "OWNER").getText();
+			agent.protect(new TestObject("text"), "GUEST").getText();
+			
+			assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+			
+			recording.stop();
+			recording.dump(file);
+		}
+		
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+			.filter((event)-> event.getEventType().getName().startsWith("kero."))
+			.collect(Collectors.toList());
+		
+		RecordedEvent creation = find(events, "kero.SchemeCreation", "scheme", "TestObject");
+		
+		assertEquals(creation.getClass("type").getName(), TestObject.class.getName());
+		
+		RecordedEvent preparation = find(events, "kero.ConfigurationPreparation", "scheme", "TestObject");
+		
+		assertEquals(preparation.getInt("roles"), 1);
+		assertTrue(preparation.getInt("properties") >= 1);
+		
+		RecordedEvent generation = find(events, "kero.ProxyGeneration", "proxy", null);
+		
+		assertEquals(generation.getClass("target").getName(), TestObject.class.getName());
+		assertTrue(generation.getLong("bytes") > 0);
+		
+		List<RecordedEvent> denies = events.stream()
+			.filter((event)-> event.getEventType().getName().equals("kero.AccessDenied"))
+			.collect(Collectors.toList());
+		
+		assertEquals(denies.size(), 2);
+		assertTrue(denies.stream().allMatch((event)-> event.getString("property").equals("text")));
+		assertEquals(denies.stream().filter((event)-> event.getBoolean("intercepted")).count(), 1);
+	}
+	
+	@Test
+	public void noRecording() {
+		
+		assumeTrue(KeroFlightRecorder.isAvailable());
+		
+		assertNull(KeroFlightRecorder.beginSchemeCreation());
+		assertNull(KeroFlightRecorder.beginConfigurationPreparation());
+		assertNull(KeroFlightRecorder.beginProxyGeneration());
+		
+		KeroFlightRecorder.commitSchemeCreation(null, TestObject.class, "TestObject");
+	}
+	
+	private RecordedEvent find(List<RecordedEvent> events, String name, String field, String value) {
+		
+		return events.stream()
+			.filter((event)-> event.getEventType().getName().equals(name))
+			.filter((event)-> value == null || value.equals(event.getString(field)))
+			.findFirst()
+			.orElseThrow(()-> new AssertionError("No "+name+" event recorded"));
+	}
+}
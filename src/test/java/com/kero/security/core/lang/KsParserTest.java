@@ -0,0 +1,79 @@
+package com.kero.security.core.lang;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.access.Access;
+import com.kero.security.core.lang.exceptions.KsParseException;
+
+public class KsParserTest {
+
+	@Test
+	public void parse() {
+		
+		String source = "// sample policy\n"
+				+ "scheme TestObject(G) {\n"
+				+ "\n"
+				+ "\ttext(D): +OWNER +FRIEND -GUEST\n"
+				+ "\t\t- propagation: OWNER -> FRIEND -> COMMON, ADMIN -> OWNER\n"
+				+ "\tage: +COMMON\n"
+				+ "}\n"
+				+ "scheme Other {}\n";
+		
+		List<KsScheme> schemes = new KsParser(new StringReader(source), "test.k-s").parse();
+		
+		assertEquals(schemes.size(), 2);
+		
+		KsScheme scheme = schemes.get(0);
+		
+		assertEquals(scheme.getName(), "TestObject");
+		assertEquals(scheme.getDefaultAccess(), Access.GRANT);
+		assertEquals(scheme.getProperties().size(), 2);
+		
+		KsProperty text = scheme.getOrCreateProperty("text");
+		
+		assertEquals(text.getDefaultAccess(), Access.DENY);
+		assertTrue(text.getGrantRoles().contains("OWNER"));
+		assertTrue(text.getGrantRoles().contains("FRIEND"));
+		assertTrue(text.getDenyRoles().contains("GUEST"));
+		assertEquals(text.getPropagations().size(), 3);
+		assertArrayEquals(text.getPropagations().get(0), new String[] {"OWNER", "FRIEND"});
+		assertArrayEquals(text.getPropagations().get(1), new String[] {"FRIEND", "COMMON"});
+		assertArrayEquals(text.getPropagations().get(2), new String[] {"ADMIN", "OWNER"});
+		
+		assertEquals(scheme.getOrCreateProperty("age").getDefaultAccess(), Access.UNKNOWN);
+		assertEquals(schemes.get(1).getDefaultAccess(), Access.UNKNOWN);
+	}
+	
+	@Test
+	public void parse_ErrorPosition() {
+		
+		String source = "scheme TestObject {\n"
+				+ "\ttext +OWNER\n"
+				+ "}\n";
+		
+		KsParseException exception = assertThrows(KsParseException.class, ()-> new KsParser(new StringReader(source), "broken.k-s").parse());
+		
+		assertEquals(exception.getSource(), "broken.k-s");
+		assertEquals(exception.getLine(), 2);
+		assertEquals(exception.getColumn(), 7);
+		assertEquals(exception.getMessage(), "broken.k-s:2:7: Expected ':' but found '+'");
+	}
+	
+	@Test
+	public void parse_Errors() {
+		
+		assertThrows(KsParseException.class, ()-> new KsParser(new StringReader("schema A {}"), "a").parse());
+		assertThrows(KsParseException.class, ()-> new KsParser(new StringReader("scheme A(X) {}"), "a").parse());
+		assertThrows(KsParseException.class, ()-> new KsParser(new StringReader("scheme A { text: +OWNER"), "a").parse());
+		assertThrows(KsParseException.class, ()-> new KsParser(new StringReader("scheme A {} scheme A {}"), "a").parse());
+		assertThrows(KsParseException.class, ()-> new KsParser(new StringReader("scheme A { text: # }"), "a").parse());
+	}
+}
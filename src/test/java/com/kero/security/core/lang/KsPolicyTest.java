@@ -0,0 +1,147 @@
+package com.kero.security.core.lang;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.lang.exceptions.KsBinaryFormatException;
+
+public class KsPolicyTest {
+
+	private static final String SOURCE = "scheme TestObject(G) {\n"
+			+ "\ttext(D): +OWNER -GUEST\n"
+			+ "\t\t- propagation: OWNER -> FRIEND\n"
+			+ "}\n";
+	
+	private Path directory;
+	
+	@BeforeEach
+	public void createDirectory() throws IOException {
+		
+		this.directory = Files.createTempDirectory("kero-policy");
+	}
+	
+	@AfterEach
+	public void deleteDirectory() throws IOException {
+		
+		try(Stream<Path> paths = Files.walk(this.directory)) {
+			
+			for(Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+				
+				Files.delete(path);
+			}
+		}
+	}
+	
+	@Test
+	public void apply() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		KsPolicy.parse(new StringReader(SOURCE), "test.k-s").apply(agent);
+		
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "GUEST").getText());
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+	}
+	
+	@Test
+	public void load_Compiled() throws Exception {
+		
+		Path source = directory.resolve("policy.k-s");
+		Path compiled = directory.resolve("policy.k-sb");
+		
+		Files.write(source, SOURCE.getBytes(StandardCharsets.UTF_8));
+		
+		KsPolicy parsed = KsPolicy.load(source, compiled);
+		
+		assertTrue(Files.exists(compiled));
+		
+		long fingerprint = KsBinaryFormat.readFingerprint(compiled);
+		
+		KsPolicy loaded = KsPolicy.load(source, compiled);
+		
+		assertEquals(KsBinaryFormat.readFingerprint(compiled), fingerprint);
+		assertPolicyEquals(parsed, loaded);
+		
+		Files.write(source, SOURCE.replace("-GUEST", "-GUEST -ANONYMOUS").getBytes(StandardCharsets.UTF_8));
+		
+		KsPolicy updated = KsPolicy.load(source, compiled);
+		
+		assertTrue(updated.getScheme("TestObject").getOrCreateProperty("text").getDenyRoles().contains("ANONYMOUS"));
+		assertTrue(KsBinaryFormat.readFingerprint(compiled) != fingerprint);
+	}
+	
+	@Test
+	public void read_Corrupted() throws Exception {
+		
+		Path file = directory.resolve("policy.k-sb");
+		
+		Files.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+		
+		assertThrows(KsBinaryFormatException.class, ()-> KsPolicy.read(file));
+	}
+	
+	@Test
+	public void read_CorruptedLength() {
+		
+		for(int length : new int[] {-1, Integer.MAX_VALUE}) {
+			
+			ByteBuffer buffer = ByteBuffer.allocate(4 + 2 + 8 + 4 + 4 + 8);
+				buffer.putInt(KsBinaryFormat.MAGIC);
+				buffer.putShort(KsBinaryFormat.VERSION);
+				buffer.putLong(0);
+				buffer.putInt(1);
+				buffer.putInt(length);
+				buffer.flip();
+			
+			assertThrows(KsBinaryFormatException.class, ()-> KsBinaryFormat.read(buffer));
+		}
+	}
+	
+	private void assertPolicyEquals(KsPolicy expected, KsPolicy actual) {
+		
+		assertEquals(actual.getSchemes().size(), expected.getSchemes().size());
+		
+		for(KsScheme scheme : expected.getSchemes()) {
+			
+			KsScheme other = actual.getScheme(scheme.getName());
+			
+			assertEquals(other.getDefaultAccess(), scheme.getDefaultAccess());
+			assertEquals(other.getProperties().size(), scheme.getProperties().size());
+			
+			for(KsProperty property : scheme.getProperties()) {
+				
+				KsProperty otherProperty = other.getOrCreateProperty(property.getName());
+				
+				assertEquals(otherProperty.getDefaultAccess(), property.getDefaultAccess());
+				assertEquals(otherProperty.getGrantRoles(), property.getGrantRoles());
+				assertEquals(otherProperty.getDenyRoles(), property.getDenyRoles());
+				assertEquals(otherProperty.getPropagations().size(), property.getPropagations().size());
+				
+				for(int i = 0; i < property.getPropagations().size(); i++) {
+					
+					assertArrayEquals(otherProperty.getPropagations().get(i), property.getPropagations().get(i));
+				}
+			}
+		}
+	}
+}
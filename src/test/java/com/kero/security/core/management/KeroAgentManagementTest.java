@@ -0,0 +1,123 @@
+package com.kero.security.core.management;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestAgents;
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.management.exceptions.KeroManagementException;
+
+public class KeroAgentManagementTest {
+
+	@Test
+	public void attributes() throws Exception {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		agent.protect(new TestObject("text"), "OWNER");
+		agent.protect(new TestObject("text"), "OWNER");
+		agent.protect(new TestObject("text"), "FRIEND");
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		
+		KeroAgentManagement management = KeroAgentManagement.register(agent, "attributes");
+		ObjectName name = management.getObjectName();
+		
+		try {
+			
+			assertEquals(server.getAttribute(name, "SchemeCount"), agent.getSchemeStorage().size());
+			assertEquals(server.getAttribute(name, "ProtectorCount"), 1);
+			assertTrue((Long) server.getAttribute(name, "ProxyClassCount") >= 1);
+			assertTrue((Long) server.getAttribute(name, "ProxyClassBytes") > 0);
+			
+			CompositeData[] stats = (CompositeData[]) server.getAttribute(name, "CacheStats");
+			
+			assertEquals(stats.length, 1);
+			assertEquals(stats[0].get("scheme"), "TestObject");
+			assertEquals(stats[0].get("size"), 2);
+			assertEquals(stats[0].get("hitCount"), 1L);
+			assertEquals(stats[0].get("missCount"), 2L);
+		}
+		finally {
+			
+			management.unregister();
+		}
+		
+		assertFalse(server.isRegistered(name));
+	}
+	
+	@Test
+	public void clearSchemeCaches() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		agent.protect(new TestObject("text"), "OWNER");
+		
+		KeroAgentManagement management = new KeroAgentManagement(agent);
+		
+		assertEquals(management.getCacheStats().get(0).getSize(), 1);
+		
+		assertTrue(management.clearSchemeCaches("TestObject"));
+		assertFalse(management.clearSchemeCaches("Unknown"));
+		
+		assertEquals(management.getCacheStats().get(0).getSize(), 0);
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+	}
+	
+	@Test
+	public void warmUp() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		KeroAgentManagement management = new KeroAgentManagement(agent);
+		
+		String report = management.warmUp(new String[] {TestObject.class.getName(), "com.kero.Missing"}, new String[] {"OWNER"});
+		
+		assertTrue(report.contains("com.kero.Missing"));
+		
+		List<SchemeCacheStats> stats = management.getCacheStats();
+		
+		assertEquals(stats.size(), 1);
+		assertEquals(stats.get(0).getSize(), 1);
+	}
+	
+	@Test
+	public void dumpDecisionTable() throws Exception {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		agent.protect(new TestObject("text"), "OWNER");
+		
+		KeroAgentManagement management = KeroAgentManagement.register(agent, "dump");
+		
+		try {
+			
+			String[] owner = (String[]) ManagementFactory.getPlatformMBeanServer().invoke(management.getObjectName(), "dumpDecisionTable", new Object[] {"TestObject", new String[] {"OWNER"}}, new String[] {String.class.getName(), String[].class.getName()});
+			
+			assertArrayEquals(owner, new String[] {"compareto: DENY", "text: GRANT"});
+			
+			assertArrayEquals(management.dumpDecisionTable(TestObject.class.getName(), new String[] {"GUEST"}), new String[] {"compareto: DENY", "text: INTERCEPT"});
+			assertThrows(KeroManagementException.class, ()-> management.dumpDecisionTable("Unknown", new String[0]));
+			assertThrows(KeroManagementException.class, ()-> management.dumpDecisionTable("TestObject", new String[] {"OWNER", "INTRUDER"}));
+			assertNull(agent.getRole("INTRUDER"));
+		}
+		finally {
+			
+			management.unregister();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.kero.security.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestAgents;
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.exception.AccessException;
+
+public class InMemoryKeroMetricsTest {
+
+	@Test
+	public void decisions() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		InMemoryKeroMetrics metrics = KeroMetrics.create(1);
+		
+		agent.setMetrics(metrics);
+		
+		TestObject owner = agent.protect(new TestObject("text"), "OWNER");
+		
+		owner.getText();
+		owner.getText();
+		
+		assertThrows(AccessException.class, ()-> agent.protect(new TestObject("text"), "FRIEND").getText());
+		assertEquals(agent.protect(new TestObject("text"), "GUEST").getText(), "forbidden");
+		
+		MetricsSnapshot snapshot = metrics.snapshot();
+		
+		DecisionCounts text = snapshot.getDecisions("TestObject", "text");
+		
+		assertEquals(text.getGrants(), 2);
+		assertEquals(text.getDenies(), 1);
+		assertEquals(text.getIntercepts(), 1);
+		
+		assertEquals(snapshot.getDecisionsBySchemes().get("TestObject").longValue(), 4);
+		assertEquals(snapshot.getDecisionCount(Decision.GRANT), 2);
+	}
+	
+	@Test
+	public void protectAndPrepare() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		InMemoryKeroMetrics metrics = KeroMetrics.create(1);
+		
+		agent.setMetrics(metrics);
+		
+		agent.protect(new TestObject("text"), "OWNER");
+		agent.protect(new TestObject("text"), "OWNER");
+		agent.protect(new TestObject("text"), "FRIEND");
+		
+		MetricsSnapshot snapshot = metrics.snapshot();
+		
+		assertEquals(snapshot.getProtectCount(), 3);
+		assertEquals(snapshot.getProtectCount(TestObject.class), 3);
+		assertEquals(snapshot.getProtectLatency().getCount(), 3);
+		
+		assertEquals(snapshot.getConfigurationRequests(), 3);
+		assertEquals(snapshot.getConfigurationPrepares(), 2);
+		assertEquals(snapshot.getPrepareLatency().getCount(), 2);
+		
+		assertEquals(snapshot.getProxyClassCount(), 1);
+		assertEquals(snapshot.getProxyClassLatency().getCount(), 1);
+		assertTrue(snapshot.getProxyClassLatency().getMax() > 0);
+	}
+	
+	@Test
+	public void sampling() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		InMemoryKeroMetrics metrics = KeroMetrics.create(Integer.MAX_VALUE);
+		
+		agent.setMetrics(metrics);
+		
+		for(int i = 0; i < 100; i++) {
+			
+			agent.protect(new TestObject("text"), "OWNER").getText();
+		}
+		
+		MetricsSnapshot snapshot = metrics.snapshot();
+		
+		assertEquals(snapshot.getProtectCount(), 100);
+		assertTrue(snapshot.getProtectLatency().getCount() < 100);
+		assertTrue(snapshot.getDecisionCount(Decision.GRANT) == 0 || snapshot.getDecisionCount(Decision.GRANT) >= Integer.MAX_VALUE);
+	}
+	
+	@Test
+	public void disabledByDefault() {
+		
+		KeroAccessAgent agent = TestAgents.ownerGrantGuestIntercept();
+		
+		assertSame(agent.getMetrics(), KeroMetrics.EMPTY);
+		assertEquals(agent.protect(new TestObject("text"), "OWNER").getText(), "text");
+	}
+	
+	@Test
+	public void histogram() {
+		
+		LatencyHistogram histogram = new LatencyHistogram();
+		
+		for(int i = 1; i <= 100; i++) {
+			
+			histogram.record(i * 10);
+		}
+		
+		histogram.record(KeroMetrics.NOT_SAMPLED);
+		
+		HistogramSnapshot snapshot = histogram.snapshot();
+		
+		assertEquals(snapshot.getCount(), 100);
+		assertEquals(snapshot.getMax(), 1000);
+		assertEquals(snapshot.getMean(), 505.0);
+		assertTrue(snapshot.getPercentile(0.5) >= 500 && snapshot.getPercentile(0.5) < 1024);
+		assertEquals(snapshot.getPercentile(1.0), 1000);
+	}
+}
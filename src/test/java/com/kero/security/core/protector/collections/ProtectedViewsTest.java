@@ -0,0 +1,183 @@
+package com.kero.security.core.protector.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProtectedViewsTest {
+
+	private KeroAccessAgent manager = new KeroAccessAgentFactoryImpl().create();
+	
+	@BeforeEach
+	public void init() {
+		
+		manager.setCollectionViewsEnabled(true);
+		
+		manager.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultGrant()
+				.property("text")
+					.defaultDeny()
+					.grantFor("OWNER");
+	}
+	
+	@Test
+	public void list() {
+		
+		TestObject first = new TestObject("first");
+		
+		ArrayList<TestObject> list = new ArrayList<>();
+			list.add(first);
+			list.add(new TestObject("second"));
+		
+		List<TestObject> owner = manager.protect(list, "OWNER");
+		
+		assertTrue(owner instanceof ProtectedList);
+		assertTrue(owner instanceof RandomAccess);
+		assertSame(((AccessProxy) owner).getOriginal(), list);
+		
+		TestObject element = owner.get(0);
+		
+		assertTrue(element instanceof AccessProxy);
+		assertEquals(element.getText(), "first");
+		assertEquals(owner.indexOf(element), 0);
+		assertTrue(owner.contains(element));
+		
+		owner.add(element);
+		
+		assertSame(list.get(2), first);
+		
+		for(TestObject object : owner) {
+			
+			assertTrue(object instanceof AccessProxy);
+		}
+		
+		assertEquals(owner.subList(1, 2).get(0).getText(), "second");
+		
+		List<TestObject> none = manager.protect(list, "NONE");
+		
+		assertThrows(AccessException.class, ()-> none.get(0).getText());
+		assertThrows(AccessException.class, ()-> none.listIterator().next().getText());
+	}
+	
+	@Test
+	public void map() {
+		
+		HashMap<String, TestObject> map = new HashMap<>();
+			map.put("key", new TestObject("text"));
+		
+		Map<String, TestObject> none = manager.protect(map, "NONE");
+		
+		assertTrue(none instanceof ProtectedMap);
+		assertThrows(AccessException.class, ()-> none.get("key").getText());
+		assertThrows(AccessException.class, ()-> none.values().iterator().next().getText());
+		assertThrows(AccessException.class, ()-> none.entrySet().iterator().next().getValue().getText());
+		assertEquals(none.entrySet().iterator().next().getKey(), "key");
+		assertEquals(none.getOrDefault("missing", null), null);
+	}
+	
+	@Test
+	public void deque() {
+		
+		ArrayDeque<TestObject> deque = new ArrayDeque<>();
+			deque.add(new TestObject("text"));
+		
+		Deque<TestObject> owner = manager.protect(deque, "OWNER");
+		
+		assertTrue(owner instanceof ProtectedDeque);
+		assertEquals(owner.peekLast().getText(), "text");
+		assertTrue(owner.pop() instanceof AccessProxy);
+		assertTrue(deque.isEmpty());
+	}
+	
+	@Test
+	public void jdkIterator() {
+		
+		TreeSet<TestObject> set = new TreeSet<>();
+			set.add(new TestObject("text"));
+		
+		Iterator<TestObject> iterator = manager.protect(set.iterator(), "NONE");
+		
+		assertTrue(iterator instanceof ProtectedIterator);
+		assertThrows(AccessException.class, ()-> iterator.next().getText());
+	}
+	
+	@Test
+	public void disabled() {
+		
+		manager.setCollectionViewsEnabled(false);
+		
+		ArrayList<TestObject> list = new ArrayList<>();
+			list.add(new TestObject("text"));
+		
+		List<TestObject> owner = manager.protect(list, "OWNER");
+		
+		assertFalse(owner instanceof ProtectedList);
+		assertTrue(owner instanceof ArrayList);
+		assertEquals(owner.get(0).getText(), "text");
+	}
+	
+	@Test
+	public void disabledByDefault() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestHolder.class)
+				.defaultGrant();
+		
+		ArrayList<TestObject> items = new ArrayList<>();
+			items.add(new TestObject("text"));
+		
+		assertFalse(agent.isCollectionViewsEnabled());
+		
+		ArrayList<TestObject> list = agent.protect(items, "OWNER");
+		
+		assertTrue(list instanceof AccessProxy);
+		
+		ArrayList<TestObject> holderItems = agent.protect(new TestHolder(items), "OWNER").getItems();
+		
+		assertTrue(holderItems instanceof AccessProxy);
+		assertEquals(holderItems.size(), 1);
+	}
+	
+	public static class TestHolder {
+		
+		private ArrayList<TestObject> items;
+		
+		public TestHolder() {
+			
+		}
+		
+		public TestHolder(ArrayList<TestObject> items) {
+			
+			this.items = items;
+		}
+		
+		public ArrayList<TestObject> getItems() {
+			
+			return this.items;
+		}
+	}
+}
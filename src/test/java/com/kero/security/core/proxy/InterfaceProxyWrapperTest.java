@@ -0,0 +1,154 @@
+package com.kero.security.core.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.agent.exception.ProxyAlreadyCreatedException;
+import com.kero.security.core.exception.AccessException;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class InterfaceProxyWrapperTest {
+
+	@Test
+	public void createProxyClass() {
+		
+		InterfaceProxyWrapper wrapper = new InterfaceProxyWrapper(TestClass.class);
+		
+		Class<?> proxyClass = wrapper.createProxyClass();
+		
+		assertEquals(proxyClass.getSuperclass(), Object.class);
+		assertFalse(TestClass.class.isAssignableFrom(proxyClass));
+		
+		List<Class<?>> interfaces = Arrays.asList(proxyClass.getInterfaces());
+		
+		assertEquals(interfaces.size(), 3);
+		assertTrue(interfaces.contains(AccessProxy.class));
+		assertTrue(interfaces.contains(TestInterface.class));
+		assertTrue(interfaces.contains(ParentInterface.class));
+	}
+	
+	@Test
+	public void createProxyClass_OnlyOwnFields() {
+		
+		Class<?> proxyClass = new InterfaceProxyWrapper(TestClass.class, ProxyMode.REFLECTIVE).createProxyClass();
+		
+		Set<String> fields = new HashSet<>();
+		
+		for(Field field : proxyClass.getDeclaredFields()) {
+			
+			if(!Modifier.isStatic(field.getModifiers())) fields.add(field.getName());
+		}
+		
+		assertEquals(fields, new HashSet<>(Arrays.asList("original", "pac")));
+	}
+	
+	@Test
+	public void protect() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.useInterfaceProxy(TestClass.class);
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestClass.class)
+				.defaultDeny()
+				.property("name")
+					.grantFor("OWNER");
+		
+		int constructed = TestClassParent.CONSTRUCTED.get();
+		
+		TestInterface owner = agent.protect((TestInterface) new TestClass("name"), "OWNER");
+		TestInterface friend = agent.protect((TestInterface) new TestClass("name"), "FRIEND");
+		
+		assertEquals(TestClassParent.CONSTRUCTED.get(), constructed + 2);
+		
+		assertFalse(owner instanceof TestClass);
+		assertEquals(owner.getClass().getSuperclass(), Object.class);
+		assertEquals(owner.getName(), "name");
+		assertThrows(AccessException.class, ()-> friend.getName());
+		assertThrows(AccessException.class, ()-> ((ParentInterface) owner).getParentName());
+	}
+	
+	@Test
+	public void useInterfaceProxy_AfterProtect() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.protect(new TestClass("name"), "OWNER");
+		
+		assertThrows(ProxyAlreadyCreatedException.class, ()-> agent.useInterfaceProxy(TestClass.class));
+		assertFalse(agent.isInterfaceProxyType(TestClass.class));
+	}
+	
+	@Test
+	public void create_WithoutInterfaces() {
+		
+		assertFalse(InterfaceProxyWrapper.isApplicable(NoInterfaceClass.class));
+		assertTrue(ProxyWrapper.create(NoInterfaceClass.class, ProxyMode.DIRECT, true) instanceof SubclassProxyWrapper);
+		assertTrue(ProxyWrapper.create(TestClass.class, ProxyMode.DIRECT, true) instanceof InterfaceProxyWrapper);
+	}
+	
+	public static class TestClass extends TestClassParent implements TestInterface {
+		
+		private String name;
+		
+		public TestClass() {
+		
+		}
+		
+		public TestClass(String name) {
+			
+			this.name = name;
+		}
+		
+		@Override
+		public String getName() {
+			
+			return this.name;
+		}
+	}
+	
+	public static interface TestInterface {
+		
+		public String getName();
+	}
+	
+	public static class TestClassParent implements ParentInterface {
+		
+		public static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+		
+		private long[] payload = new long[16];
+		
+		public TestClassParent() {
+			
+			CONSTRUCTED.incrementAndGet();
+		}
+		
+		@Override
+		public String getParentName() {
+			
+			return "parent"+payload.length;
+		}
+	}
+	
+	public static interface ParentInterface {
+		
+		public String getParentName();
+	}
+	
+	public static class NoInterfaceClass {}
+}
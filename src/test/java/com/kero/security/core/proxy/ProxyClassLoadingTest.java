@@ -0,0 +1,158 @@
+package com.kero.security.core.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProxyClassLoadingTest {
+
+	@Test
+	public void load_TargetLoader() {
+		
+		Class<?> proxyClass = new SubclassProxyWrapper(TestClass.class).createProxyClass();
+		
+		assertEquals(proxyClass.getClassLoader(), TestClass.class.getClassLoader());
+		assertEquals(proxyClass.getPackage().getName(), TestClass.class.getPackage().getName());
+		assertTrue(proxyClass.getName().startsWith(TestClass.class.getName()+ProxyClassLoading.PROXY_SUFFIX));
+	}
+	
+	@Test
+	public void load_BootstrapTarget() {
+		
+		Class<?> proxyClass = new SubclassProxyWrapper(ArrayList.class).createProxyClass();
+		
+		assertEquals(proxyClass.getSuperclass(), ArrayList.class);
+		assertEquals(proxyClass.getClassLoader(), ProxyClassLoading.class.getClassLoader());
+		assertTrue(proxyClass.getName().startsWith(ProxyClassLoading.class.getPackage().getName()+".ArrayList"+ProxyClassLoading.PROXY_SUFFIX));
+	}
+	
+	@Test
+	public void load_IsolatedLoader() throws Exception {
+		
+		ClassLoader isolated = new IsolatedClassLoader();
+		Class<?> targetClass = isolated.loadClass(TestClass.class.getName());
+		
+		Class<?> proxyClass = new SubclassProxyWrapper(targetClass).createProxyClass();
+		
+		assertNotEquals(proxyClass.getClassLoader(), isolated);
+		assertTrue(targetClass.isAssignableFrom(proxyClass));
+		assertTrue(AccessProxy.class.isAssignableFrom(proxyClass));
+	}
+	
+	@Test
+	public void load_Unloading() throws Exception {
+		
+		WeakReference<ClassLoader> loader = defineIsolatedProxy();
+		
+		for(int i = 0; i < 50 && loader.get() != null; i++) {
+			
+			System.gc();
+			Thread.sleep(20);
+		}
+		
+		assertNull(loader.get());
+	}
+	
+	@Test
+	public void load_UnloadingAfterProtect() throws Exception {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		WeakReference<ClassLoader> loader = protectIsolated(agent);
+		
+		for(int i = 0; i < 50 && loader.get() != null; i++) {
+			
+			System.gc();
+			Thread.sleep(20);
+		}
+		
+		assertNull(loader.get());
+		assertNotNull(agent.getOrCreateScheme(TestClass.class));
+	}
+	
+	private WeakReference<ClassLoader> protectIsolated(KeroAccessAgent agent) throws Exception {
+		
+		ClassLoader isolated = new IsolatedClassLoader();
+		Class<?> targetClass = isolated.loadClass(TestClass.class.getName());
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(targetClass)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER");
+		
+		Object protectedObject = agent.protect(targetClass.newInstance(), "OWNER");
+		
+		assertEquals(protectedObject.getClass().getMethod("getText").invoke(protectedObject), "text");
+		
+		return new WeakReference<>(isolated);
+	}
+	
+	private WeakReference<ClassLoader> defineIsolatedProxy() throws Exception {
+		
+		ClassLoader isolated = new IsolatedClassLoader();
+		
+		new SubclassProxyWrapper(isolated.loadClass(TestClass.class.getName()), ProxyMode.REFLECTIVE).createProxyClass();
+		
+		return new WeakReference<>(isolated);
+	}
+	
+	public static class TestClass {
+		
+		public String getText() {
+			
+			return "text";
+		}
+	}
+	
+	private static class IsolatedClassLoader extends ClassLoader {
+		
+		public IsolatedClassLoader() {
+			super(null);
+		
+		}
+		
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			
+			if(!name.startsWith(ProxyClassLoadingTest.class.getName())) throw new ClassNotFoundException(name);
+			
+			try(InputStream in = ProxyClassLoadingTest.class.getClassLoader().getResourceAsStream(name.replace('.', '/')+".class")) {
+				
+				if(in == null) throw new ClassNotFoundException(name);
+				
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				
+				byte[] buffer = new byte[4096];
+				int read;
+				
+				while((read = in.read(buffer)) != -1) {
+					
+					out.write(buffer, 0, read);
+				}
+				
+				byte[] bytes = out.toByteArray();
+				
+				return defineClass(name, bytes, 0, bytes.length);
+			}
+			catch(IOException e) {
+				
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+}
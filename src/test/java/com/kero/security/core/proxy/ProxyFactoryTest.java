@@ -0,0 +1,45 @@
+package com.kero.security.core.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.proxy.exception.CreateProxyClassException;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class ProxyFactoryTest {
+
+	@Test
+	public void newInstance() {
+		
+		Class<?> proxyClass = new SubclassProxyWrapper(TestClass.class, ProxyMode.REFLECTIVE).createProxyClass();
+		
+		ProxyFactory factory = ProxyFactory.create(proxyClass);
+		
+		TestClass original = new TestClass();
+		PreparedAccessConfiguration pac = Mockito.mock(PreparedAccessConfiguration.class);
+		
+		Object proxy = factory.newInstance(original, pac);
+		
+		assertEquals(proxy.getClass(), proxyClass);
+		assertSame(((AccessProxy) proxy).getOriginal(), original);
+	}
+	
+	@Test
+	public void create_WithoutProxyConstructor() {
+		
+		assertThrows(CreateProxyClassException.class, ()-> ProxyFactory.create(TestClass.class));
+	}
+	
+	public static class TestClass {
+		
+		public String getText() {
+			
+			return "text";
+		}
+	}
+}
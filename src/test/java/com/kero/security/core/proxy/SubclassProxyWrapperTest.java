@@ -1,8 +1,20 @@
 package com.kero.security.core.proxy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.config.action.exceptions.ActionGrantMethodInvokeException;
 
 public class SubclassProxyWrapperTest {
 
@@ -16,5 +28,104 @@ public class SubclassProxyWrapperTest {
 		assertEquals(proxyClass.getSuperclass(), TestClass.class);
 	}
 	
-	public static class TestClass {}
+	@Test
+	public void createProxyClass_Reflective() {
+		
+		SubclassProxyWrapper wrapper = new SubclassProxyWrapper(TestClass.class, ProxyMode.REFLECTIVE);
+		
+		Class<?> proxyClass = wrapper.createProxyClass();
+		
+		assertEquals(proxyClass.getSuperclass(), TestClass.class);
+		assertThrows(NoSuchFieldException.class, ()-> proxyClass.getDeclaredField("actions"));
+	}
+	
+	@Test
+	public void wrap_DirectCall() {
+		
+		ActionGrant grant = Mockito.mock(ActionGrant.class);
+		Mockito.when(grant.protect(Mockito.any())).thenAnswer((invocation)-> invocation.getArguments()[0]);
+		
+		Action deny = Mockito.mock(Action.class);
+		Mockito.when(deny.process(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("denied");
+		
+		PreparedAccessConfiguration pac = Mockito.mock(PreparedAccessConfiguration.class);
+		Mockito.when(pac.getActions(Mockito.any(Method[].class))).thenAnswer((invocation)-> {
+			
+			Method[] methods = (Method[]) invocation.getArguments()[0];
+			Action[] actions = new Action[methods.length];
+			
+			for(int i = 0; i < methods.length; i++) {
+				
+				actions[i] = methods[i].getName().equals("getName") ? deny : grant;
+			}
+			
+			return actions;
+		});
+		
+		SubclassProxyWrapper wrapper = new SubclassProxyWrapper(TestClass.class, ProxyMode.DIRECT);
+		
+		TestClass proxy = (TestClass) wrapper.wrap(new TestClass(), pac);
+		
+		assertEquals(proxy.getAge(), 18);
+		assertEquals(proxy.getText("a", 2L), "a2");
+		assertEquals(proxy.getName(), "denied");
+		
+		Mockito.verify(grant, Mockito.never()).process(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(grant, Mockito.times(1)).protect("a2");
+		Mockito.verify(deny, Mockito.times(1)).process(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+	
+	@Test
+	public void wrap_OriginalFailure_SameInAllModes() {
+		
+		for(ProxyMode mode : ProxyMode.values()) {
+			
+			KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+				agent.setProxyMode(mode);
+			
+			agent.getKeroAccessConfigurator()
+				.scheme(FailingClass.class)
+					.defaultGrant();
+			
+			FailingClass proxy = agent.protect(new FailingClass(), "OWNER");
+			
+			ActionGrantMethodInvokeException text = assertThrows(ActionGrantMethodInvokeException.class, ()-> proxy.getText());
+			ActionGrantMethodInvokeException age = assertThrows(ActionGrantMethodInvokeException.class, ()-> proxy.getAge());
+			
+			assertEquals(text.getCause().getClass(), InvocationTargetException.class);
+			assertEquals(text.getCause().getCause().getMessage(), "text");
+			assertEquals(age.getCause().getCause().getMessage(), "age");
+		}
+	}
+	
+	public static class FailingClass {
+		
+		public String getText() {
+			
+			throw new IllegalStateException("text");
+		}
+		
+		public int getAge() {
+			
+			throw new IllegalStateException("age");
+		}
+	}
+	
+	public static class TestClass {
+		
+		public int getAge() {
+			
+			return 18;
+		}
+		
+		public String getName() {
+			
+			return "name";
+		}
+		
+		public String getText(String prefix, long suffix) {
+			
+			return prefix + suffix;
+		}
+	}
 }
@@ -0,0 +1,90 @@
+package com.kero.security.core.proxy.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+
+public class WeakIdentityProxyInstanceCacheTest {
+
+	@Test
+	public void get_SameOriginalAndConfiguration() {
+		
+		ProxyInstanceCache cache = new WeakIdentityProxyInstanceCache();
+		
+		PreparedAccessConfiguration pac = Mockito.mock(PreparedAccessConfiguration.class);
+		Object original = new Object();
+		AtomicInteger created = new AtomicInteger();
+		
+		Object first = cache.get(original, pac, (obj, config)-> { created.incrementAndGet(); return new Object(); });
+		Object second = cache.get(original, pac, (obj, config)-> { created.incrementAndGet(); return new Object(); });
+		
+		assertSame(first, second);
+		assertEquals(created.get(), 1);
+		assertEquals(cache.size(), 1);
+	}
+	
+	@Test
+	public void get_IdentityKeys() {
+		
+		ProxyInstanceCache cache = new WeakIdentityProxyInstanceCache(true);
+		
+		PreparedAccessConfiguration pac1 = Mockito.mock(PreparedAccessConfiguration.class);
+		PreparedAccessConfiguration pac2 = Mockito.mock(PreparedAccessConfiguration.class);
+		
+		String original = new String("text");
+		String equalOriginal = new String("text");
+		
+		Object proxy = cache.get(original, pac1, (obj, config)-> new Object());
+		
+		assertNotSame(proxy, cache.get(equalOriginal, pac1, (obj, config)-> new Object()));
+		assertNotSame(proxy, cache.get(original, pac2, (obj, config)-> new Object()));
+		assertEquals(cache.size(), 3);
+		
+		cache.clear();
+		
+		assertEquals(cache.size(), 0);
+	}
+	
+	@Test
+	public void protect_StableProxy() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+			agent.setProxyInstanceCacheFactory(ProxyInstanceCache::create);
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultGrant();
+		
+		TestObject original = new TestObject("text");
+		
+		TestObject proxy = agent.protect(original, "OWNER");
+		
+		assertSame(proxy, agent.protect(original, "OWNER"));
+		assertNotSame(proxy, agent.protect(new TestObject("text"), "OWNER"));
+		assertEquals(proxy.getText(), "text");
+	}
+	
+	@Test
+	public void protect_Disabled() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultGrant();
+		
+		TestObject original = new TestObject("text");
+		
+		assertNotSame(agent.protect(original, "OWNER"), agent.protect(original, "OWNER"));
+	}
+}
@@ -0,0 +1,176 @@
+package com.kero.security.core.proxy.precompiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.kero.security.core.access.annotations.DefaultDeny;
+import com.kero.security.core.config.PreparedAccessConfiguration;
+import com.kero.security.core.config.action.Action;
+import com.kero.security.core.config.action.ActionGrant;
+import com.kero.security.core.proxy.ProxyMode;
+import com.kero.security.core.scheme.AccessProxy;
+
+public class KeroProxyPrecompilerTest {
+
+	private Path classesDir;
+	
+	@BeforeEach
+	public void createDirectory() throws IOException {
+		
+		this.classesDir = Files.createTempDirectory("kero-precompiled");
+	}
+	
+	@AfterEach
+	public void deleteDirectory() throws IOException {
+		
+		try(Stream<Path> paths = Files.walk(this.classesDir)) {
+			
+			for(Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+				
+				Files.delete(path);
+			}
+		}
+	}
+	
+	@Test
+	public void precompile() throws Exception {
+		
+		copyClass(AnnotatedClass.class, classesDir);
+		copyClass(PlainClass.class, classesDir);
+		
+		try(URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, getClass().getClassLoader())) {
+			
+			new KeroProxyPrecompiler(classesDir.toFile(), classLoader).run();
+			
+			PrecompiledProxyRegistry registry = PrecompiledProxyRegistry.get(classLoader);
+			
+			assertTrue(registry.getSchemeTypeNames().contains(AnnotatedClass.class.getName()));
+			assertTrue(!registry.getSchemeTypeNames().contains(PlainClass.class.getName()));
+			assertNull(registry.find(PlainClass.class, ProxyMode.DIRECT));
+			assertNull(registry.find(AnnotatedClass.class, ProxyMode.REFLECTIVE));
+			
+			PrecompiledProxyRegistry.Entry entry = registry.find(AnnotatedClass.class, ProxyMode.DIRECT);
+			
+			assertNotNull(entry);
+			
+			ActionGrant grant = Mockito.mock(ActionGrant.class);
+			Mockito.when(grant.protect(Mockito.any())).thenAnswer((invocation)-> invocation.getArguments()[0]);
+			
+			PreparedAccessConfiguration pac = mockConfiguration(grant);
+			
+			AnnotatedClass original = new AnnotatedClass();
+			
+			PrecompiledProxyWrapper wrapper = new PrecompiledProxyWrapper(AnnotatedClass.class, entry, classLoader);
+			
+			assertTrue(wrapper.isPrecompiledUsable());
+			
+			AnnotatedClass proxy = (AnnotatedClass) wrapper.wrap(original, pac);
+			
+			assertSame(proxy.getClass().getClassLoader(), classLoader);
+			assertEquals(proxy.getClass().getName(), entry.getProxyClassName());
+			assertSame(((AccessProxy) proxy).getOriginal(), original);
+			assertEquals(proxy.getText(), "text");
+			
+			Mockito.verify(grant, Mockito.times(1)).protect("text");
+		}
+	}
+	
+	@Test
+	public void precompile_SlotsMismatch() throws Exception {
+		
+		copyClass(AnnotatedClass.class, classesDir);
+		
+		try(URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, getClass().getClassLoader())) {
+			
+			new KeroProxyPrecompiler(classesDir.toFile(), classLoader).run();
+			
+			PrecompiledProxyRegistry.Entry entry = PrecompiledProxyRegistry.get(classLoader).find(AnnotatedClass.class, ProxyMode.DIRECT);
+			PrecompiledProxyRegistry.Entry stale = new PrecompiledProxyRegistry.Entry(entry.getMode(), entry.getProxyClassName(), entry.getFactoryClassName(), "stale");
+			
+			ActionGrant grant = Mockito.mock(ActionGrant.class);
+			Mockito.when(grant.protect(Mockito.any())).thenAnswer((invocation)-> invocation.getArguments()[0]);
+			
+			PrecompiledProxyWrapper wrapper = new PrecompiledProxyWrapper(AnnotatedClass.class, stale, classLoader);
+			
+			assertFalse(wrapper.isPrecompiledUsable());
+			
+			AnnotatedClass proxy = (AnnotatedClass) wrapper.wrap(new AnnotatedClass(), mockConfiguration(grant));
+			
+			assertNotEquals(proxy.getClass().getName(), entry.getProxyClassName());
+			assertEquals(proxy.getText(), "text");
+			
+			Mockito.verify(grant, Mockito.times(1)).protect("text");
+		}
+	}
+	
+	private PreparedAccessConfiguration mockConfiguration(Action action) {
+		
+		PreparedAccessConfiguration pac = Mockito.mock(PreparedAccessConfiguration.class);
+		Mockito.when(pac.getAction(Mockito.any(Method.class))).thenReturn(action);
+		Mockito.when(pac.getActions(Mockito.any(Method[].class))).thenAnswer((invocation)-> {
+			
+			Method[] methods = (Method[]) invocation.getArguments()[0];
+			Action[] actions = new Action[methods.length];
+			
+			for(int i = 0; i < methods.length; i++) {
+				
+				actions[i] = action;
+			}
+			
+			return actions;
+		});
+		
+		return pac;
+	}
+	
+	private void copyClass(Class<?> type, Path classesDir) throws Exception {
+		
+		String resource = type.getName().replace('.', '/')+".class";
+		
+		File target = classesDir.resolve(resource).toFile();
+		target.getParentFile().mkdirs();
+		
+		try(InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+			
+			Files.copy(in, target.toPath());
+		}
+	}
+	
+	@DefaultDeny
+	public static class AnnotatedClass {
+		
+		public String getText() {
+			
+			return "text";
+		}
+	}
+	
+	public static class PlainClass {
+		
+		public String getText() {
+			
+			return "text";
+		}
+	}
+}
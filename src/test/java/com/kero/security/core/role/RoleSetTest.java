@@ -0,0 +1,146 @@
+package com.kero.security.core.role;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.role.storage.RoleStorage;
+
+public class RoleSetTest {
+
+	@Test
+	public void getOrCreate_DenseIds() {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		assertEquals(storage.getOrCreate("A").getId(), 0);
+		assertEquals(storage.getOrCreate("B").getId(), 1);
+		assertEquals(storage.getOrCreate("A").getId(), 0);
+		assertEquals(storage.create("A").getId(), 0);
+	}
+	
+	@Test
+	public void toRoleSet_Interned() {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		RoleSet first = storage.getOrCreate(new String[] {"OWNER", "FRIEND"});
+		RoleSet second = storage.getOrCreate(new String[] {"FRIEND", "OWNER", "OWNER"});
+		RoleSet third = storage.toRoleSet(Arrays.asList(new RoleImpl("OWNER"), new RoleImpl("FRIEND")));
+		
+		assertSame(first, second);
+		assertSame(first, third);
+		assertSame(storage.toRoleSet(first), first);
+		assertEquals(first.size(), 2);
+	}
+	
+	@Test
+	public void equalsAndHashCode_CompatibleWithSet() {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		RoleSet roles = storage.getOrCreate(new String[] {"OWNER", "FRIEND"});
+		
+		Set<Role> hashSet = new HashSet<>(Arrays.asList(new RoleImpl("OWNER"), new RoleImpl("FRIEND")));
+		
+		assertEquals(roles, hashSet);
+		assertEquals(hashSet, roles);
+		assertEquals(roles.hashCode(), hashSet.hashCode());
+		assertTrue(roles.contains(new RoleImpl("OWNER")));
+		assertFalse(roles.contains(new RoleImpl("GUEST")));
+	}
+	
+	@Test
+	public void bitOperations() {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		for(int i = 0; i < 100; i++) {
+			
+			storage.getOrCreate("ROLE"+i);
+		}
+		
+		RoleSet roles = storage.getOrCreate(new String[] {"ROLE1", "ROLE70", "ROLE99"});
+		RoleSet other = storage.getOrCreate(new String[] {"ROLE70", "ROLE2"});
+		
+		assertTrue(roles.intersects(other));
+		assertFalse(roles.intersects(storage.getOrCreate(new String[] {"ROLE2"})));
+		assertEquals(roles.countCommon(other), 1);
+		assertEquals(roles.countCommon(new HashSet<>(other)), 1);
+		
+		RoleSet remaining = roles.without(other);
+		
+		assertEquals(remaining, storage.getOrCreate(new String[] {"ROLE1", "ROLE99"}));
+		assertSame(roles.without(storage.getOrCreate(new String[] {"ROLE3"})), roles);
+		assertSame(roles.without(roles), RoleSet.EMPTY);
+	}
+	
+	@Test
+	public void toRoleSet_WeaklyInterned() throws Exception {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		WeakReference<RoleSet> roles = new WeakReference<>(storage.getOrCreate(new String[] {"OWNER", "FRIEND"}));
+		
+		for(int i = 0; i < 50 && roles.get() != null; i++) {
+			
+			System.gc();
+			Thread.sleep(20);
+		}
+		
+		assertNull(roles.get());
+		assertEquals(storage.getOrCreate(new String[] {"OWNER", "FRIEND"}).size(), 2);
+	}
+	
+	@Test
+	public void without_RoleWithoutId() {
+		
+		RoleStorage storage = RoleStorage.create();
+		
+		RoleSet roles = storage.getOrCreate(new String[] {"OWNER", "FRIEND"});
+		
+		Set<Role> owner = new HashSet<>(Arrays.asList(new RoleImpl("OWNER")));
+		
+		assertTrue(roles.contains(new RoleImpl("OWNER")));
+		assertTrue(roles.intersects(owner));
+		assertEquals(roles.countCommon(owner), 1);
+		assertEquals(roles.without(owner), storage.getOrCreate(new String[] {"FRIEND"}));
+		assertSame(roles.without(new HashSet<>(Arrays.asList(new RoleImpl("GUEST")))), roles);
+	}
+	
+	@Test
+	public void foreignRoles_SameId() {
+		
+		RoleStorage storage = RoleStorage.create();
+		RoleStorage foreign = RoleStorage.create();
+		
+		RoleSet roles = storage.getOrCreate(new String[] {"OWNER", "FRIEND"});
+		RoleSet intruders = foreign.getOrCreate(new String[] {"ADMIN", "GUEST"});
+		
+		assertEquals(intruders.iterator().next().getId(), roles.iterator().next().getId());
+		
+		assertFalse(roles.contains(foreign.getOrCreate("ADMIN")));
+		assertFalse(roles.contains(new RoleImpl("ADMIN", storage.getOrCreate("OWNER").getId())));
+		assertFalse(roles.intersects(intruders));
+		assertFalse(roles.intersects(new HashSet<>(intruders)));
+		assertEquals(roles.countCommon(intruders), 0);
+		assertSame(roles.without(intruders), roles);
+		assertSame(roles.without(new HashSet<>(intruders)), roles);
+	}
+	
+	@Test
+	public void of_RoleWithoutId() {
+		
+		assertThrows(IllegalArgumentException.class, ()-> RoleSet.of(Arrays.asList(new RoleImpl("OWNER"))));
+	}
+}
@@ -0,0 +1,95 @@
+package com.kero.security.core.scheme;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.TestObject;
+import com.kero.security.core.TestObject2;
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.property.CompiledProperty;
+import com.kero.security.core.property.Property;
+import com.kero.security.core.role.Role;
+
+public class CompiledSchemeTest {
+
+	@Test
+	public void compile_ReusedUntilConfigurationChanged() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.properties("text")
+					.grantFor("OWNER");
+		
+		ClassAccessScheme scheme = (ClassAccessScheme) agent.getOrCreateScheme(TestObject2.class);
+		
+		scheme.compile();
+		
+		CompiledScheme compiled = scheme.compile();
+		
+		assertSame(scheme.compile(), compiled);
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.properties("text")
+					.grantFor("FRIEND");
+		
+		assertNotSame(scheme.compile(), compiled);
+	}
+	
+	@Test
+	public void compile_MatchesPropertyResolution() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject.class)
+				.defaultDeny()
+				.property("text")
+					.grantFor("OWNER", "FRIEND")
+					.denyFor("GUEST")
+					.propagateRole("OWNER", "FRIEND");
+		
+		agent.getKeroAccessConfigurator()
+			.scheme(TestObject2.class)
+				.property("text")
+					.denyFor("FRIEND")
+					.propagateRole("ADMIN", "OWNER");
+		
+		ClassAccessScheme scheme = (ClassAccessScheme) agent.getOrCreateScheme(TestObject2.class);
+		
+		Property property = scheme.getLocalProperty("text");
+		CompiledProperty compiled = property.compile();
+		
+		List<String[]> combinations = Arrays.asList(
+				new String[] {"OWNER"},
+				new String[] {"FRIEND"},
+				new String[] {"GUEST"},
+				new String[] {"ADMIN"},
+				new String[] {"OWNER", "GUEST"},
+				new String[] {"FRIEND", "ADMIN"},
+				new String[] {"OTHER"}
+			);
+		
+		for(String[] names : combinations) {
+			
+			Set<Role> roleSet = agent.getOrCreateRole(names);
+			Set<Role> hashSet = new HashSet<>(roleSet);
+			
+			assertEquals(compiled.accessible(roleSet), property.accessible(hashSet), Arrays.toString(names));
+			assertEquals(compiled.accessible(hashSet), property.accessible(hashSet), Arrays.toString(names));
+			assertEquals(compiled.propagateRoles(hashSet), property.propagateRoles(hashSet), Arrays.toString(names));
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.kero.security.core.scheme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.kero.security.core.agent.KeroAccessAgent;
+import com.kero.security.core.agent.KeroAccessAgentFactoryImpl;
+import com.kero.security.core.agent.KeroAccessAgentImpl;
+import com.kero.security.core.scheme.AccessScheme;
+
+public class AccessSchemeStorageImplTest {
+
+	@Test
+	public void getByName() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		AccessScheme scheme = agent.getOrCreateScheme(TestClass.class);
+		
+		assertSame(agent.getSchemeByName("TestClass"), scheme);
+		assertSame(agent.getSchemeByName("Unknown"), AccessScheme.EMPTY);
+		
+		agent.getSchemeStorage().remove(TestClass.class);
+		
+		assertSame(agent.getSchemeByName("TestClass"), AccessScheme.EMPTY);
+	}
+	
+	@Test
+	public void duplicateName() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		AccessScheme first = agent.getOrCreateScheme(TestClass.class);
+		AccessScheme other = agent.getOrCreateScheme(Other.TestClass.class);
+		
+		assertTrue(agent.getSchemeStorage().isAmbiguous("TestClass"));
+		assertSame(agent.getSchemeByName("TestClass"), first);
+		
+		agent.getSchemeStorage().remove(TestClass.class);
+		
+		assertFalse(agent.getSchemeStorage().isAmbiguous("TestClass"));
+		assertSame(agent.getSchemeByName("TestClass"), other);
+	}
+	
+	@Test
+	public void replace() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		agent.getOrCreateScheme(TestClass.class);
+		AccessScheme created = ((KeroAccessAgentImpl) agent).createScheme(TestClass.class);
+		
+		assertFalse(agent.getSchemeStorage().isAmbiguous("TestClass"));
+		assertSame(agent.getSchemeByName("TestClass"), created);
+	}
+	
+	@Test
+	public void mutatorsKeepNameIndex() {
+		
+		KeroAccessAgent agent = new KeroAccessAgentFactoryImpl().create();
+		
+		AccessSchemeStorage storage = agent.getSchemeStorage();
+		
+		AccessScheme scheme = agent.getOrCreateScheme(TestClass.class);
+		AccessScheme other = agent.getOrCreateScheme(Other.TestClass.class);
+		
+		storage.keySet().remove(Other.TestClass.class);
+		
+		assertSame(agent.getSchemeByName("TestClass"), scheme);
+		
+		storage.values().removeIf((present)-> present == scheme);
+		
+		assertSame(agent.getSchemeByName("TestClass"), AccessScheme.EMPTY);
+		
+		storage.putAll(Collections.singletonMap(Other.TestClass.class, other));
+		
+		assertSame(agent.getSchemeByName("TestClass"), other);
+		
+		storage.compute(Other.TestClass.class, (type, present)-> null);
+		
+		assertSame(agent.getSchemeByName("TestClass"), AccessScheme.EMPTY);
+		
+		storage.merge(TestClass.class, scheme, (present, value)-> value);
+		storage.replace(TestClass.class, scheme, other);
+		
+		assertSame(agent.getSchemeByName("TestClass"), other);
+		
+		Iterator<Map.Entry<Class<?>, AccessScheme>> iterator = storage.entrySet().iterator();
+		
+		while(iterator.hasNext()) {
+			
+			iterator.next();
+			iterator.remove();
+		}
+		
+		assertTrue(storage.isEmpty());
+		assertSame(agent.getSchemeByName("TestClass"), AccessScheme.EMPTY);
+	}
+	
+	public static class TestClass {}
+	
+	public static class Other {
+		
+		public static class TestClass {}
+	}
+}